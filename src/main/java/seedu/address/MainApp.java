@@ -21,6 +21,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.UndoRedoStack;
 import seedu.address.model.DataBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -34,6 +35,7 @@ import seedu.address.model.schedule.Schedule;
 import seedu.address.statistic.Statistic;
 import seedu.address.statistic.StatisticManager;
 import seedu.address.storage.CustomerBookStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonCustomerBookStorage;
 import seedu.address.storage.JsonOrderBookStorage;
 import seedu.address.storage.JsonPhoneBookStorage;
@@ -45,6 +47,7 @@ import seedu.address.storage.ScheduleBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -81,19 +84,21 @@ public class MainApp extends Application {
         OrderBookStorage orderBookStorage = new JsonOrderBookStorage(userPrefs.getOrderBookFilePath());
 
         OrderBookStorage archivedOrderBookStorage = new JsonOrderBookStorage(userPrefs.getArchivedOrderBookFilePath());
-        storage = new StorageManager(customerBookStorage, phoneBookStorage, scheduleBookStorage,
-                orderBookStorage, archivedOrderBookStorage, userPrefsStorage);
+        storage = new WriteBehindStorage(new JournalStorage(new StorageManager(customerBookStorage, phoneBookStorage,
+                scheduleBookStorage, orderBookStorage, archivedOrderBookStorage, userPrefsStorage)));
 
         initLogging(config);
-        //create statistic manager;
-        statistic = new StatisticManager();
         model = initModelManager(storage, userPrefs);
+        //create statistic manager that keeps the statistics of the archived orders up to date;
+        statistic = new StatisticManager(model.getArchivedOrderBook().getList());
         storage.saveCustomerBook(model.getCustomerBook());
         storage.savePhoneBook(model.getPhoneBook());
         storage.saveScheduleBook(model.getScheduleBook());
         storage.saveOrderBook(model.getOrderBook());
         storage.saveArchivedOrderBook(model.getArchivedOrderBook());
-        logic = new LogicManager(model, storage, statistic);
+        model.markBooksSaved();
+        logic = new LogicManager(model, storage, statistic,
+                new UndoRedoStack(config.getUndoHistoryDepth(), config.getUndoHistoryChangeLimit()));
         ui = new UiManager(logic);
     }
 
@@ -286,6 +291,13 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        // the prefs file is read field by field, so its meetup duration has not been checked yet
+        if (!UserPrefs.isValidMeetupDuration(initializedPrefs.getMeetupDuration())) {
+            logger.warning("UserPrefs file at " + prefsFilePath + " has an invalid meetup duration. "
+                    + "Using the default meetup duration");
+            initializedPrefs.setMeetupDuration(UserPrefs.DEFAULT_MEETUP_DURATION);
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -310,5 +322,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
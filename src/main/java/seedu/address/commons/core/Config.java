@@ -15,6 +15,8 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int undoHistoryDepth = 100;
+    private int undoHistoryChangeLimit = 200000;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +34,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getUndoHistoryChangeLimit() {
+        return undoHistoryChangeLimit;
+    }
+
+    public void setUndoHistoryChangeLimit(int undoHistoryChangeLimit) {
+        this.undoHistoryChangeLimit = undoHistoryChangeLimit;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +62,14 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoHistoryDepth == o.undoHistoryDepth
+                && undoHistoryChangeLimit == o.undoHistoryChangeLimit;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, undoHistoryDepth, undoHistoryChangeLimit);
     }
 
     @Override
@@ -57,6 +77,8 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo history change limit : " + undoHistoryChangeLimit);
         return sb.toString();
     }
 
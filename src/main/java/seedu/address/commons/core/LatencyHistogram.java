@@ -0,0 +1,82 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts latencies in buckets that are at most an eighth of their lower bound wide, so that percentiles such as
+ * the median and the 99th percentile can be read off with that precision without keeping every latency.
+ * Latencies are recorded in microseconds, up to about 25 days.
+ */
+public class LatencyHistogram {
+
+    // each power of two from 8 microseconds on is split into this many buckets
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int MAX_POWER = 40;
+
+    private final long[] counts = new long[(MAX_POWER - SUB_BUCKET_BITS + 2) * SUB_BUCKETS];
+    private long count;
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds.
+     */
+    public synchronized void record(long nanos) {
+        long micros = Math.max(0, TimeUnit.NANOSECONDS.toMicros(nanos));
+        counts[Math.min(getBucket(micros), counts.length - 1)]++;
+        count++;
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the latency in microseconds that {@code percentile} percent of the recorded latencies are at most,
+     * rounded up to the end of its bucket, or 0 if no latency has been recorded.
+     */
+    public synchronized long getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile should be from 0 to 100");
+        long rank = (long) Math.ceil(percentile / 100 * count);
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank && seen > 0) {
+                return getLastValue(bucket);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the bucket that counts a latency of {@code micros} microseconds.
+     */
+    private static int getBucket(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int power = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >> (power - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (power - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest latency in microseconds that {@code bucket} counts.
+     */
+    private static long getLastValue(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int power = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (power - SUB_BUCKET_BITS)) - 1;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("p50 %.1f ms, p99 %.1f ms over %d", getPercentile(50) / 1000.0,
+                getPercentile(99) / 1000.0, count);
+    }
+
+}
@@ -76,6 +76,11 @@ public interface Logic {
      */
     void setGuiSettings(GuiSettings guiSettings);
 
+    /**
+     * Returns the user prefs' meetup duration, in minutes.
+     */
+    int getMeetupDuration();
+
     /**
      * Gets logic to calculate total profit based on user input
      */
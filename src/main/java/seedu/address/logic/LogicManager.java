@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -40,15 +41,20 @@ public class LogicManager implements Logic {
     private final CommandHistory commandHistory;
     private final UndoRedoStack undoRedoStack;
     private final AutoCompleteResultGenerator autoCompleteResultGenerator;
+    private CompletableFuture<Long> bytesWrittenByLastCommand = CompletableFuture.completedFuture(0L);
 
     public LogicManager(Model model, Storage storage, Statistic statistic) {
+        this(model, storage, statistic, new UndoRedoStack());
+    }
+
+    public LogicManager(Model model, Storage storage, Statistic statistic, UndoRedoStack undoRedoStack) {
         this.model = model;
         this.storage = storage;
         this.statistic = statistic;
+        this.undoRedoStack = undoRedoStack;
         autoCompleteResultGenerator = new AutoCompleteResultGenerator(model);
         sellerManagerParser = new SellerManagerParser();
         commandHistory = new CommandHistory();
-        undoRedoStack = new UndoRedoStack();
     }
 
     @Override
@@ -64,11 +70,7 @@ public class LogicManager implements Logic {
             logger.info("----------------[COMMAND][" + command + "]");
 
             commandResult = command.execute(model, commandHistory, undoRedoStack);
-            storage.saveCustomerBook(model.getCustomerBook());
-            storage.savePhoneBook(model.getPhoneBook());
-            storage.saveScheduleBook(model.getScheduleBook());
-            storage.saveOrderBook(model.getOrderBook());
-            storage.saveArchivedOrderBook(model.getArchivedOrderBook());
+            saveModifiedBooks();
             commandHistory.add(commandText);
             undoRedoStack.push(command);
 
@@ -83,6 +85,40 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves only the books that have been modified since they were last saved,
+     * so that commands which do not modify any book cause no disk writes.
+     */
+    private void saveModifiedBooks() throws IOException {
+        if (model.isCustomerBookModified()) {
+            storage.saveCustomerBook(model.getCustomerBook());
+        }
+        if (model.isPhoneBookModified()) {
+            storage.savePhoneBook(model.getPhoneBook());
+        }
+        if (model.isScheduleBookModified()) {
+            storage.saveScheduleBook(model.getScheduleBook());
+        }
+        if (model.isOrderBookModified()) {
+            storage.saveOrderBook(model.getOrderBook());
+        }
+        if (model.isArchivedOrderBookModified()) {
+            storage.saveArchivedOrderBook(model.getArchivedOrderBook());
+        }
+        model.markBooksSaved();
+
+        bytesWrittenByLastCommand = storage.getBytesWrittenBySaves();
+        bytesWrittenByLastCommand.thenAccept(bytes -> logger.fine("Saved " + bytes + " bytes of data"));
+    }
+
+    /**
+     * Returns the number of bytes of data written to save the books the last command modified, which is known
+     * once {@code storage} has written them.
+     */
+    public CompletableFuture<Long> getBytesWrittenByLastCommand() {
+        return bytesWrittenByLastCommand;
+    }
+
     @Override
     public ReadOnlyDataBook<Order> getOrderBook() {
         return model.getOrderBook();
@@ -132,6 +168,11 @@ public class LogicManager implements Logic {
         model.setGuiSettings(guiSettings);
     }
 
+    @Override
+    public int getMeetupDuration() {
+        return model.getUserPrefs().getMeetupDuration();
+    }
+
     @Override
     public String calculateTotalProfit(StatsPayload statsPayload) {
         return this.statistic.calculateTotalProfitOnCompleted(this.getArchivedOrderBook(), statsPayload);
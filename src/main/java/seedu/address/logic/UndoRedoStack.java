@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.LinkedList;
 
 import seedu.address.logic.commands.Command;
@@ -10,20 +12,48 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Undo-redo Stack
  * Solution adapted from https://github.com/se-edu/addressbook-level4/pull/610/files with modifications / bug fixes
+ * The oldest commands are forgotten once the undo-stack holds more than {@code maxDepth} commands, or once
+ * the commands in it changed more than {@code maxChangeSize} elements in total.
  */
 public class UndoRedoStack {
 
+    public static final int DEFAULT_MAX_DEPTH = 100;
+    public static final int DEFAULT_MAX_CHANGE_SIZE = 200000;
+    public static final String MESSAGE_INVALID_LIMITS =
+            "Undo history depth must be positive and its change size limit must not be negative.";
+
     private LinkedList<UndoableCommand> undoStack;
     private LinkedList<UndoableCommand> redoStack;
+    private final int maxDepth;
+    private final int maxChangeSize;
+    // the total change size of the commands in the undo-stack
+    private int undoChangeSize;
 
     public UndoRedoStack() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MAX_CHANGE_SIZE);
+    }
+
+    /**
+     * Creates an empty {@code UndoRedoStack} that keeps at most {@code maxDepth} commands which together
+     * changed at most {@code maxChangeSize} elements. The latest command is always kept.
+     */
+    public UndoRedoStack(int maxDepth, int maxChangeSize) {
+        checkArgument(maxDepth > 0 && maxChangeSize >= 0, MESSAGE_INVALID_LIMITS);
         undoStack = new LinkedList<>();
         redoStack = new LinkedList<>();
+        this.maxDepth = maxDepth;
+        this.maxChangeSize = maxChangeSize;
     }
 
+    /**
+     * Creates a copy of {@code otherUndoRedoStack}, which changes independently of it.
+     */
     public UndoRedoStack(UndoRedoStack otherUndoRedoStack) {
-        undoStack = otherUndoRedoStack.undoStack;
-        redoStack = otherUndoRedoStack.redoStack;
+        undoStack = new LinkedList<>(otherUndoRedoStack.undoStack);
+        redoStack = new LinkedList<>(otherUndoRedoStack.redoStack);
+        maxDepth = otherUndoRedoStack.maxDepth;
+        maxChangeSize = otherUndoRedoStack.maxChangeSize;
+        undoChangeSize = otherUndoRedoStack.undoChangeSize;
     }
 
     /**
@@ -40,7 +70,20 @@ public class UndoRedoStack {
         }
 
 
-        undoStack.addFirst((UndoableCommand) command);
+        UndoableCommand undoableCommand = (UndoableCommand) command;
+        undoStack.addFirst(undoableCommand);
+        undoChangeSize += undoableCommand.getChangeSize();
+        trimUndoStack();
+    }
+
+    /**
+     * Forgets the oldest commands until the undo-stack is within its depth and change size limits,
+     * keeping at least the latest command.
+     */
+    private void trimUndoStack() {
+        while (undoStack.size() > 1 && (undoStack.size() > maxDepth || undoChangeSize > maxChangeSize)) {
+            undoChangeSize -= undoStack.removeLast().getChangeSize();
+        }
     }
 
     /**
@@ -48,6 +91,7 @@ public class UndoRedoStack {
      */
     public UndoableCommand popUndo() {
         UndoableCommand toUndo = undoStack.removeFirst();
+        undoChangeSize -= toUndo.getChangeSize();
         redoStack.addFirst(toUndo);
         return toUndo;
     }
@@ -58,6 +102,7 @@ public class UndoRedoStack {
     public UndoableCommand popRedo() {
         UndoableCommand toRedo = redoStack.removeFirst();
         undoStack.addFirst(toRedo);
+        undoChangeSize += toRedo.getChangeSize();
         return toRedo;
     }
 
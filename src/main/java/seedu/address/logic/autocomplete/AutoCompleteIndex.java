@@ -0,0 +1,218 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the autocomplete values of the elements of a list, such as the brands of phones, that finds the
+ * values containing a string without going through all of them.
+ * Every substring of up to {@value #MAX_DEPTH} characters of a value is a path in a trie, and the node at the end
+ * of the path keeps the positions of the substring in the values, ordered by position and then by value.
+ * If the list is an {@code ObservableList}, the index listens to it and stays consistent with every change.
+ * It can be queried from any thread, while the list is changed on the JavaFX Application Thread.
+ * @param <T> The type of the elements of the list.
+ */
+public class AutoCompleteIndex<T> implements AutoCompleteValueProvider {
+
+    static final int MAX_DEPTH = 4;
+
+    private final Function<T, Collection<String>> valuesOf;
+    // the number of elements each value comes from
+    private final TreeMap<String, Integer> counts = new TreeMap<>();
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Creates an index of the values that {@code valuesOf} gives for the elements of {@code list}.
+     */
+    public AutoCompleteIndex(List<T> list, Function<T, Collection<String>> valuesOf) {
+        requireNonNull(list);
+        requireNonNull(valuesOf);
+        this.valuesOf = valuesOf;
+        list.forEach(this::add);
+        if (list instanceof ObservableList) {
+            ObservableList<T> observableList = (ObservableList<T>) list;
+            observableList.addListener((ListChangeListener<T>) change -> {
+                while (change.next()) {
+                    if (change.wasPermutated()) {
+                        continue;
+                    }
+                    change.getRemoved().forEach(this::remove);
+                    change.getAddedSubList().forEach(this::add);
+                }
+            });
+        }
+    }
+
+    @Override
+    public synchronized SortedSet<String> getValues() {
+        return new TreeSet<>(counts.keySet());
+    }
+
+    /**
+     * Returns up to {@code limit} values containing {@code query}, in O(|query| + limit) time for queries of up to
+     * {@value #MAX_DEPTH} characters. Longer queries also skip the values containing only their first
+     * {@value #MAX_DEPTH} characters.
+     */
+    @Override
+    public synchronized List<String> getMatches(String query, int limit) {
+        requireNonNull(query);
+        List<String> matches = new ArrayList<>();
+        if (query.isEmpty()) {
+            for (String value : counts.keySet()) {
+                if (matches.size() == limit) {
+                    break;
+                }
+                matches.add(value);
+            }
+            return matches;
+        }
+
+        TrieNode node = root;
+        for (int d = 0; d < Math.min(query.length(), MAX_DEPTH) && node != null; d++) {
+            node = node.children.get(query.charAt(d));
+        }
+        if (node == null) {
+            return matches;
+        }
+        Set<String> seen = new LinkedHashSet<>();
+        for (Occurrence occurrence : node.occurrences) {
+            if (seen.size() == limit) {
+                break;
+            }
+            if (query.length() <= MAX_DEPTH || occurrence.value.startsWith(query, occurrence.position)) {
+                seen.add(occurrence.value);
+            }
+        }
+        matches.addAll(seen);
+        return matches;
+    }
+
+    @Override
+    public AutoCompleteValueProvider snapshot() {
+        return this;
+    }
+
+    /**
+     * Adds the values of {@code element} to the index.
+     */
+    private synchronized void add(T element) {
+        for (String value : valuesOf.apply(element)) {
+            if (counts.merge(value, 1, Integer::sum) == 1) {
+                insert(value);
+            }
+        }
+    }
+
+    /**
+     * Removes the values of {@code element} from the index, unless other elements have them too.
+     */
+    private synchronized void remove(T element) {
+        for (String value : valuesOf.apply(element)) {
+            Integer count = counts.computeIfPresent(value, (unused, n) -> n == 1 ? null : n - 1);
+            if (count == null) {
+                delete(value);
+            }
+        }
+    }
+
+    /**
+     * Adds every short substring of {@code value} to the trie.
+     */
+    private void insert(String value) {
+        for (int position = 0; position < value.length(); position++) {
+            TrieNode node = root;
+            for (int d = position; d < Math.min(position + MAX_DEPTH, value.length()); d++) {
+                node = node.children.computeIfAbsent(value.charAt(d), unused -> new TrieNode());
+                node.occurrences.add(new Occurrence(position, value));
+            }
+        }
+    }
+
+    /**
+     * Removes every short substring of {@code value} from the trie, along with the nodes left without any.
+     */
+    private void delete(String value) {
+        for (int position = 0; position < value.length(); position++) {
+            delete(root, value, position, position);
+        }
+    }
+
+    /**
+     * Removes the occurrence of {@code value} at {@code position} from the descendants of {@code node} along the
+     * characters of {@code value} from {@code d} on.
+     */
+    private void delete(TrieNode node, String value, int position, int d) {
+        if (d == Math.min(position + MAX_DEPTH, value.length())) {
+            return;
+        }
+        char c = value.charAt(d);
+        TrieNode child = node.children.get(c);
+        if (child == null) {
+            return;
+        }
+        child.occurrences.remove(new Occurrence(position, value));
+        delete(child, value, position, d + 1);
+        if (child.occurrences.isEmpty()) {
+            node.children.remove(c);
+        }
+    }
+
+    /**
+     * A node of the trie.
+     */
+    private static class TrieNode {
+        private final Map<Character, TrieNode> children = new HashMap<>();
+        private final TreeSet<Occurrence> occurrences = new TreeSet<>();
+    }
+
+    /**
+     * A position of a substring in a value, ordered by position and then by value, the order in which the
+     * autocomplete suggestions are shown.
+     */
+    private static class Occurrence implements Comparable<Occurrence> {
+        private static final Comparator<Occurrence> ORDER = Comparator.<Occurrence>comparingInt(o -> o.position)
+                .thenComparing(o -> o.value);
+
+        private final int position;
+        private final String value;
+
+        Occurrence(int position, String value) {
+            this.position = position;
+            this.value = value;
+        }
+
+        @Override
+        public int compareTo(Occurrence other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Occurrence // instanceof handles nulls
+                    && position == ((Occurrence) other).position
+                    && value.equals(((Occurrence) other).value));
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode() * 31 + position;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.autocomplete;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.SortedSet;
 
 /**
@@ -9,17 +10,41 @@ import java.util.SortedSet;
  */
 public class AutoCompleteResult {
 
-    private final SortedSet<String> values;
+    private final AutoCompleteValueProvider valueProvider;
     private final String stringToCompare;
 
     public AutoCompleteResult(SortedSet<String> values, String stringToCompare) {
+        this(() -> values, stringToCompare);
+    }
+
+    /**
+     * Creates a result whose possible values are those of {@code valueProvider}, which are only looked up when
+     * they are needed.
+     */
+    public AutoCompleteResult(AutoCompleteValueProvider valueProvider, String stringToCompare) {
+        requireNonNull(valueProvider);
         requireNonNull(stringToCompare);
-        this.values = values;
+        this.valueProvider = valueProvider;
         this.stringToCompare = stringToCompare;
     }
 
     public SortedSet<String> getValues() {
-        return values;
+        return valueProvider.getValues();
+    }
+
+    /**
+     * Returns up to {@code limit} possible values containing the string to compare, best matches first.
+     */
+    public List<String> getMatches(int limit) {
+        return valueProvider.getMatches(stringToCompare, limit);
+    }
+
+    /**
+     * Returns a result with the values this result has now, which can be matched from any thread.
+     * Must be called on the JavaFX Application Thread.
+     */
+    public AutoCompleteResult snapshot() {
+        return new AutoCompleteResult(valueProvider.snapshot(), stringToCompare);
     }
 
     public String getStringToCompare() {
@@ -30,6 +30,28 @@ import seedu.address.logic.autocomplete.providers.simpleproviders.CopyPhoneProvi
 import seedu.address.logic.autocomplete.providers.simpleproviders.DeleteCustomerProvider;
 import seedu.address.logic.autocomplete.providers.simpleproviders.DeletePhoneProvider;
 import seedu.address.logic.autocomplete.providers.simpleproviders.DeleteScheduleProvider;
+import seedu.address.logic.commands.CancelOrderCommand;
+import seedu.address.logic.commands.CompleteOrderCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.addcommand.AddCustomerCommand;
+import seedu.address.logic.commands.addcommand.AddOrderCommand;
+import seedu.address.logic.commands.addcommand.AddPhoneCommand;
+import seedu.address.logic.commands.addcommand.AddScheduleCommand;
+import seedu.address.logic.commands.copycommand.CopyCustomerCommand;
+import seedu.address.logic.commands.copycommand.CopyOrderCommand;
+import seedu.address.logic.commands.copycommand.CopyPhoneCommand;
+import seedu.address.logic.commands.deletecommand.DeleteCustomerCommand;
+import seedu.address.logic.commands.deletecommand.DeletePhoneCommand;
+import seedu.address.logic.commands.deletecommand.DeleteScheduleCommand;
+import seedu.address.logic.commands.editcommand.EditCustomerCommand;
+import seedu.address.logic.commands.editcommand.EditOrderCommand;
+import seedu.address.logic.commands.editcommand.EditPhoneCommand;
+import seedu.address.logic.commands.editcommand.EditScheduleCommand;
+import seedu.address.logic.commands.findcommand.FindCustomerCommand;
+import seedu.address.logic.commands.findcommand.FindOrderCommand;
+import seedu.address.logic.commands.findcommand.FindPhoneCommand;
+import seedu.address.logic.commands.statisticcommand.StatsCommand;
+import seedu.address.logic.parser.CommandParserRegistry;
 import seedu.address.model.Model;
 
 /**
@@ -48,60 +70,51 @@ public class AutoCompleteResultGenerator {
     }
 
     /**
-     * Instantiates supporting providers.
+     * Instantiates supporting providers, one for each command word that the {@code CommandParserRegistry} knows.
+     * Commands whose arguments are not autocompleted get an {@code EmptyProvider}.
      */
     private void initProviders() {
+        CommandParserRegistry.getInstance().getCommandWords()
+                .forEach(commandWord -> providers.put(commandWord, EmptyProvider.getInstance()));
+
         // Customer commands
-        providers.put("switch-c", EmptyProvider.getInstance());
-        providers.put("add-c", new AddCustomerGraph(model));
-        providers.put("delete-c", new DeleteCustomerProvider(model));
-        providers.put("find-c", new FindCustomerProvider(model));
-        providers.put("list-c", EmptyProvider.getInstance());
-        providers.put("clear-c", EmptyProvider.getInstance());
-        providers.put("edit-c", new EditCustomerGraph(model));
-        providers.put("copy-c", new CopyCustomerProvider(model));
+        putProvider(AddCustomerCommand.COMMAND_WORD, new AddCustomerGraph(model));
+        putProvider(DeleteCustomerCommand.COMMAND_WORD, new DeleteCustomerProvider(model));
+        putProvider(FindCustomerCommand.COMMAND_WORD, new FindCustomerProvider(model));
+        putProvider(EditCustomerCommand.COMMAND_WORD, new EditCustomerGraph(model));
+        putProvider(CopyCustomerCommand.COMMAND_WORD, new CopyCustomerProvider(model));
 
         // Phone commands
-        providers.put("switch-p", EmptyProvider.getInstance());
-        providers.put("add-p", new AddPhoneGraph(model));
-        providers.put("delete-p", new DeletePhoneProvider(model));
-        providers.put("find-p", new FindPhoneProvider(model));
-        providers.put("list-p", EmptyProvider.getInstance());
-        providers.put("clear-p", EmptyProvider.getInstance());
-        providers.put("edit-p", new EditPhoneGraph(model));
-        providers.put("copy-p", new CopyPhoneProvider(model));
+        putProvider(AddPhoneCommand.COMMAND_WORD, new AddPhoneGraph(model));
+        putProvider(DeletePhoneCommand.COMMAND_WORD, new DeletePhoneProvider(model));
+        putProvider(FindPhoneCommand.COMMAND_WORD, new FindPhoneProvider(model));
+        putProvider(EditPhoneCommand.COMMAND_WORD, new EditPhoneGraph(model));
+        putProvider(CopyPhoneCommand.COMMAND_WORD, new CopyPhoneProvider(model));
 
         // Order commands
-        providers.put("switch-o", EmptyProvider.getInstance());
-        providers.put("add-o", new AddOrderGraph(model));
-        providers.put("find-o", new FindOrderProvider(model));
-        providers.put("complete", new CompleteOrderProvider(model));
-        providers.put("cancel", new CancelOrderProvider(model));
-        providers.put("list-o", EmptyProvider.getInstance());
-        providers.put("clear-o", EmptyProvider.getInstance());
-        providers.put("edit-o", new EditOrderGraph(model));
-        providers.put("copy-o", new CopyOrderProvider(model));
+        putProvider(AddOrderCommand.COMMAND_WORD, new AddOrderGraph(model));
+        putProvider(FindOrderCommand.COMMAND_WORD, new FindOrderProvider(model));
+        putProvider(CompleteOrderCommand.COMMAND_WORD, new CompleteOrderProvider(model));
+        putProvider(CancelOrderCommand.COMMAND_WORD, new CancelOrderProvider(model));
+        putProvider(EditOrderCommand.COMMAND_WORD, new EditOrderGraph(model));
+        putProvider(CopyOrderCommand.COMMAND_WORD, new CopyOrderProvider(model));
 
         // Schedule commands
-        providers.put("switch-s", EmptyProvider.getInstance());
-        providers.put("schedule", new ViewScheduleGraph(model));
-        providers.put("add-s", new AddScheduleGraph(model));
-        providers.put("delete-s", new DeleteScheduleProvider(model));
-        providers.put("edit-s", new EditScheduleGraph(model));
-        providers.put("clear-s", EmptyProvider.getInstance());
-
-        // Archived order commands
-        providers.put("switch-a", EmptyProvider.getInstance());
-        providers.put("clear-a", EmptyProvider.getInstance());
+        putProvider(ScheduleCommand.COMMAND_WORD, new ViewScheduleGraph(model));
+        putProvider(AddScheduleCommand.COMMAND_WORD, new AddScheduleGraph(model));
+        putProvider(DeleteScheduleCommand.COMMAND_WORD, new DeleteScheduleProvider(model));
+        putProvider(EditScheduleCommand.COMMAND_WORD, new EditScheduleGraph(model));
 
         // General commands
-        providers.put("undo", EmptyProvider.getInstance());
-        providers.put("redo", EmptyProvider.getInstance());
-        providers.put("history", EmptyProvider.getInstance());
-        providers.put("generate-s", new GenerateStatsGraph(model));
-        providers.put("exit", EmptyProvider.getInstance());
-        providers.put("help", EmptyProvider.getInstance());
-        providers.put("export", EmptyProvider.getInstance());
+        putProvider(StatsCommand.COMMAND_WORD, new GenerateStatsGraph(model));
+    }
+
+    /**
+     * Makes {@code provider} the provider of the command {@code commandWord}, which must be a known command word.
+     */
+    private void putProvider(String commandWord, AutoCompleteResultProvider provider) {
+        assert providers.containsKey(commandWord) : "Autocomplete is only provided for known commands";
+        providers.put(commandWord, provider);
     }
 
     private Optional<AutoCompleteResultProvider> getProvider(String commandWord) {
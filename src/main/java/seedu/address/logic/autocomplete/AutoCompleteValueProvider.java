@@ -1,6 +1,9 @@
 package seedu.address.logic.autocomplete;
 
+import java.util.Comparator;
+import java.util.List;
 import java.util.SortedSet;
+import java.util.stream.Collectors;
 
 /**
  * Classes that implement this interface can provide values for autocomplete suggestion.
@@ -9,4 +12,27 @@ public interface AutoCompleteValueProvider {
 
     SortedSet<String> getValues();
 
+    /**
+     * Returns up to {@code limit} values containing {@code query}, those containing it earliest first and then in
+     * alphabetical order.
+     * Goes through all the values, so providers with many values should override this with an index.
+     */
+    default List<String> getMatches(String query, int limit) {
+        return getValues().stream()
+                .filter(value -> value.contains(query))
+                .sorted(Comparator.comparingInt(value -> value.indexOf(query)))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns a provider of the values this provider has now, which can be used from any thread while the lists
+     * the values come from change on the JavaFX Application Thread.
+     * Copies the values, so providers that can already be used from any thread should return themselves.
+     */
+    default AutoCompleteValueProvider snapshot() {
+        SortedSet<String> values = getValues();
+        return () -> values;
+    }
+
 }
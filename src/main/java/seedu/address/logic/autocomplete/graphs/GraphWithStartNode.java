@@ -3,16 +3,12 @@ package seedu.address.logic.autocomplete.graphs;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.logic.autocomplete.AutoCompleteResult;
 import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
 import seedu.address.logic.autocomplete.nodes.EmptyAutoCompleteNode;
-import seedu.address.logic.parser.Prefix;
 
 /**
  * Represents a {@code Graph} that supports commands that accept arguments only.
@@ -20,11 +16,13 @@ import seedu.address.logic.parser.Prefix;
 public abstract class GraphWithStartNode extends AutoCompleteGraph {
 
     protected final AutoCompleteNode<?> startingNode;
+    private final PrefixScanner<AutoCompleteNode<?>> prefixScanner;
 
     public GraphWithStartNode(AutoCompleteNode<?> startingNode) {
         super();
         requireNonNull(startingNode);
         this.startingNode = startingNode;
+        this.prefixScanner = new PrefixScanner<>(startingNode, this::traverse);
     }
 
     public GraphWithStartNode() {
@@ -36,20 +34,9 @@ public abstract class GraphWithStartNode extends AutoCompleteGraph {
         SortedSet<String> values = new TreeSet<>();
         String stringToCompare;
 
-        Pattern prefixPattern = Pattern.compile(" .{1,2}/");
-        Matcher matcher = prefixPattern.matcher(input);
-
-        AutoCompleteNode<?> currentNode = startingNode;
-        int offset = -1; // offset to track end index of last matched region
-
-        while (matcher.find()) {
-            Prefix prefix = new Prefix(matcher.group().stripLeading());
-            Optional<AutoCompleteNode<?>> nextNode = traverse(currentNode, prefix);
-            if (nextNode.isPresent()) {
-                currentNode = nextNode.get();
-            }
-            offset = matcher.end(); // set offset to end index of last matched region
-        }
+        PrefixScanner.Scan<AutoCompleteNode<?>> scan = prefixScanner.scan(input);
+        AutoCompleteNode<?> currentNode = scan.getNode();
+        int offset = scan.getOffset(); // end index of the last prefix entered
 
         if (offset == -1) { // no prefix entered
             // suggest prefixes
@@ -61,9 +48,8 @@ public abstract class GraphWithStartNode extends AutoCompleteGraph {
             // determine index of last space
             int lastSpace = input.lastIndexOf(" ");
             if (offset > lastSpace) { // if prefix is fully entered and no space after that, assume entering argument
-                // suggest possible values
-                values.addAll(currentNode.getValues());
-                stringToCompare = input.substring(offset); // match the partially entered argument
+                // suggest possible values, matched against the partially entered argument
+                return new AutoCompleteResult(currentNode, input.substring(offset));
             } else {
                 // suggest possible prefixes
                 List<?> prefixes = getWeights(currentNode);
@@ -0,0 +1,104 @@
+package seedu.address.logic.autocomplete.graphs;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.PrefixLexer;
+
+/**
+ * Follows the prefixes entered in an arguments string through a graph, from a starting node to the node of the
+ * last prefix, with the lexer that the {@code ArgumentTokenizer} uses to find prefixes.
+ * It remembers where it got to at the last space of the previous input, as the prefixes before that space stay
+ * the same while the user types after it. So typing or deleting a character only scans the last word.
+ * @param <N> The type of the nodes of the graph.
+ */
+class PrefixScanner<N> {
+
+    private final N startingNode;
+    private final BiFunction<N, Prefix, Optional<N>> traverse;
+    // the prefixes seen so far, so that the same prefix is not created again on every keystroke
+    private final Map<String, Prefix> prefixes = new HashMap<>();
+
+    private String lastInput = "";
+    // the index of the last space in the last input, and the result of scanning the input up to it
+    private int lastSpace = -1;
+    private Scan<N> scanAtLastSpace;
+
+    /**
+     * Creates a scanner that starts from {@code startingNode} and moves from a node along a prefix to the node
+     * {@code traverse} gives, or stays at the node if it gives none.
+     */
+    PrefixScanner(N startingNode, BiFunction<N, Prefix, Optional<N>> traverse) {
+        requireNonNull(startingNode);
+        requireNonNull(traverse);
+        this.startingNode = startingNode;
+        this.traverse = traverse;
+        this.scanAtLastSpace = new Scan<>(startingNode, -1);
+    }
+
+    /**
+     * Returns the node reached by following the prefixes in {@code input}, and the index right after the last
+     * prefix, or -1 if there is no prefix.
+     */
+    synchronized Scan<N> scan(String input) {
+        requireNonNull(input);
+        Scan<N> scan;
+        int from;
+        if (lastSpace != -1 && input.regionMatches(0, lastInput, 0, lastSpace + 1)) {
+            scan = scanAtLastSpace;
+            from = lastSpace + 1;
+        } else {
+            scan = new Scan<>(startingNode, -1);
+            from = 0;
+        }
+
+        int newLastSpace = input.lastIndexOf(' ');
+        Scan<N> scanAtNewLastSpace = newLastSpace < from ? null : scan;
+        for (int wordStart = PrefixLexer.findWordStart(input, from); wordStart != -1;
+                wordStart = PrefixLexer.findWordStart(input, wordStart + 1)) {
+            int prefixEnd = PrefixLexer.findPrefixEnd(input, wordStart);
+            if (prefixEnd == -1) {
+                continue;
+            }
+            Prefix prefix = prefixes.computeIfAbsent(input.substring(wordStart, prefixEnd), Prefix::new);
+            scan = new Scan<>(traverse.apply(scan.node, prefix).orElse(scan.node), prefixEnd);
+            if (wordStart < newLastSpace) {
+                scanAtNewLastSpace = scan;
+            }
+        }
+
+        if (scanAtNewLastSpace != null) {
+            lastInput = input;
+            lastSpace = newLastSpace;
+            scanAtLastSpace = scanAtNewLastSpace;
+        }
+        return scan;
+    }
+
+    /**
+     * The node reached by following the prefixes in an input, and the index right after the last prefix.
+     */
+    static class Scan<N> {
+        private final N node;
+        private final int offset;
+
+        Scan(N node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+
+        N getNode() {
+            return node;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+    }
+
+}
@@ -31,7 +31,7 @@ public class AddScheduleGraph extends GraphWithStartNodeAndPreamble {
      */
     private void initialise(Model model) {
         List<Schedule> scheduleList = model.getScheduleBook().getList();
-        ScheduleDateNode scheduleDateNode = new ScheduleDateNode(scheduleList);
+        ScheduleDateNode scheduleDateNode = new ScheduleDateNode(model);
         ScheduleTimeNode scheduleTimeNode = new ScheduleTimeNode(scheduleList);
         ScheduleVenueNode scheduleVenueNode = new ScheduleVenueNode(scheduleList);
         ScheduleTagNode scheduleTagNode = new ScheduleTagNode(scheduleList);
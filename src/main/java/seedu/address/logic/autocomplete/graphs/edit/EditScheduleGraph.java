@@ -31,7 +31,7 @@ public class EditScheduleGraph extends GraphWithStartNodeAndPreamble {
      */
     private void initialise(Model model) {
         List<Schedule> scheduleList = model.getFilteredScheduleList();
-        ScheduleDateNode scheduleDateNode = new ScheduleDateNode(scheduleList);
+        ScheduleDateNode scheduleDateNode = new ScheduleDateNode(model);
         ScheduleVenueNode scheduleVenueNode = new ScheduleVenueNode(scheduleList);
         ScheduleTimeNode scheduleTimeNode = new ScheduleTimeNode(scheduleList);
         ScheduleTagNode scheduleTagNode = new ScheduleTagNode(scheduleList);
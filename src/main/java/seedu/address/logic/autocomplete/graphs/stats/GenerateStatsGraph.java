@@ -1,6 +1,7 @@
 package seedu.address.logic.autocomplete.graphs.stats;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDING_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_BY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTING_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STAT_TYPE;
 
@@ -10,10 +11,12 @@ import java.util.List;
 import seedu.address.logic.autocomplete.graphs.Edge;
 import seedu.address.logic.autocomplete.graphs.GraphWithStartNode;
 import seedu.address.logic.autocomplete.nodes.schedule.ScheduleDateNode;
+import seedu.address.logic.autocomplete.nodes.stats.CubeDimensionNode;
 import seedu.address.logic.autocomplete.nodes.stats.StatsTypeNode;
 import seedu.address.logic.commands.statisticcommand.StatisticType;
 import seedu.address.model.Model;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.statistic.CubeDimension;
 
 /**
  * Represents a {@code Graph} used to support autocomplete for {@code StatsCommand}.
@@ -31,11 +34,15 @@ public class GenerateStatsGraph extends GraphWithStartNode {
     private void initialise(Model model) {
         List<Schedule> scheduleList = model.getScheduleBook().getList();
         StatsTypeNode statsTypeNode = new StatsTypeNode(Arrays.asList(StatisticType.values()));
-        ScheduleDateNode statsDateNode = new ScheduleDateNode(scheduleList);
+        ScheduleDateNode statsDateNode = new ScheduleDateNode(model);
+        CubeDimensionNode cubeDimensionNode = new CubeDimensionNode(Arrays.asList(CubeDimension.values()));
         addEdges(
                 new Edge<>(PREFIX_STAT_TYPE, startingNode, statsTypeNode),
                 new Edge<>(PREFIX_STARTING_DATE, statsTypeNode, statsDateNode),
-                new Edge<>(PREFIX_ENDING_DATE, statsDateNode, statsDateNode)
+                new Edge<>(PREFIX_ENDING_DATE, statsDateNode, statsDateNode),
+                new Edge<>(PREFIX_GROUP_BY, statsTypeNode, cubeDimensionNode),
+                new Edge<>(PREFIX_GROUP_BY, cubeDimensionNode, cubeDimensionNode),
+                new Edge<>(PREFIX_STARTING_DATE, cubeDimensionNode, statsDateNode)
         );
     }
 
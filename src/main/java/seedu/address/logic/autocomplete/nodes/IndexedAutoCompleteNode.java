@@ -0,0 +1,40 @@
+package seedu.address.logic.autocomplete.nodes;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.function.Function;
+
+import seedu.address.logic.autocomplete.AutoCompleteIndex;
+import seedu.address.logic.autocomplete.AutoCompleteValueProvider;
+
+/**
+ * Represents an {@code AutoCompleteNode} whose values come from the elements of a list, kept in an
+ * {@code AutoCompleteIndex} that follows the changes to the list.
+ * @param <T> The type of the elements of the list.
+ */
+public abstract class IndexedAutoCompleteNode<T> extends AutoCompleteNode<List<T>> {
+
+    private final AutoCompleteIndex<T> index;
+
+    public IndexedAutoCompleteNode(List<T> pointer, Function<T, Collection<String>> valuesOf) {
+        super(pointer);
+        this.index = new AutoCompleteIndex<>(pointer, valuesOf);
+    }
+
+    @Override
+    public SortedSet<String> getValues() {
+        return index.getValues();
+    }
+
+    @Override
+    public List<String> getMatches(String query, int limit) {
+        return index.getMatches(query, limit);
+    }
+
+    @Override
+    public AutoCompleteValueProvider snapshot() {
+        return index;
+    }
+
+}
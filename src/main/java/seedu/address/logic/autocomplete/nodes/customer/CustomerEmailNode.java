@@ -1,26 +1,17 @@
 package seedu.address.logic.autocomplete.nodes.customer;
 
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
-import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.logic.autocomplete.nodes.IndexedAutoCompleteNode;
 import seedu.address.model.customer.Customer;
 
 /**
  * Represents a {@code Node} tracking {@code Customer} {@code Email} for autocompletion.
  */
-public class CustomerEmailNode extends AutoCompleteNode<List<Customer>> {
+public class CustomerEmailNode extends IndexedAutoCompleteNode<Customer> {
 
     public CustomerEmailNode(List<Customer> pointer) {
-        super(pointer);
-    }
-
-    @Override
-    public SortedSet<String> getValues() {
-        SortedSet<String> values = new TreeSet<>();
-        pointer.forEach(customer -> values.add(customer.getEmail().toString()));
-        return values;
+        super(pointer, customer -> List.of(customer.getEmail().toString()));
     }
 
 }
@@ -1,28 +1,20 @@
 package seedu.address.logic.autocomplete.nodes.customer;
 
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.stream.Collectors;
 
-import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.logic.autocomplete.nodes.IndexedAutoCompleteNode;
 import seedu.address.model.customer.Customer;
 
 /**
  * Represents a {@code Node} tracking {@code Customer} {@code Tag} for autocompletion.
  */
-public class CustomerTagNode extends AutoCompleteNode<List<Customer>> {
+public class CustomerTagNode extends IndexedAutoCompleteNode<Customer> {
 
     public CustomerTagNode(List<Customer> pointer) {
-        super(pointer);
-    }
-
-    @Override
-    public SortedSet<String> getValues() {
-        SortedSet<String> values = new TreeSet<>();
-        pointer.forEach(customer ->
-                customer.getTags().forEach(tag ->
-                        values.add(tag.toString().replaceAll("\\[|\\]", ""))));
-        return values;
+        super(pointer, customer -> customer.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.toList()));
     }
 
 }
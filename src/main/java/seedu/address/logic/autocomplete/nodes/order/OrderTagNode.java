@@ -1,28 +1,20 @@
 package seedu.address.logic.autocomplete.nodes.order;
 
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.stream.Collectors;
 
-import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.logic.autocomplete.nodes.IndexedAutoCompleteNode;
 import seedu.address.model.order.Order;
 
 /**
  * Represents a {@code Node} tracking {@code Order} {@code Tag} for autocompletion.
  */
-public class OrderTagNode extends AutoCompleteNode<List<Order>> {
+public class OrderTagNode extends IndexedAutoCompleteNode<Order> {
 
     public OrderTagNode(List<Order> pointer) {
-        super(pointer);
-    }
-
-    @Override
-    public SortedSet<String> getValues() {
-        SortedSet<String> values = new TreeSet<>();
-        pointer.forEach(order ->
-                order.getTags().forEach(tag ->
-                        values.add(tag.toString().replaceAll("\\[|\\]", ""))));
-        return values;
+        super(pointer, order -> order.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.toList()));
     }
 
 }
@@ -1,28 +1,20 @@
 package seedu.address.logic.autocomplete.nodes.phone;
 
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.stream.Collectors;
 
-import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.logic.autocomplete.nodes.IndexedAutoCompleteNode;
 import seedu.address.model.phone.Phone;
 
 /**
  * Represents a {@code Node} tracking {@code Phone} {@code Tag} for autocompletion.
  */
-public class PhoneTagNode extends AutoCompleteNode<List<Phone>> {
+public class PhoneTagNode extends IndexedAutoCompleteNode<Phone> {
 
     public PhoneTagNode(List<Phone> pointer) {
-        super(pointer);
-    }
-
-    @Override
-    public SortedSet<String> getValues() {
-        SortedSet<String> values = new TreeSet<>();
-        pointer.forEach(phone ->
-                phone.getTags().forEach(tag ->
-                        values.add(tag.toString().replaceAll("\\[|\\]", ""))));
-        return values;
+        super(pointer, phone -> phone.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.toList()));
     }
 
 }
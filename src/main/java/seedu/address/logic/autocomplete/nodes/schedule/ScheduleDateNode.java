@@ -1,35 +1,31 @@
 package seedu.address.logic.autocomplete.nodes.schedule;
 
-import java.util.Calendar;
-import java.util.List;
-import java.util.Optional;
+import static java.util.Objects.requireNonNull;
+
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
-import seedu.address.model.schedule.Schedule;
+import seedu.address.model.Model;
 
 /**
  * Represents a {@code Node} tracking {@code Schedule} {@code Date} for autocompletion.
+ * The earliest and latest dates come from the model's index of the schedules by start time.
  */
-public class ScheduleDateNode extends AutoCompleteNode<List<Schedule>> {
+public class ScheduleDateNode extends AutoCompleteNode<Model> {
 
-    public ScheduleDateNode(List<Schedule> pointer) {
-        super(pointer);
+    public ScheduleDateNode(Model pointer) {
+        super(requireNonNull(pointer));
     }
 
     @Override
     public SortedSet<String> getValues() {
         SortedSet<String> values = new TreeSet<>();
-        Optional<Calendar> min = pointer.stream()
-                .map(Schedule::getCalendar)
-                .min(Calendar::compareTo);
-        Optional<Calendar> max = pointer.stream()
-                .map(Schedule::getCalendar)
-                .max(Calendar::compareTo);
-        min.ifPresent(calendar -> values.add(StringUtil.convertCalendarDateToString(calendar)));
-        max.ifPresent(calendar -> values.add(StringUtil.convertCalendarDateToString(calendar)));
+        pointer.getEarliestSchedule()
+                .ifPresent(schedule -> values.add(StringUtil.convertCalendarDateToString(schedule.getCalendar())));
+        pointer.getLatestSchedule()
+                .ifPresent(schedule -> values.add(StringUtil.convertCalendarDateToString(schedule.getCalendar())));
         return values;
     }
 
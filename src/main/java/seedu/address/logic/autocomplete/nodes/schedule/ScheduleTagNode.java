@@ -1,27 +1,20 @@
 package seedu.address.logic.autocomplete.nodes.schedule;
 
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
+import java.util.stream.Collectors;
 
-import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.logic.autocomplete.nodes.IndexedAutoCompleteNode;
 import seedu.address.model.schedule.Schedule;
 
 /**
  * Represents a {@code Node} tracking {@code Schedule} {@code Tag} for autocompletion.
  */
-public class ScheduleTagNode extends AutoCompleteNode<List<Schedule>> {
+public class ScheduleTagNode extends IndexedAutoCompleteNode<Schedule> {
 
     public ScheduleTagNode(List<Schedule> pointer) {
-        super(pointer);
+        super(pointer, schedule -> schedule.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.toList()));
     }
 
-    @Override
-    public SortedSet<String> getValues() {
-        SortedSet<String> values = new TreeSet<>();
-        pointer.forEach(schedule ->
-                schedule.getTags().forEach(tag ->
-                        values.add(tag.toString().replaceAll("\\[|\\]", ""))));
-        return values;
-    }
 }
@@ -1,33 +1,18 @@
 package seedu.address.logic.autocomplete.nodes.schedule;
 
-import java.util.Calendar;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
-import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.logic.autocomplete.nodes.IndexedAutoCompleteNode;
 import seedu.address.model.schedule.Schedule;
 
 /**
  * Represents a {@code Node} tracking {@code Schedule} time for autocompletion.
  */
-public class ScheduleTimeNode extends AutoCompleteNode<List<Schedule>> {
+public class ScheduleTimeNode extends IndexedAutoCompleteNode<Schedule> {
 
     public ScheduleTimeNode(List<Schedule> pointer) {
-        super(pointer);
-    }
-
-    @Override
-    public SortedSet<String> getValues() {
-        SortedSet<String> values = new TreeSet<>();
-        pointer.forEach(schedule -> {
-            Calendar calendar = schedule.getCalendar();
-            String hour = String.valueOf(calendar.get(Calendar.HOUR_OF_DAY));
-            String minute = String.valueOf(calendar.get(Calendar.MINUTE));
-            String display = String.format("%s.%s", hour, minute);
-            values.add(display);
-        });
-        return values;
+        super(pointer, schedule -> List.of(String.format("%s.%s",
+                schedule.getDateTime().getHour(), schedule.getDateTime().getMinute())));
     }
 
 }
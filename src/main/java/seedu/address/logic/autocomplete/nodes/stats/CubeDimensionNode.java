@@ -0,0 +1,26 @@
+package seedu.address.logic.autocomplete.nodes.stats;
+
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import seedu.address.logic.autocomplete.nodes.AutoCompleteNode;
+import seedu.address.statistic.CubeDimension;
+
+/**
+ * Represents a {@code Node} tracking {@code CubeDimension} objects for autocompletion.
+ */
+public class CubeDimensionNode extends AutoCompleteNode<List<CubeDimension>> {
+
+    public CubeDimensionNode(List<CubeDimension> pointer) {
+        super(pointer);
+    }
+
+    @Override
+    public SortedSet<String> getValues() {
+        SortedSet<String> values = new TreeSet<>();
+        pointer.forEach(dimension -> values.add(dimension.toString()));
+        return values;
+    }
+
+}
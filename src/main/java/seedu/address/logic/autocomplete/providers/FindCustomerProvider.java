@@ -1,10 +1,9 @@
 package seedu.address.logic.autocomplete.providers;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
+import seedu.address.logic.autocomplete.AutoCompleteIndex;
 import seedu.address.logic.autocomplete.AutoCompleteResult;
 import seedu.address.logic.autocomplete.AutoCompleteResultProvider;
 import seedu.address.model.Model;
@@ -15,39 +14,33 @@ import seedu.address.model.customer.Customer;
  */
 public class FindCustomerProvider implements AutoCompleteResultProvider {
 
-    private List<Customer> customerList;
+    private final AutoCompleteIndex<Customer> index;
 
     public FindCustomerProvider(Model model) {
-        this.customerList = model.getCustomerBook().getList();
+        this.index = new AutoCompleteIndex<>(model.getCustomerBook().getList(), FindCustomerProvider::getValues);
     }
 
     @Override
     public AutoCompleteResult process(String input) {
-        SortedSet<String> values = new TreeSet<>();
-        List<String> nameList = customerList.stream()
-                .map(customer -> customer.getCustomerName().toString())
-                .collect(Collectors.toList());
-        List<String> contactNumberList = customerList.stream()
-                .map(customer -> customer.getContactNumber().toString())
-                .collect(Collectors.toList());
-        List<String> emailList = customerList.stream()
-                .map(customer -> customer.getEmail().toString())
-                .collect(Collectors.toList());
-        List<String> tagList = customerList.stream()
-                .flatMap(customer -> customer.getTags().stream()
-                        .map(tag -> tag.toString().replaceAll("\\[|\\]", "")))
-                .collect(Collectors.toList());
-        values.addAll(nameList);
-        values.addAll(contactNumberList);
-        values.addAll(emailList);
-        values.addAll(tagList);
         String stringToCompare;
         if (input.endsWith(" ")) {
             stringToCompare = "";
         } else {
             stringToCompare = input.substring(input.lastIndexOf(" ") + 1);
         }
-        return new AutoCompleteResult(values, stringToCompare);
+        return new AutoCompleteResult(index, stringToCompare);
+    }
+
+    /**
+     * Returns the values of {@code customer} that can be searched for.
+     */
+    private static List<String> getValues(Customer customer) {
+        List<String> values = new ArrayList<>();
+        values.add(customer.getCustomerName().toString());
+        values.add(customer.getContactNumber().toString());
+        values.add(customer.getEmail().toString());
+        customer.getTags().forEach(tag -> values.add(tag.tagName));
+        return values;
     }
 
 }
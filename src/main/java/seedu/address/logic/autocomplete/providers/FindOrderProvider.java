@@ -1,10 +1,9 @@
 package seedu.address.logic.autocomplete.providers;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
+import seedu.address.logic.autocomplete.AutoCompleteIndex;
 import seedu.address.logic.autocomplete.AutoCompleteResult;
 import seedu.address.logic.autocomplete.AutoCompleteResultProvider;
 import seedu.address.model.Model;
@@ -15,39 +14,33 @@ import seedu.address.model.order.Order;
  */
 public class FindOrderProvider implements AutoCompleteResultProvider {
 
-    private List<Order> orderList;
+    private final AutoCompleteIndex<Order> index;
 
     public FindOrderProvider(Model model) {
-        this.orderList = model.getOrderBook().getList();
+        this.index = new AutoCompleteIndex<>(model.getOrderBook().getList(), FindOrderProvider::getValues);
     }
 
     @Override
     public AutoCompleteResult process(String input) {
-        SortedSet<String> values = new TreeSet<>();
-        List<String> idList = orderList.stream()
-                .map(order -> order.getId().toString())
-                .collect(Collectors.toList());
-        List<String> priceList = orderList.stream()
-                .map(order -> order.getPrice().toString())
-                .collect(Collectors.toList());
-        List<String> statusList = orderList.stream()
-                .map(order -> order.getStatus().toString())
-                .collect(Collectors.toList());
-        List<String> tagList = orderList.stream()
-                .flatMap(order -> order.getTags().stream()
-                        .map(tag -> tag.toString().replaceAll("\\[|\\]", "")))
-                .collect(Collectors.toList());
-        values.addAll(idList);
-        values.addAll(priceList);
-        values.addAll(statusList);
-        values.addAll(tagList);
         String stringToCompare;
         if (input.endsWith(" ")) {
             stringToCompare = "";
         } else {
             stringToCompare = input.substring(input.lastIndexOf(" ") + 1);
         }
-        return new AutoCompleteResult(values, stringToCompare);
+        return new AutoCompleteResult(index, stringToCompare);
+    }
+
+    /**
+     * Returns the values of {@code order} that can be searched for.
+     */
+    private static List<String> getValues(Order order) {
+        List<String> values = new ArrayList<>();
+        values.add(order.getId().toString());
+        values.add(order.getPrice().toString());
+        values.add(order.getStatus().toString());
+        order.getTags().forEach(tag -> values.add(tag.tagName));
+        return values;
     }
 
 }
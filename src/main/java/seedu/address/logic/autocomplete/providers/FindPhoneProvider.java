@@ -1,10 +1,9 @@
 package seedu.address.logic.autocomplete.providers;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
-import java.util.stream.Collectors;
 
+import seedu.address.logic.autocomplete.AutoCompleteIndex;
 import seedu.address.logic.autocomplete.AutoCompleteResult;
 import seedu.address.logic.autocomplete.AutoCompleteResultProvider;
 import seedu.address.model.Model;
@@ -15,55 +14,37 @@ import seedu.address.model.phone.Phone;
  */
 public class FindPhoneProvider implements AutoCompleteResultProvider {
 
-    private List<Phone> phoneList;
+    private final AutoCompleteIndex<Phone> index;
 
     public FindPhoneProvider(Model model) {
-        this.phoneList = model.getPhoneBook().getList();
+        this.index = new AutoCompleteIndex<>(model.getPhoneBook().getList(), FindPhoneProvider::getValues);
     }
 
     @Override
     public AutoCompleteResult process(String input) {
-        SortedSet<String> values = new TreeSet<>();
-        List<String> identityNumberList = phoneList.stream()
-                .map(phone -> phone.getIdentityNumber().toString())
-                .collect(Collectors.toList());
-        List<String> serialNumberList = phoneList.stream()
-                .map(phone -> phone.getSerialNumber().toString())
-                .collect(Collectors.toList());
-        List<String> costList = phoneList.stream()
-                .map(phone-> phone.getCost().toString())
-                .collect(Collectors.toList());
-        List<String> brandList = phoneList.stream()
-                .map(phone-> phone.getBrand().toString())
-                .collect(Collectors.toList());
-        List<String> capacityList = phoneList.stream()
-                .map(phone-> phone.getCapacity().toString())
-                .collect(Collectors.toList());
-        List<String> colourList = phoneList.stream()
-                .map(phone-> phone.getColour().toString())
-                .collect(Collectors.toList());
-        List<String> nameList = phoneList.stream()
-                .map(phone-> phone.getPhoneName().toString())
-                .collect(Collectors.toList());
-        List<String> tagList = phoneList.stream()
-                .flatMap(phone -> phone.getTags().stream()
-                        .map(tag -> tag.toString().replaceAll("\\[|\\]", "")))
-                .collect(Collectors.toList());
-        values.addAll(identityNumberList);
-        values.addAll(serialNumberList);
-        values.addAll(costList);
-        values.addAll(brandList);
-        values.addAll(colourList);
-        values.addAll(nameList);
-        values.addAll(capacityList);
-        values.addAll(tagList);
         String stringToCompare;
         if (input.endsWith(" ")) {
             stringToCompare = "";
         } else {
             stringToCompare = input.substring(input.lastIndexOf(" ") + 1);
         }
-        return new AutoCompleteResult(values, stringToCompare);
+        return new AutoCompleteResult(index, stringToCompare);
+    }
+
+    /**
+     * Returns the values of {@code phone} that can be searched for.
+     */
+    private static List<String> getValues(Phone phone) {
+        List<String> values = new ArrayList<>();
+        values.add(phone.getIdentityNumber().toString());
+        values.add(phone.getSerialNumber().toString());
+        values.add(phone.getCost().toString());
+        values.add(phone.getBrand().toString());
+        values.add(phone.getColour().toString());
+        values.add(phone.getPhoneName().toString());
+        values.add(phone.getCapacity().toString());
+        phone.getTags().forEach(tag -> values.add(tag.tagName));
+        return values;
     }
 
 }
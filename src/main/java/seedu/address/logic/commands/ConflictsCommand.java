@@ -0,0 +1,88 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ORDER;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.order.Order;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleConflict;
+
+/**
+ * Lists every pair of overlapping schedules in SML, grouped by day.
+ */
+public class ConflictsCommand extends Command {
+
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists every pair of overlapping schedules, grouped by day, with the indexes of their orders "
+            + "in the order list.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "%1$d pairs of conflicting schedules found:\n%2$s";
+    public static final String MESSAGE_NO_CONFLICTS = "There are no conflicting schedules.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
+        requireNonNull(model);
+        model.updateFilteredOrderList(PREDICATE_SHOW_ALL_ORDER);
+
+        List<ScheduleConflict> conflicts = model.getScheduleConflicts();
+        if (conflicts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_CONFLICTS, UiChange.ORDER);
+        }
+
+        Map<UUID, Integer> orderIndexes = new HashMap<>();
+        List<Order> orderList = model.getFilteredOrderList();
+        for (int i = 0; i < orderList.size(); i++) {
+            int orderIndex = i + 1;
+            orderList.get(i).getSchedule().ifPresent(schedule -> orderIndexes.put(schedule.getId(), orderIndex));
+        }
+
+        SortedMap<LocalDate, StringBuilder> conflictsByDay = new TreeMap<>();
+        for (ScheduleConflict conflict : conflicts) {
+            LocalDate day = conflict.getEarlier().getDateTime().toLocalDate();
+            conflictsByDay.computeIfAbsent(day, unused -> new StringBuilder())
+                    .append(String.format("- %s and %s\n", describe(conflict.getEarlier(), orderIndexes),
+                            describe(conflict.getLater(), orderIndexes)));
+        }
+
+        StringBuilder sb = new StringBuilder();
+        conflictsByDay.forEach((day, dayConflicts) -> sb.append(formatDay(day)).append(":\n").append(dayConflicts));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, conflicts.size(), sb.toString().trim()),
+                UiChange.ORDER);
+    }
+
+    /**
+     * Returns {@code day} in the format YYYY.MM.DD.
+     */
+    private static String formatDay(LocalDate day) {
+        return String.format("%d.%02d.%02d", day.getYear(), day.getMonthValue(), day.getDayOfMonth());
+    }
+
+    /**
+     * Returns the start time of {@code schedule}, in the format HH:MM, together with the index of its order.
+     */
+    private static String describe(Schedule schedule, Map<UUID, Integer> orderIndexes) {
+        LocalTime time = schedule.getDateTime().toLocalTime();
+        return String.format("%02d:%02d Order %d", time.getHour(), time.getMinute(),
+                orderIndexes.get(schedule.getId()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof ConflictsCommand;
+    }
+}
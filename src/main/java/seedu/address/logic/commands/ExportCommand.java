@@ -8,6 +8,7 @@ import java.io.FileReader;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.regex.Pattern;
 
 import org.json.CDL;
 import org.json.JSONArray;
@@ -30,6 +31,8 @@ public class ExportCommand extends Command {
     public static final String MESSAGE_EXPORT_SUCCESS = "You have successfully exported the data into CSV file.";
     public static final String MESSAGE_EXPORT_FAIL = "Failed to export data into CSV file.";
 
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("[a-zA-Z0-9]+");
+
     private Path customerFile;
     private Path phoneFile;
     private Path scheduleFile;
@@ -53,7 +56,7 @@ public class ExportCommand extends Command {
         String pathName = "data/" + fileName + ".csv";
 
         try {
-            if (!fileName.matches("[a-zA-Z0-9]+")) {
+            if (!FILE_NAME_PATTERN.matcher(fileName).matches()) {
                 throw new CommandException("File name can only be Alphanumeric.");
             }
             if (fileName.length() >= 225) {
@@ -6,24 +6,18 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.DataBook;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyDataBook;
-import seedu.address.model.customer.Customer;
-import seedu.address.model.order.Order;
-import seedu.address.model.phone.Phone;
-import seedu.address.model.schedule.Schedule;
+import seedu.address.model.ModelChangeLog;
 
 /**
  * Represents a command which can be undone and redone.
+ * The changes the command makes to the model, including cascades, are recorded while it executes
+ * and replayed in reverse to undo it.
  * Solution adapted from https://github.com/se-edu/addressbook-level4/pull/610/files with modifications / bug fixes
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyDataBook<Customer> previousCustomerBook;
-    private ReadOnlyDataBook<Order> previousOrderBook;
-    private ReadOnlyDataBook<Phone> previousPhoneBook;
-    private ReadOnlyDataBook<Schedule> previousScheduleBook;
-    private ReadOnlyDataBook<Order> previousArchivedOrderBook;
+    private ModelChangeLog changeLog;
+    private boolean isReverted;
 
     private String successMessage = "";
 
@@ -31,63 +25,34 @@ public abstract class UndoableCommand extends Command {
                                                             UndoRedoStack undoRedoStack) throws CommandException;
 
     /**
-     * Stores the current state of {@code model#customerBook}.
-     */
-    private void saveCustomerBookSnapshot(Model model) {
-        requireNonNull(model);
-        this.previousCustomerBook = new DataBook<>(model.getCustomerBook());
-    }
-
-    /**
-     * Stores the current state of {@code model#phoneBook}.
+     * Reverts the changes this command made to the books. Updates all the list to
+     * show all customers, phones, orders, schedules and archived.
      */
-    private void savePhoneBookSnapshot(Model model) {
-        requireNonNull(model);
-        this.previousPhoneBook = new DataBook<>(model.getPhoneBook());
-    }
+    protected final void undo(Model model) {
+        requireAllNonNull(model, changeLog);
+        assert !isReverted : "Only a command that has been executed or redone can be undone";
 
-    /**
-     * Stores the current state of {@code model#orderBook}.
-     */
-    private void saveOrderBookSnapshot(Model model) {
-        requireNonNull(model);
-        this.previousOrderBook = new DataBook<>(model.getOrderBook());
+        changeLog.revert();
+        isReverted = true;
+        showAllLists(model);
     }
 
     /**
-     * Stores the current state of {@code model#scheduleBook}.
+     * Reapplies this command after it has been undone, by replaying the changes reverted by {@link #undo(Model)}.
      */
-    private void saveScheduleBookSnapshot(Model model) {
-        requireNonNull(model);
-        this.previousScheduleBook = new DataBook<>(model.getScheduleBook());
-    }
-
+    protected final void redo(Model model) {
+        requireAllNonNull(model, changeLog);
+        assert isReverted : "Only a command that has been undone can be redone";
 
-    /**
-     * Stores the current state of {@code model#archivedOrderBook}.
-     */
-    private void saveArchivedOrderBookSnapshot(Model model) {
-        requireNonNull(model);
-        this.previousArchivedOrderBook = new DataBook<>(model.getArchivedOrderBook());
+        changeLog.reapply();
+        isReverted = false;
+        showAllLists(model);
     }
 
-
-
     /**
-     * Reverts all the books to the state before this command
-     * was executed and updates all the list to
-     * show all customers, phones, orders, schedules and archived.
+     * Updates all the list to show all customers, phones, orders, schedules and archived.
      */
-    protected final void undo(Model model) {
-        requireAllNonNull(model, previousCustomerBook, previousPhoneBook,
-                previousOrderBook, previousScheduleBook, previousArchivedOrderBook);
-
-        model.setCustomerBook(previousCustomerBook);
-        model.setPhoneBook(previousPhoneBook);
-        model.setOrderBook(previousOrderBook);
-        model.setScheduleBook(previousScheduleBook);
-        model.setArchivedOrderBook(previousArchivedOrderBook);
-
+    private void showAllLists(Model model) {
         model.updateFilteredCustomerList(Model.PREDICATE_SHOW_ALL_CUSTOMERS);
         model.updateFilteredPhoneList(Model.PREDICATE_SHOW_ALL_PHONES);
         model.updateFilteredOrderList(Model.PREDICATE_SHOW_ALL_ORDER);
@@ -96,26 +61,10 @@ public abstract class UndoableCommand extends Command {
     }
 
     /**
-     * Reverts all the books to the state before this command
-     * was executed and updates all the list to
-     * show all customers, phones, orders, schedules and archived.
-     */
-    protected final void redo(Model model) {
-        requireNonNull(model);
-
-        undo(model);
-    }
-
-
-    /**
-     * Saves state of model.
+     * Returns the number of elements this command added to or removed from the books.
      */
-    public void save(Model model) {
-        saveCustomerBookSnapshot(model);
-        savePhoneBookSnapshot(model);
-        saveOrderBookSnapshot(model);
-        saveScheduleBookSnapshot(model);
-        saveArchivedOrderBookSnapshot(model);
+    public int getChangeSize() {
+        return changeLog == null ? 0 : changeLog.size();
     }
 
     /**
@@ -133,14 +82,15 @@ public abstract class UndoableCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory,
                                  UndoRedoStack undoRedoStack) throws CommandException {
+        requireNonNull(model);
 
-        saveCustomerBookSnapshot(model);
-        savePhoneBookSnapshot(model);
-        saveOrderBookSnapshot(model);
-        saveScheduleBookSnapshot(model);
-        saveArchivedOrderBookSnapshot(model);
-
-        return executeUndoableCommand(model, commandHistory, undoRedoStack);
+        model.startRecordingChanges();
+        try {
+            return executeUndoableCommand(model, commandHistory, undoRedoStack);
+        } finally {
+            changeLog = model.stopRecordingChanges();
+            isReverted = false;
+        }
     }
 
 }
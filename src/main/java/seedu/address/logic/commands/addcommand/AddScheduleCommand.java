@@ -91,7 +91,7 @@ public class AddScheduleCommand extends UndoableCommand {
                     .flatMap(x -> orderList.stream()
                             .filter(y -> y.getSchedule().isPresent())
                             .filter(y -> y.getSchedule().get().isSameAs(x)))
-                    .sorted(Comparator.comparing(a -> a.getSchedule().get().getCalendar()))
+                    .sorted(Comparator.comparing(a -> a.getSchedule().get().getDateTime()))
                     .forEach(y -> sb.append(String.format("%s: Order %d\n", y.getSchedule().get().getCalendarString(),
                             orderList.indexOf(y) + 1)));
 
@@ -128,7 +128,7 @@ public class AddScheduleCommand extends UndoableCommand {
                 && orderIndex.equals(((AddScheduleCommand) other).orderIndex)
                 && canClash == ((AddScheduleCommand) other).canClash
                 // not checking ID
-                && toAdd.getCalendar().equals(((AddScheduleCommand) other).toAdd.getCalendar())
+                && toAdd.getDateTime().equals(((AddScheduleCommand) other).toAdd.getDateTime())
                 && toAdd.getVenue().equals(((AddScheduleCommand) other).toAdd.getVenue())
                 && toAdd.getTags().equals(((AddScheduleCommand) other).toAdd.getTags()));
     }
@@ -130,7 +130,7 @@ public class EditScheduleCommand extends UndoableCommand {
                             .filter(y -> !x.isSameAs(scheduleToEdit))
                             .filter(y -> y.getSchedule().isPresent())
                             .filter(y -> y.getSchedule().get().isSameAs(x)))
-                    .sorted(Comparator.comparing(a -> a.getSchedule().get().getCalendar()))
+                    .sorted(Comparator.comparing(a -> a.getSchedule().get().getDateTime()))
                     .forEach(y -> sb.append(String.format("%s: Order %d\n", y.getSchedule().get().getCalendarString(),
                             orderList.indexOf(y) + 1)));
 
@@ -34,7 +34,7 @@ public class FindCustomerCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
         requireNonNull(model);
-        model.updateFilteredCustomerList(predicate);
+        model.updateFilteredCustomerList(model.getIndexedCustomerPredicate(predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CUSTOMERS_LISTED_OVERVIEW,
                         model.getFilteredCustomerList().size()), UiChange.CUSTOMER);
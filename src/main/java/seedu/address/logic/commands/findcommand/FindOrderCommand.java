@@ -34,7 +34,7 @@ public class FindOrderCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
         requireNonNull(model);
-        model.updateFilteredOrderList(predicate);
+        model.updateFilteredOrderList(model.getIndexedOrderPredicate(predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_ORDERS_LISTED_OVERVIEW,
                         model.getFilteredOrderList().size()), UiChange.ORDER);
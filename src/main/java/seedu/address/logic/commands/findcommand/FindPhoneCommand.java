@@ -34,7 +34,7 @@ public class FindPhoneCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
         requireNonNull(model);
-        model.updateFilteredPhoneList(predicate);
+        model.updateFilteredPhoneList(model.getIndexedPhonePredicate(predicate));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PHONE_LISTED_OVERVIEW, model.getFilteredPhoneList().size()),
                 UiChange.PHONE);
@@ -0,0 +1,110 @@
+package seedu.address.logic.commands.statisticcommand;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDING_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_BY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTING_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STAT_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.UiChange;
+import seedu.address.model.Model;
+import seedu.address.model.Money;
+import seedu.address.statistic.CubeDimension;
+import seedu.address.statistic.SalesCube;
+
+/**
+ * Groups the profit, cost or revenue of the completed orders in the archived order list by one or more
+ * dimensions, such as profit by brand by month or the top 10 customers by revenue.
+ */
+public class SalesAnalysisCommand extends Command {
+
+    public static final String MESSAGE_USAGE = StatsCommand.COMMAND_WORD
+            + ": groups the profit/cost/revenue of completed orders\n"
+            + "Parameters: "
+            + PREFIX_STAT_TYPE + "{Type of stat}  "
+            + PREFIX_GROUP_BY + "{brand/phone/capacity/colour/customer/tag/venue/week/month}...  "
+            + "[" + PREFIX_TOP + "{number of groups}]  "
+            + "[" + PREFIX_STARTING_DATE + "{starting date (YYYY.MM.DD)}  "
+            + PREFIX_ENDING_DATE + "{ending date}]\n"
+            + "Example: " + StatsCommand.COMMAND_WORD + " s/profit g/brand g/month\n"
+            + "Example: " + StatsCommand.COMMAND_WORD + " s/revenue g/customer top/10";
+
+    public static final String MESSAGE_SUCCESS = "%1$s by %2$s:\n%3$sTotal: %4$s";
+    public static final String MESSAGE_TOP_SUCCESS = "Top %1$d of %2$s by %3$s:\n%4$sTotal: %5$s";
+    public static final String MESSAGE_NO_ORDERS = "There are no completed orders to group.";
+
+    private final StatisticType statisticType;
+    private final List<CubeDimension> groupBy;
+    private final int limit;
+    private final LocalDate firstDate;
+    private final LocalDate lastDate;
+
+    /**
+     * Creates a command that groups the amounts of {@code statisticType} of the orders scheduled from
+     * {@code firstDate} to {@code lastDate} by {@code groupBy}, returning only the largest {@code limit} groups
+     * if {@code limit} is positive.
+     */
+    public SalesAnalysisCommand(StatisticType statisticType, List<CubeDimension> groupBy, int limit,
+                                LocalDate firstDate, LocalDate lastDate) {
+        requireAllNonNull(statisticType, groupBy, firstDate, lastDate);
+        this.statisticType = statisticType;
+        this.groupBy = new ArrayList<>(groupBy);
+        this.limit = limit;
+        this.firstDate = firstDate;
+        this.lastDate = lastDate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory commandHistory, UndoRedoStack undoRedoStack) {
+        requireNonNull(model);
+        SalesCube cube = SalesCube.of(model.getArchivedOrderBook().getList());
+        if (cube.size() == 0) {
+            return new CommandResult(MESSAGE_NO_ORDERS, UiChange.ARCHIVED_ORDER);
+        }
+
+        List<SalesCube.Group> groups = cube.query(statisticType, groupBy, firstDate, lastDate, limit);
+        long total = cube.query(statisticType, List.of(), firstDate, lastDate, 0).stream()
+                .mapToLong(SalesCube.Group::getCents)
+                .sum();
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < groups.size(); i++) {
+            SalesCube.Group group = groups.get(i);
+            sb.append(String.format("%d. %s: %s\n", i + 1, String.join(", ", group.getValues()),
+                    Money.ofCents(group.getCents())));
+        }
+
+        String type = statisticType.toString().substring(0, 1).toUpperCase() + statisticType.toString().substring(1);
+        String dimensions = groupBy.stream().map(CubeDimension::toString).collect(Collectors.joining(" by "));
+        String feedback = limit > 0
+                ? String.format(MESSAGE_TOP_SUCCESS, limit, dimensions, statisticType, sb, Money.ofCents(total))
+                : String.format(MESSAGE_SUCCESS, type, dimensions, sb, Money.ofCents(total));
+        return new CommandResult(feedback, UiChange.ARCHIVED_ORDER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SalesAnalysisCommand)) {
+            return false;
+        }
+        SalesAnalysisCommand otherCommand = (SalesAnalysisCommand) other;
+        return statisticType == otherCommand.statisticType
+                && groupBy.equals(otherCommand.groupBy)
+                && limit == otherCommand.limit
+                && firstDate.equals(otherCommand.firstDate)
+                && lastDate.equals(otherCommand.lastDate);
+    }
+}
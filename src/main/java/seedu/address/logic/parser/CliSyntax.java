@@ -41,6 +41,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_STAT_TYPE = new Prefix("s/");
     public static final Prefix PREFIX_STARTING_DATE = new Prefix("d1/");
     public static final Prefix PREFIX_ENDING_DATE = new Prefix("d2/");
+    public static final Prefix PREFIX_GROUP_BY = new Prefix("g/");
+    public static final Prefix PREFIX_TOP = new Prefix("top/");
 
     public static final Prefix PREFIX_ADDRESS = new Prefix("a/");
 
@@ -0,0 +1,172 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import seedu.address.logic.commands.CancelOrderCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CompleteOrderCommand;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.addcommand.AddCustomerCommand;
+import seedu.address.logic.commands.addcommand.AddOrderCommand;
+import seedu.address.logic.commands.addcommand.AddPhoneCommand;
+import seedu.address.logic.commands.addcommand.AddScheduleCommand;
+import seedu.address.logic.commands.clearcommand.ClearArchivedOrderCommand;
+import seedu.address.logic.commands.clearcommand.ClearCustomerCommand;
+import seedu.address.logic.commands.clearcommand.ClearOrderCommand;
+import seedu.address.logic.commands.clearcommand.ClearPhoneCommand;
+import seedu.address.logic.commands.clearcommand.ClearScheduleCommand;
+import seedu.address.logic.commands.copycommand.CopyCustomerCommand;
+import seedu.address.logic.commands.copycommand.CopyOrderCommand;
+import seedu.address.logic.commands.copycommand.CopyPhoneCommand;
+import seedu.address.logic.commands.deletecommand.DeleteCustomerCommand;
+import seedu.address.logic.commands.deletecommand.DeletePhoneCommand;
+import seedu.address.logic.commands.deletecommand.DeleteScheduleCommand;
+import seedu.address.logic.commands.editcommand.EditCustomerCommand;
+import seedu.address.logic.commands.editcommand.EditOrderCommand;
+import seedu.address.logic.commands.editcommand.EditPhoneCommand;
+import seedu.address.logic.commands.editcommand.EditScheduleCommand;
+import seedu.address.logic.commands.findcommand.FindCustomerCommand;
+import seedu.address.logic.commands.findcommand.FindOrderCommand;
+import seedu.address.logic.commands.findcommand.FindPhoneCommand;
+import seedu.address.logic.commands.listcommand.ListCustomerCommand;
+import seedu.address.logic.commands.listcommand.ListOrderCommand;
+import seedu.address.logic.commands.listcommand.ListPhoneCommand;
+import seedu.address.logic.commands.statisticcommand.StatsCommand;
+import seedu.address.logic.commands.switchcommand.SwitchArchivedOrderPanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchCustomerPanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchOrderPanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchPhonePanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchSchedulePanelCommand;
+import seedu.address.logic.parser.addcommandparser.AddCustomerCommandParser;
+import seedu.address.logic.parser.addcommandparser.AddOrderCommandParser;
+import seedu.address.logic.parser.addcommandparser.AddPhoneCommandParser;
+import seedu.address.logic.parser.addcommandparser.AddScheduleCommandParser;
+import seedu.address.logic.parser.copycommandparser.CopyCustomerCommandParser;
+import seedu.address.logic.parser.copycommandparser.CopyOrderCommandParser;
+import seedu.address.logic.parser.copycommandparser.CopyPhoneCommandParser;
+import seedu.address.logic.parser.deletecommandparser.DeleteCustomerCommandParser;
+import seedu.address.logic.parser.deletecommandparser.DeletePhoneCommandParser;
+import seedu.address.logic.parser.deletecommandparser.DeleteScheduleCommandParser;
+import seedu.address.logic.parser.editcommandparser.EditCustomerCommandParser;
+import seedu.address.logic.parser.editcommandparser.EditOrderCommandParser;
+import seedu.address.logic.parser.editcommandparser.EditPhoneCommandParser;
+import seedu.address.logic.parser.editcommandparser.EditScheduleCommandParser;
+import seedu.address.logic.parser.findcommandparser.FindCustomerCommandParser;
+import seedu.address.logic.parser.findcommandparser.FindOrderCommandParser;
+import seedu.address.logic.parser.findcommandparser.FindPhoneCommandParser;
+
+/**
+ * Maps every command word to the parser of its arguments, so that the commands the user can enter are defined once,
+ * for both parsing and autocomplete.
+ * The parsers hold no state, so each is created once and shared by every command parsed.
+ */
+public class CommandParserRegistry {
+
+    private static CommandParserRegistry theOne;
+
+    private final Map<String, Parser<?>> parsers = new LinkedHashMap<>();
+
+    private CommandParserRegistry() {
+        // Customer commands
+        registerCommand(SwitchCustomerPanelCommand.COMMAND_WORD, SwitchCustomerPanelCommand::new);
+        registerParser(AddCustomerCommand.COMMAND_WORD, new AddCustomerCommandParser());
+        registerParser(DeleteCustomerCommand.COMMAND_WORD, new DeleteCustomerCommandParser());
+        registerParser(FindCustomerCommand.COMMAND_WORD, new FindCustomerCommandParser());
+        registerCommand(ListCustomerCommand.COMMAND_WORD, ListCustomerCommand::new);
+        registerCommand(ClearCustomerCommand.COMMAND_WORD, ClearCustomerCommand::new);
+        registerParser(EditCustomerCommand.COMMAND_WORD, new EditCustomerCommandParser());
+        registerParser(CopyCustomerCommand.COMMAND_WORD, new CopyCustomerCommandParser());
+
+        // Phone commands
+        registerCommand(SwitchPhonePanelCommand.COMMAND_WORD, SwitchPhonePanelCommand::new);
+        registerParser(AddPhoneCommand.COMMAND_WORD, new AddPhoneCommandParser());
+        registerParser(DeletePhoneCommand.COMMAND_WORD, new DeletePhoneCommandParser());
+        registerParser(FindPhoneCommand.COMMAND_WORD, new FindPhoneCommandParser());
+        registerCommand(ListPhoneCommand.COMMAND_WORD, ListPhoneCommand::new);
+        registerCommand(ClearPhoneCommand.COMMAND_WORD, ClearPhoneCommand::new);
+        registerParser(EditPhoneCommand.COMMAND_WORD, new EditPhoneCommandParser());
+        registerParser(CopyPhoneCommand.COMMAND_WORD, new CopyPhoneCommandParser());
+
+        // Order commands
+        registerCommand(SwitchOrderPanelCommand.COMMAND_WORD, SwitchOrderPanelCommand::new);
+        registerParser(AddOrderCommand.COMMAND_WORD, new AddOrderCommandParser());
+        registerParser(FindOrderCommand.COMMAND_WORD, new FindOrderCommandParser());
+        registerParser(CompleteOrderCommand.COMMAND_WORD, new CompleteOrderCommandParser());
+        registerParser(CancelOrderCommand.COMMAND_WORD, new CancelOrderCommandParser());
+        registerCommand(ListOrderCommand.COMMAND_WORD, ListOrderCommand::new);
+        registerCommand(ClearOrderCommand.COMMAND_WORD, ClearOrderCommand::new);
+        registerParser(EditOrderCommand.COMMAND_WORD, new EditOrderCommandParser());
+        registerParser(CopyOrderCommand.COMMAND_WORD, new CopyOrderCommandParser());
+
+        // Schedule commands
+        registerCommand(SwitchSchedulePanelCommand.COMMAND_WORD, SwitchSchedulePanelCommand::new);
+        registerParser(ScheduleCommand.COMMAND_WORD, new ScheduleCommandParser());
+        registerParser(AddScheduleCommand.COMMAND_WORD, new AddScheduleCommandParser());
+        registerParser(DeleteScheduleCommand.COMMAND_WORD, new DeleteScheduleCommandParser());
+        registerParser(EditScheduleCommand.COMMAND_WORD, new EditScheduleCommandParser());
+        registerCommand(ClearScheduleCommand.COMMAND_WORD, ClearScheduleCommand::new);
+        registerCommand(ConflictsCommand.COMMAND_WORD, ConflictsCommand::new);
+
+        // Archived order commands
+        registerCommand(SwitchArchivedOrderPanelCommand.COMMAND_WORD, SwitchArchivedOrderPanelCommand::new);
+        registerCommand(ClearArchivedOrderCommand.COMMAND_WORD, ClearArchivedOrderCommand::new);
+
+        // General commands
+        registerCommand(UndoCommand.COMMAND_WORD, UndoCommand::new);
+        registerCommand(RedoCommand.COMMAND_WORD, RedoCommand::new);
+        registerCommand(HistoryCommand.COMMAND_WORD, HistoryCommand::new);
+        registerParser(StatsCommand.COMMAND_WORD, new StatsCommandParser());
+        registerCommand(ExitCommand.COMMAND_WORD, ExitCommand::new);
+        registerCommand(HelpCommand.COMMAND_WORD, HelpCommand::new);
+        registerParser(ExportCommand.COMMAND_WORD, new ExportCommandParser());
+    }
+
+    public static synchronized CommandParserRegistry getInstance() {
+        if (theOne == null) {
+            theOne = new CommandParserRegistry();
+        }
+        return theOne;
+    }
+
+    /**
+     * Returns the parser of the arguments of the command {@code commandWord}, if it is a command word.
+     */
+    public Optional<Parser<?>> getParser(String commandWord) {
+        requireNonNull(commandWord);
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(parsers.keySet());
+    }
+
+    /**
+     * Registers {@code parser} as the parser of the arguments of the command {@code commandWord}.
+     */
+    private void registerParser(String commandWord, Parser<?> parser) {
+        assert !parsers.containsKey(commandWord) : "Command words should be unique";
+        parsers.put(commandWord, parser);
+    }
+
+    /**
+     * Registers the command {@code commandWord}, which takes no arguments and is created by {@code command}.
+     */
+    private void registerCommand(String commandWord, Supplier<? extends Command> command) {
+        registerParser(commandWord, arguments -> command.get());
+    }
+
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The prefixes a parser recognizes, compiled once into an automaton that reads an arguments string from the start
+ * of a word and finds the prefix the word starts with, in time bounded by the length of the longest prefix rather
+ * than the number of prefixes.
+ * The states of the automaton are the starts of the prefixes, and a state accepts the prefix that ends there.
+ * A parser can build its automaton once and use it for every arguments string, from any thread.
+ */
+public class PrefixAutomaton {
+
+    private final State start = new State();
+
+    /**
+     * Compiles the automaton that recognizes {@code prefixes}.
+     */
+    public PrefixAutomaton(Prefix... prefixes) {
+        requireAllNonNull((Object[]) prefixes);
+        for (Prefix prefix : prefixes) {
+            String string = prefix.getPrefix();
+            State state = start;
+            for (int i = 0; i < string.length(); i++) {
+                state = state.next.computeIfAbsent(string.charAt(i), unused -> new State());
+            }
+            state.accepted = prefix;
+        }
+    }
+
+    /**
+     * Returns the longest prefix that {@code argsString} has at {@code wordStart}, if any.
+     */
+    public Optional<Prefix> match(String argsString, int wordStart) {
+        Prefix longest = null;
+        State state = start;
+        for (int i = wordStart; i < argsString.length(); i++) {
+            state = state.next.get(argsString.charAt(i));
+            if (state == null) {
+                break;
+            }
+            if (state.accepted != null) {
+                longest = state.accepted;
+            }
+        }
+        return Optional.ofNullable(longest);
+    }
+
+    /**
+     * A state of the automaton, reached by reading the start of a prefix.
+     */
+    private static class State {
+        private final Map<Character, State> next = new HashMap<>();
+        private Prefix accepted;
+    }
+
+}
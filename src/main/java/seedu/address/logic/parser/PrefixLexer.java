@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+/**
+ * Finds where prefixes can start in an arguments string, for both the {@code ArgumentTokenizer} and autocomplete.
+ * A prefix can only start a word, that is, right after a space, e.g. {@code p/} in {@code "hi p/900"} but not in
+ * {@code "hip/900"}. A word that starts with 1 to {@value #MAX_PREFIX_LENGTH} characters other than spaces and
+ * slashes followed by a slash, such as {@code cp/128}, starts with what looks like a prefix.
+ */
+public class PrefixLexer {
+
+    public static final int MAX_PREFIX_LENGTH = 3;
+
+    /**
+     * Returns the index of the first word in {@code argsString} that starts at or after {@code fromIndex},
+     * or -1 if there is none.
+     */
+    public static int findWordStart(String argsString, int fromIndex) {
+        for (int i = Math.max(fromIndex, 1); i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) == ' ' && argsString.charAt(i) != ' ') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index right after the slash of the prefix-like token that starts the word at {@code wordStart}
+     * in {@code argsString}, or -1 if the word does not start with one.
+     */
+    public static int findPrefixEnd(String argsString, int wordStart) {
+        int maxSlash = Math.min(wordStart + MAX_PREFIX_LENGTH, argsString.length() - 1);
+        for (int i = wordStart; i <= maxSlash; i++) {
+            char c = argsString.charAt(i);
+            if (c == '/') {
+                return i > wordStart ? i + 1 : -1;
+            }
+            if (c == ' ') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -14,14 +14,15 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ScheduleCommandParser implements Parser<ScheduleCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_DATE);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ScheduleCommand
      * and returns an ScheduleCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
     public ScheduleCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ScheduleCommand.MESSAGE_USAGE));
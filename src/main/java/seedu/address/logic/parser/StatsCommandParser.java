@@ -3,32 +3,50 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_INPUT_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ENDING_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_BY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STARTING_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_STAT_TYPE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TOP;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import seedu.address.commons.core.Messages;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.statisticcommand.SalesAnalysisCommand;
 import seedu.address.logic.commands.statisticcommand.StatisticType;
 import seedu.address.logic.commands.statisticcommand.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.statistic.CubeDimension;
+import seedu.address.statistic.DateUtil;
 import seedu.address.statistic.StatsParseUtil;
 
 /**
- * Parses input arguments and creates a new StatsCommand object
+ * Parses input arguments and creates a new StatsCommand object, or a SalesAnalysisCommand object if the
+ * arguments group the statistics by any dimension
  */
-public class StatsCommandParser implements Parser<StatsCommand> {
+public class StatsCommandParser implements Parser<Command> {
+
+    public static final String MESSAGE_DUPLICATE_DIMENSION = "Orders can only be grouped by each dimension once.";
+    public static final String MESSAGE_TOO_MANY_DIMENSIONS = "Orders can be grouped by at most %1$d dimensions.";
+    public static final int MAX_DIMENSIONS = 3;
+    public static final String MESSAGE_INVALID_TOP = "The number of groups to show must be a positive integer.";
+
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_STAT_TYPE, PREFIX_STARTING_DATE,
+            PREFIX_ENDING_DATE, PREFIX_GROUP_BY, PREFIX_TOP);
 
     /**
      * Parses the given {@code String} of arguments in the context of the StatsCommand
-     * and returns an StatsCommand object for execution.
+     * and returns an StatsCommand or SalesAnalysisCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format.
      */
-    public StatsCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultiMap =
-                ArgumentTokenizer.tokenize(args, PREFIX_STAT_TYPE, PREFIX_STARTING_DATE, PREFIX_ENDING_DATE);
+    public Command parse(String args) throws ParseException {
+        ArgumentMultimap argMultiMap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         //date arguments are optional
         if (!arePrefixesPresent(argMultiMap, PREFIX_STAT_TYPE)) {
@@ -47,6 +65,13 @@ public class StatsCommandParser implements Parser<StatsCommand> {
                     Messages.OPTIONAL_DATE_MESSAGE_CONSTRAINTS,
                     StatsCommand.NON_DEFAULT_MESSAGE_USAGE));
         }
+        if (argMultiMap.getValue(PREFIX_GROUP_BY).isPresent()) {
+            return parseSalesAnalysis(argMultiMap, type);
+        }
+        if (argMultiMap.getValue(PREFIX_TOP).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    SalesAnalysisCommand.MESSAGE_USAGE));
+        }
         if (startingDateValue.isPresent() && endingDateValue.isPresent()) {
             Calendar startingDate = ParserUtil.parseDateCalendar(
                     argMultiMap.getValue(PREFIX_STARTING_DATE).get());
@@ -85,6 +110,49 @@ public class StatsCommandParser implements Parser<StatsCommand> {
         }
     }
 
+    /**
+     * Parses the arguments of a SalesAnalysisCommand that groups the statistics of {@code type}.
+     * @throws ParseException if the user input does not conform to the expected format.
+     */
+    private static SalesAnalysisCommand parseSalesAnalysis(ArgumentMultimap argMultiMap, StatisticType type)
+            throws ParseException {
+        List<CubeDimension> groupBy = new ArrayList<>();
+        for (String keyword : argMultiMap.getAllValues(PREFIX_GROUP_BY)) {
+            CubeDimension dimension = CubeDimension.fromKeyword(keyword)
+                    .orElseThrow(() -> new ParseException(CubeDimension.MESSAGE_CONSTRAINTS));
+            if (groupBy.contains(dimension)) {
+                throw new ParseException(MESSAGE_DUPLICATE_DIMENSION);
+            }
+            groupBy.add(dimension);
+        }
+        if (groupBy.size() > MAX_DIMENSIONS) {
+            throw new ParseException(String.format(MESSAGE_TOO_MANY_DIMENSIONS, MAX_DIMENSIONS));
+        }
+
+        int limit = 0;
+        if (argMultiMap.getValue(PREFIX_TOP).isPresent()) {
+            String top = argMultiMap.getValue(PREFIX_TOP).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(top)) {
+                throw new ParseException(MESSAGE_INVALID_TOP);
+            }
+            limit = Integer.parseInt(top);
+        }
+
+        LocalDate firstDate = LocalDate.MIN;
+        LocalDate lastDate = LocalDate.MAX;
+        if (argMultiMap.getValue(PREFIX_STARTING_DATE).isPresent()) {
+            Calendar startingDate = ParserUtil.parseDateCalendar(argMultiMap.getValue(PREFIX_STARTING_DATE).get());
+            Calendar endingDate = ParserUtil.parseDateCalendar(argMultiMap.getValue(PREFIX_ENDING_DATE).get());
+            if (startingDate.compareTo(endingDate) > 0) {
+                throw new ParseException(String.format(MESSAGE_INVALID_DATE_INPUT_FORMAT,
+                        SalesAnalysisCommand.MESSAGE_USAGE));
+            }
+            firstDate = DateUtil.getFirstDateFrom(startingDate);
+            lastDate = DateUtil.getLastDateUntil(endingDate);
+        }
+        return new SalesAnalysisCommand(type, groupBy, limit, firstDate, lastDate);
+    }
+
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
      * {@code ArgumentMultimap}.
@@ -15,6 +15,7 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.customer.ContactNumber;
 import seedu.address.model.customer.Customer;
@@ -27,14 +28,16 @@ import seedu.address.model.tag.Tag;
  */
 public class AddCustomerCommandParser implements Parser<AddCustomerCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_CONTACT, PREFIX_EMAIL,
+            PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCustomerCommand
      * and returns an AddCustomerCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCustomerCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_CONTACT, PREFIX_EMAIL, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_CONTACT, PREFIX_EMAIL)
                 || !argMultimap.getPreamble().isEmpty()) {
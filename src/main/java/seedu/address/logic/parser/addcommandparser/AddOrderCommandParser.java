@@ -16,6 +16,7 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.order.Price;
 import seedu.address.model.tag.Tag;
@@ -25,14 +26,16 @@ import seedu.address.model.tag.Tag;
  */
 public class AddOrderCommandParser implements Parser<AddOrderCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_CUSTOMER, PREFIX_PHONE, PREFIX_PRICE,
+            PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddOrderCommand
      * and returns an AddOrderCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddOrderCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_CUSTOMER, PREFIX_PHONE, PREFIX_PRICE, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CUSTOMER, PREFIX_PHONE, PREFIX_PRICE)
                 || !argMultimap.getPreamble().isEmpty()) {
@@ -19,6 +19,7 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 import seedu.address.model.phone.Brand;
@@ -36,15 +37,16 @@ import seedu.address.model.tag.Tag;
  */
 public class AddPhoneCommandParser implements Parser<AddPhoneCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_IDENTITY_NUM, PREFIX_SERIAL_NUM,
+            PREFIX_PHONE_NAME, PREFIX_BRAND, PREFIX_CAPACITY, PREFIX_COLOUR, PREFIX_COST, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddPhoneCommand
      * and returns an AddPhoneCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddPhoneCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_IDENTITY_NUM, PREFIX_SERIAL_NUM, PREFIX_PHONE_NAME,
-                        PREFIX_BRAND, PREFIX_CAPACITY, PREFIX_COLOUR, PREFIX_COST, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_IDENTITY_NUM, PREFIX_SERIAL_NUM, PREFIX_PHONE_NAME,
                 PREFIX_BRAND, PREFIX_CAPACITY, PREFIX_COLOUR, PREFIX_COST)
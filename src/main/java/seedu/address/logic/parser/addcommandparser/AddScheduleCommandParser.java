@@ -19,6 +19,7 @@ import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.Venue;
@@ -29,14 +30,16 @@ import seedu.address.model.tag.Tag;
  */
 public class AddScheduleCommandParser implements Parser<AddScheduleCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_DATE, PREFIX_TIME, PREFIX_VENUE,
+            PREFIX_TAG, PREFIX_ALLOW);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddScheduleCommand
      * and returns an AddScheduleCommand object for execution.
      * @throws ParseException if the user input does not conform to the expected format
      */
     public AddScheduleCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME, PREFIX_VENUE, PREFIX_TAG, PREFIX_ALLOW);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_DATE, PREFIX_TIME, PREFIX_VENUE)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddScheduleCommand.MESSAGE_USAGE));
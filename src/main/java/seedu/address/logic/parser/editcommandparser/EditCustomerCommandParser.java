@@ -19,6 +19,7 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -27,6 +28,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditCustomerCommandParser implements Parser<EditCustomerCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_NAME, PREFIX_CONTACT, PREFIX_EMAIL,
+            PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditCustomerCommand
      * and returns an EditCustomerCommand object for execution.
@@ -34,8 +38,7 @@ public class EditCustomerCommandParser implements Parser<EditCustomerCommand> {
      */
     public EditCustomerCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_CONTACT, PREFIX_EMAIL, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
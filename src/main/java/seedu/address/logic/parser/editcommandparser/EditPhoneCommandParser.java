@@ -23,6 +23,7 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -31,6 +32,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditPhoneCommandParser implements Parser<EditPhoneCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_IDENTITY_NUM, PREFIX_SERIAL_NUM,
+            PREFIX_PHONE_NAME, PREFIX_BRAND, PREFIX_CAPACITY, PREFIX_COLOUR, PREFIX_COST, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditPhoneCommand
      * and returns an EditPhoneCommand object for execution.
@@ -38,9 +42,7 @@ public class EditPhoneCommandParser implements Parser<EditPhoneCommand> {
      */
     public EditPhoneCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_IDENTITY_NUM, PREFIX_SERIAL_NUM, PREFIX_PHONE_NAME,
-                        PREFIX_BRAND, PREFIX_CAPACITY, PREFIX_COLOUR, PREFIX_COST, PREFIX_TAG);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
@@ -20,6 +20,7 @@ import seedu.address.logic.parser.ArgumentMultimap;
 import seedu.address.logic.parser.ArgumentTokenizer;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.PrefixAutomaton;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.tag.Tag;
 
@@ -28,6 +29,9 @@ import seedu.address.model.tag.Tag;
  */
 public class EditScheduleCommandParser implements Parser<EditScheduleCommand> {
 
+    private static final PrefixAutomaton PREFIXES = new PrefixAutomaton(PREFIX_DATE, PREFIX_TIME, PREFIX_VENUE,
+            PREFIX_TAG, PREFIX_ALLOW);
+
     /**
      * Parses the given {@code String} of arguments in the context of the EditScheduleCommand
      * and returns an EditScheduleCommand object for execution.
@@ -35,8 +39,7 @@ public class EditScheduleCommandParser implements Parser<EditScheduleCommand> {
      */
     public EditScheduleCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_DATE, PREFIX_TIME, PREFIX_VENUE, PREFIX_TAG, PREFIX_ALLOW);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIXES);
 
         Index index;
 
@@ -4,7 +4,9 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -15,9 +17,21 @@ import javafx.collections.ObservableList;
 public class DataBook<T extends Identifiable<T>> implements ReadOnlyDataBook<T> {
 
     private final UniqueList<T> dataList;
+    private boolean isModified;
+    // the latest change to the data book, which links to the changes made after it
+    private ChangeRecord lastChange = new ChangeRecord(0, 0, 0);
 
     public DataBook() {
         dataList = new UniqueList<>();
+        dataList.asUnmodifiableObservableList().addListener((ListChangeListener<T>) change -> {
+            isModified = true;
+            while (change.next()) {
+                ChangeRecord record = new ChangeRecord(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSize());
+                lastChange.next = record;
+                lastChange = record;
+            }
+        });
     }
 
     /**
@@ -41,6 +55,15 @@ public class DataBook<T extends Identifiable<T>> implements ReadOnlyDataBook<T>
      */
     public void resetData(ReadOnlyDataBook<T> newData) {
         requireNonNull(newData);
+        if (newData instanceof DataBook) {
+            // another DataBook is already unique, so only the elements that differ need to be replaced
+            dataList.setList(((DataBook<T>) newData).dataList);
+            return;
+        }
+        if (newData instanceof DataBookSnapshot) {
+            dataList.restore(((DataBookSnapshot<T>) newData).getContents());
+            return;
+        }
         setData(newData.getList());
     }
 
@@ -79,6 +102,38 @@ public class DataBook<T extends Identifiable<T>> implements ReadOnlyDataBook<T>
         dataList.remove(key);
     }
 
+    /**
+     * Returns an immutable snapshot of this data book in O(1).
+     * Passing it to {@link #resetData(ReadOnlyDataBook)} later restores this state by replacing only
+     * the elements that have changed since, and a later snapshot knows the range that has changed since this one.
+     */
+    @Override
+    public ReadOnlyDataBook<T> snapshot() {
+        return new DataBookSnapshot<>(dataList.snapshot(), lastChange);
+    }
+
+    /**
+     * Replaces the {@code count} objects starting at index {@code from} with {@code replacement}.
+     * Used to replay changes previously made to this data book.
+     */
+    void replace(int from, int count, List<T> replacement) {
+        dataList.replace(from, count, replacement);
+    }
+
+    /**
+     * Returns true if this data book has been modified since it was created or last marked as saved.
+     */
+    public boolean isModified() {
+        return isModified;
+    }
+
+    /**
+     * Marks the current state of this data book as saved, until it is next modified.
+     */
+    public void markSaved() {
+        isModified = false;
+    }
+
     @Override
     public String toString() {
         return dataList.asUnmodifiableObservableList().size() + " data";
@@ -101,4 +156,52 @@ public class DataBook<T extends Identifiable<T>> implements ReadOnlyDataBook<T>
         return dataList.hashCode();
     }
 
+    /**
+     * A change to a data book that replaced {@code removedCount} objects starting at index {@code from} with
+     * {@code addedCount} objects, and the change made after it, once there is one.
+     * The changes made after one are only kept while something refers to it, such as a snapshot.
+     */
+    static final class ChangeRecord {
+        private final int from;
+        private final int removedCount;
+        private final int addedCount;
+        private volatile ChangeRecord next;
+
+        private ChangeRecord(int from, int removedCount, int addedCount) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.addedCount = addedCount;
+        }
+
+        /**
+         * Returns the range that the changes after this one, up to and including {@code last}, replaced in
+         * a data book that had {@code size} objects, or {@code Optional.empty()} if {@code last} is not one of them.
+         * Takes time proportional to the number of those changes.
+         */
+        Optional<DataBookChange> getChangeUpTo(ChangeRecord last, int size) {
+            boolean isChanged = false;
+            // the changed range, in the indexes of the data book after the changes so far
+            int changedFrom = 0;
+            int changedTo = 0;
+            int currentSize = size;
+            for (ChangeRecord record = this; record != last; ) {
+                record = record.next;
+                if (record == null) {
+                    return Optional.empty();
+                }
+                int removedTo = record.from + record.removedCount;
+                changedFrom = isChanged ? Math.min(changedFrom, record.from) : record.from;
+                changedTo = (isChanged ? Math.max(changedTo, removedTo) : removedTo)
+                        + record.addedCount - record.removedCount;
+                currentSize += record.addedCount - record.removedCount;
+                isChanged = true;
+            }
+
+            int addedCount = changedTo - changedFrom;
+            // the objects outside the changed range are the same as before the changes
+            int removedCount = size - (currentSize - addedCount);
+            return Optional.of(new DataBookChange(changedFrom, removedCount, addedCount));
+        }
+    }
+
 }
@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+/**
+ * A range of a data book that has changed: {@code removedCount} objects starting at index {@code from} were
+ * replaced with {@code addedCount} objects.
+ */
+public class DataBookChange {
+
+    private final int from;
+    private final int removedCount;
+    private final int addedCount;
+
+    /**
+     * Constructs a {@code DataBookChange} that replaced {@code removedCount} objects starting at index {@code from}
+     * with {@code addedCount} objects.
+     */
+    public DataBookChange(int from, int removedCount, int addedCount) {
+        this.from = from;
+        this.removedCount = removedCount;
+        this.addedCount = addedCount;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getRemovedCount() {
+        return removedCount;
+    }
+
+    public int getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * Returns true if nothing was replaced.
+     */
+    public boolean isEmpty() {
+        return removedCount == 0 && addedCount == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DataBookChange // instanceof handles nulls
+                && from == ((DataBookChange) other).from
+                && removedCount == ((DataBookChange) other).removedCount
+                && addedCount == ((DataBookChange) other).addedCount);
+    }
+
+    @Override
+    public int hashCode() {
+        return (from * 31 + removedCount) * 31 + addedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "replaced " + removedCount + " from " + from + " with " + addedCount;
+    }
+
+}
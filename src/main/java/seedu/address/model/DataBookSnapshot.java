@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An immutable view of a {@code DataBook} at the moment it was taken.
+ * Shares its structure with the data book it was taken from, so taking one costs O(1).
+ * @param <T> A class that implements {@code Identifiable}.
+ */
+final class DataBookSnapshot<T extends Identifiable<T>> implements ReadOnlyDataBook<T> {
+
+    private final PersistentList<T> contents;
+    // the last change made to the data book before the snapshot was taken
+    private final DataBook.ChangeRecord lastChange;
+    private volatile ObservableList<T> list;
+
+    DataBookSnapshot(PersistentList<T> contents, DataBook.ChangeRecord lastChange) {
+        requireNonNull(contents);
+        requireNonNull(lastChange);
+        this.contents = contents;
+        this.lastChange = lastChange;
+    }
+
+    PersistentList<T> getContents() {
+        return contents;
+    }
+
+    @Override
+    public ObservableList<T> getList() {
+        // built on first use only, since most snapshots are restored without ever being read
+        if (list == null) {
+            list = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(contents.toList()));
+        }
+        return list;
+    }
+
+    @Override
+    public ReadOnlyDataBook<T> snapshot() {
+        return this;
+    }
+
+    /**
+     * Returns the range changed since {@code earlier} if it is an earlier snapshot of the same data book,
+     * in time proportional to the number of changes made in between.
+     */
+    @Override
+    public Optional<DataBookChange> getChangeSince(ReadOnlyDataBook<T> earlier) {
+        requireNonNull(earlier);
+        if (!(earlier instanceof DataBookSnapshot)) {
+            return Optional.empty();
+        }
+        DataBookSnapshot<T> earlierSnapshot = (DataBookSnapshot<T>) earlier;
+        return earlierSnapshot.lastChange.getChangeUpTo(lastChange, earlierSnapshot.contents.size());
+    }
+
+    @Override
+    public List<T> getRange(int from, int to) {
+        List<T> range = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            range.add(contents.get(i));
+        }
+        return range;
+    }
+
+    @Override
+    public String toString() {
+        return contents.size() + " data";
+    }
+
+}
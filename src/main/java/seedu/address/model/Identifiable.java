@@ -1,9 +1,18 @@
 package seedu.address.model;
 
+import java.util.List;
+
 /**
  * Classes that implement this interface declare that their instances are able to be uniquely identified.
  * @param <T> Any class whose instances are capable of being identified uniquely.
  */
 public interface Identifiable<T> {
     boolean isSameAs(T other);
+
+    /**
+     * Returns the identity fields of this object, in a fixed order.
+     * Two objects are the same as defined by {@link #isSameAs(Object)} if and only if
+     * they have an equal key at the same position, so that identity checks can be hashed.
+     */
+    List<Object> getIdentityKeys();
 }
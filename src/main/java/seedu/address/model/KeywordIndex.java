@@ -0,0 +1,181 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index from the short substrings of the words in the searchable fields of the elements of a list,
+ * ignoring case, to the elements whose fields contain them.
+ * It narrows down the elements whose fields may contain a keyword to those containing every substring of
+ * {@value #GRAM_LENGTH} characters of the keyword, so that only those need to be searched.
+ * It listens to the list, so it stays consistent with every change to the list, including the changes
+ * replayed by undo and redo.
+ * @param <T> The type of the elements of the list.
+ */
+class KeywordIndex<T> {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Function<T, List<String>> fieldsOf;
+    private final ObservableList<T> list;
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Creates an index of the elements of {@code list} by the fields that {@code fieldsOf} says are searchable.
+     */
+    KeywordIndex(ObservableList<T> list, Function<T, List<String>> fieldsOf) {
+        requireNonNull(fieldsOf);
+        this.fieldsOf = fieldsOf;
+        this.list = list;
+        list.forEach(this::add);
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the elements whose fields may contain every one of {@code keywords} within a word, ignoring case.
+     * These include every element whose fields do, so testing only them gives the same result as testing the
+     * whole list. The returned set compares elements by identity.
+     */
+    Set<T> getCandidates(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> candidates = null;
+        for (String keyword : keywords) {
+            for (String gram : getQueryGrams(keyword.trim().toLowerCase())) {
+                Set<T> elements = postings.getOrDefault(gram, Collections.emptySet());
+                candidates = candidates == null ? copyOf(elements) : retainAll(candidates, elements);
+                if (candidates.isEmpty()) {
+                    return candidates;
+                }
+            }
+        }
+        return candidates == null ? copyOf(list) : candidates;
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, which tests that the fields of an
+     * element contain every one of {@code keywords}, but rejects the elements in the list now that are not
+     * candidates without testing them.
+     * Elements added to the list later, such as edited elements, are always tested.
+     */
+    Predicate<T> narrow(List<String> keywords, Predicate<T> predicate) {
+        requireNonNull(predicate);
+        Set<T> candidates = getCandidates(keywords);
+        Set<T> indexed = copyOf(list);
+        return element -> indexed.contains(element)
+                ? candidates.contains(element) && predicate.test(element)
+                : predicate.test(element);
+    }
+
+    /**
+     * Indexes {@code element} under every substring of its words.
+     */
+    private void add(T element) {
+        for (String gram : getIndexGrams(element)) {
+            postings.computeIfAbsent(gram, unused -> newIdentitySet()).add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element} from the index.
+     */
+    private void remove(T element) {
+        for (String gram : getIndexGrams(element)) {
+            postings.computeIfPresent(gram, (unused, elements) -> {
+                elements.remove(element);
+                return elements.isEmpty() ? null : elements;
+            });
+        }
+    }
+
+    /**
+     * Returns every substring of up to {@value #GRAM_LENGTH} characters of the words in the fields of
+     * {@code element}, in lower case.
+     */
+    private Set<String> getIndexGrams(T element) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fieldsOf.apply(element)) {
+            for (String word : field.toLowerCase().split("\\s+")) {
+                for (int start = 0; start < word.length(); start++) {
+                    int maxEnd = Math.min(start + GRAM_LENGTH, word.length());
+                    for (int end = start + 1; end <= maxEnd; end++) {
+                        grams.add(word.substring(start, end));
+                    }
+                }
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the substrings that a word must contain to contain {@code keyword}: the keyword itself if it is
+     * no longer than {@value #GRAM_LENGTH} characters, or else every substring of that length.
+     */
+    private static Set<String> getQueryGrams(String keyword) {
+        Set<String> grams = new HashSet<>();
+        if (keyword.length() <= GRAM_LENGTH) {
+            if (!keyword.isEmpty()) {
+                grams.add(keyword);
+            }
+            return grams;
+        }
+        for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+            grams.add(keyword.substring(start, start + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * Returns the elements of {@code candidates} that are also in {@code elements}, reusing {@code candidates}
+     * unless {@code elements} is the smaller set.
+     */
+    private Set<T> retainAll(Set<T> candidates, Set<T> elements) {
+        if (elements.size() < candidates.size()) {
+            Set<T> smaller = newIdentitySet();
+            for (T element : elements) {
+                if (candidates.contains(element)) {
+                    smaller.add(element);
+                }
+            }
+            return smaller;
+        }
+        candidates.retainAll(elements);
+        return candidates;
+    }
+
+    /**
+     * Returns a new set of the elements of {@code elements} that compares them by identity.
+     */
+    private Set<T> copyOf(Iterable<T> elements) {
+        Set<T> copy = newIdentitySet();
+        elements.forEach(copy::add);
+        return copy;
+    }
+
+    /**
+     * Returns a new empty set that compares its elements by identity.
+     */
+    private Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
@@ -2,14 +2,19 @@ package seedu.address.model;
 
 import java.util.Calendar;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.predicates.CustomerContainsKeywordsPredicate;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.predicates.OrderContainsKeywordsPredicate;
 import seedu.address.model.phone.Phone;
+import seedu.address.model.phone.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleConflict;
 
 /**
  * The API of the Model component.
@@ -91,6 +96,13 @@ public interface Model {
      */
     void updateFilteredCustomerList(Predicate<Customer> predicate);
 
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, but only tests the customers whose
+     * searchable fields the keyword index says may contain its keywords, and rejects the other customers at once.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Predicate<Customer> getIndexedCustomerPredicate(CustomerContainsKeywordsPredicate predicate);
+
     //// phone operations
 
     /**
@@ -134,6 +146,13 @@ public interface Model {
      */
     void updateFilteredPhoneList(Predicate<Phone> predicate);
 
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, but only tests the phones whose
+     * searchable fields the keyword index says may contain its keywords, and rejects the other phones at once.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Predicate<Phone> getIndexedPhonePredicate(PhoneContainsKeywordsPredicate predicate);
+
     ////order operations
 
     /**
@@ -177,6 +196,13 @@ public interface Model {
      */
     void updateFilteredOrderList(Predicate<Order> predicate);
 
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, but only tests the orders whose
+     * searchable fields the keyword index says may contain its keywords, and rejects the other orders at once.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Predicate<Order> getIndexedOrderPredicate(OrderContainsKeywordsPredicate predicate);
+
     ////schedule operations
 
     /**
@@ -225,6 +251,22 @@ public interface Model {
      */
     List<Schedule> getConflictingSchedules(Schedule schedule);
 
+    /**
+     * Returns every pair of schedules of orders in the order book that overlap in time,
+     * sorted by the start time of their later schedule.
+     */
+    List<ScheduleConflict> getScheduleConflicts();
+
+    /**
+     * Returns a schedule in the schedule book with the earliest start time, if there are any schedules.
+     */
+    Optional<Schedule> getEarliestSchedule();
+
+    /**
+     * Returns a schedule in the schedule book with the latest start time, if there are any schedules.
+     */
+    Optional<Schedule> getLatestSchedule();
+
     /**
      * Returns the CalendarDate object.
      */
@@ -284,4 +326,34 @@ public interface Model {
      * orderBook if otherwise.
      */
     void resolveOrderBooksConflict();
+
+    /**
+     * Starts recording every change made to the data books, discarding any recording in progress.
+     */
+    void startRecordingChanges();
+
+    /**
+     * Stops recording and returns the changes made to the data books since recording started.
+     */
+    ModelChangeLog stopRecordingChanges();
+
+    /** Returns true if the CustomerBook has been modified since it was last marked as saved. */
+    boolean isCustomerBookModified();
+
+    /** Returns true if the PhoneBook has been modified since it was last marked as saved. */
+    boolean isPhoneBookModified();
+
+    /** Returns true if the OrderBook has been modified since it was last marked as saved. */
+    boolean isOrderBookModified();
+
+    /** Returns true if the ScheduleBook has been modified since it was last marked as saved. */
+    boolean isScheduleBookModified();
+
+    /** Returns true if the ArchivedOrderBook has been modified since it was last marked as saved. */
+    boolean isArchivedOrderBookModified();
+
+    /**
+     * Marks the current state of all the books as saved.
+     */
+    void markBooksSaved();
 }
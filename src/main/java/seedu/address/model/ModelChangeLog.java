@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A record of the changes made to the data books of a {@code ModelManager} while it was recording,
+ * including any cascades into other books.
+ * Reverting or reapplying it replays only the recorded changes, so its cost scales with the size
+ * of the change rather than the size of the data.
+ */
+public class ModelChangeLog {
+
+    private final List<Change<?>> changes = new ArrayList<>();
+    private int size;
+
+    /**
+     * Records that the elements {@code removed} starting at index {@code from} of {@code book}
+     * were replaced with {@code added}.
+     */
+    <T extends Identifiable<T>> void record(DataBook<T> book, int from, List<T> removed, List<T> added) {
+        requireAllNonNull(book, removed, added);
+        changes.add(new Change<>(book, from, removed, added));
+        size += removed.size() + added.size();
+    }
+
+    /**
+     * Reverts the recorded changes, from the latest to the earliest.
+     */
+    public void revert() {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert();
+        }
+    }
+
+    /**
+     * Reapplies the recorded changes, from the earliest to the latest.
+     */
+    public void reapply() {
+        changes.forEach(Change::reapply);
+    }
+
+    /**
+     * Returns the number of elements added or removed by the recorded changes.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * A replacement of a contiguous range of elements in a {@code DataBook}.
+     */
+    private static class Change<T extends Identifiable<T>> {
+        private final DataBook<T> book;
+        private final int from;
+        private final List<T> removed;
+        private final List<T> added;
+
+        private Change(DataBook<T> book, int from, List<T> removed, List<T> added) {
+            this.book = book;
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        private void revert() {
+            book.replace(from, added.size(), removed);
+        }
+
+        private void reapply() {
+            book.replace(from, removed.size(), added);
+        }
+    }
+
+}
@@ -6,21 +6,27 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.predicates.CustomerContainsKeywordsPredicate;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.Status;
+import seedu.address.model.order.predicates.OrderContainsKeywordsPredicate;
 import seedu.address.model.phone.Phone;
+import seedu.address.model.phone.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleConflict;
 
 /**
  * Represents the in-memory model of the SML data.
@@ -40,33 +46,24 @@ public class ModelManager implements Model {
     private final FilteredList<Schedule> filteredSchedules;
     private final FilteredList<Order> filteredArchivedOrders;
 
+    private final ReverseIndex<Customer, Order> ordersByCustomer;
+    private final ReverseIndex<Phone, Order> ordersByPhone;
+    private final ReverseIndex<UUID, Order> ordersByScheduleId;
+    private final ScheduleTimeIndex schedulesByStartTime;
+    private final KeywordIndex<Customer> customersByKeyword;
+    private final KeywordIndex<Phone> phonesByKeyword;
+    private final KeywordIndex<Order> ordersByKeyword;
+
     private final UserPrefs userPrefs;
     private final CalendarDate calendarDate;
 
+    private ModelChangeLog changeLog;
+
     /**
-     * Initializes a ModelManager with the given userPrefs.
+     * Initializes a ModelManager with empty data books and the given userPrefs.
      */
     public ModelManager(ReadOnlyUserPrefs userPrefs) {
-        super();
-        requireAllNonNull(userPrefs);
-
-        logger.fine("Initializing with user prefs " + userPrefs);
-
-        this.userPrefs = new UserPrefs(userPrefs);
-
-        this.customerBook = new DataBook<>();
-        this.phoneBook = new DataBook<>();
-        this.orderBook = new DataBook<>();
-        this.scheduleBook = new DataBook<>();
-        this.archivedOrderBook = new DataBook<>();
-
-        this.filteredCustomers = new FilteredList<>(this.customerBook.getList());
-        this.filteredPhones = new FilteredList<>(this.phoneBook.getList());
-        this.filteredOrders = new FilteredList<>(this.orderBook.getList());
-        this.filteredSchedules = new FilteredList<>(this.scheduleBook.getList());
-        this.filteredArchivedOrders = new FilteredList<>(this.archivedOrderBook.getList());
-
-        this.calendarDate = new CalendarDate(Calendar.getInstance());
+        this(new DataBook<>(), new DataBook<>(), new DataBook<>(), new DataBook<>(), new DataBook<>(), userPrefs);
     }
 
     public ModelManager() {
@@ -91,6 +88,8 @@ public class ModelManager implements Model {
         this.orderBook = new DataBook<>(orderBook);
         this.scheduleBook = new DataBook<>(scheduleBook);
         this.archivedOrderBook = new DataBook<>(archivedOrderBook);
+        // the books start out as given, so only the changes made from here on need saving
+        markBooksSaved();
 
         resolveOrderBooksConflict();
 
@@ -102,6 +101,94 @@ public class ModelManager implements Model {
         this.filteredOrders = new FilteredList<>(this.orderBook.getList());
         this.filteredSchedules = new FilteredList<>(this.scheduleBook.getList());
         this.filteredArchivedOrders = new FilteredList<>(this.archivedOrderBook.getList());
+
+        this.ordersByCustomer = new ReverseIndex<>(this.orderBook.getList(), order -> Optional.of(order.getCustomer()));
+        this.ordersByPhone = new ReverseIndex<>(this.orderBook.getList(), order -> Optional.of(order.getPhone()));
+        this.ordersByScheduleId = new ReverseIndex<>(
+                this.orderBook.getList(), order -> order.getSchedule().map(Schedule::getId));
+        this.schedulesByStartTime = new ScheduleTimeIndex(this.scheduleBook.getList());
+        this.customersByKeyword = new KeywordIndex<>(this.customerBook.getList(),
+                CustomerContainsKeywordsPredicate::getSearchableFields);
+        this.phonesByKeyword = new KeywordIndex<>(this.phoneBook.getList(),
+                PhoneContainsKeywordsPredicate::getSearchableFields);
+        this.ordersByKeyword = new KeywordIndex<>(this.orderBook.getList(),
+                OrderContainsKeywordsPredicate::getSearchableFields);
+
+        recordChangesTo(this.customerBook, this.phoneBook, this.orderBook, this.scheduleBook,
+                this.archivedOrderBook);
+    }
+
+    //=========== Change recording ============================================================================
+
+    /**
+     * Records the changes made to each of {@code dataBooks} while recording.
+     */
+    private void recordChangesTo(DataBook<?>... dataBooks) {
+        for (DataBook<?> dataBook : dataBooks) {
+            recordChangesTo(dataBook);
+        }
+    }
+
+    /**
+     * Adds every change made to the list of {@code dataBook} to {@code changeLog} while recording.
+     */
+    private <T extends Identifiable<T>> void recordChangesTo(DataBook<T> dataBook) {
+        dataBook.getList().addListener((ListChangeListener<T>) change -> {
+            if (changeLog == null) {
+                return;
+            }
+            while (change.next()) {
+                assert !change.wasPermutated() : "UniqueList never permutes its elements";
+                changeLog.record(dataBook, change.getFrom(), new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList()));
+            }
+        });
+    }
+
+    @Override
+    public void startRecordingChanges() {
+        changeLog = new ModelChangeLog();
+    }
+
+    @Override
+    public ModelChangeLog stopRecordingChanges() {
+        ModelChangeLog recorded = changeLog == null ? new ModelChangeLog() : changeLog;
+        changeLog = null;
+        return recorded;
+    }
+
+    @Override
+    public boolean isCustomerBookModified() {
+        return customerBook.isModified();
+    }
+
+    @Override
+    public boolean isPhoneBookModified() {
+        return phoneBook.isModified();
+    }
+
+    @Override
+    public boolean isOrderBookModified() {
+        return orderBook.isModified();
+    }
+
+    @Override
+    public boolean isScheduleBookModified() {
+        return scheduleBook.isModified();
+    }
+
+    @Override
+    public boolean isArchivedOrderBookModified() {
+        return archivedOrderBook.isModified();
+    }
+
+    @Override
+    public void markBooksSaved() {
+        customerBook.markSaved();
+        phoneBook.markSaved();
+        orderBook.markSaved();
+        scheduleBook.markSaved();
+        archivedOrderBook.markSaved();
     }
 
     //=========== UserPrefs ==================================================================================
@@ -153,13 +240,8 @@ public class ModelManager implements Model {
         // cascade
         logger.info("Cascade deleting order in OrderBook.");
 
-        List<Order> orders = orderBook.getList();
-        for (int i = orders.size() - 1; i >= 0; i--) {
-            Order order = orders.get(i);
-            if (order.getCustomer().equals(target)) {
-                deleteOrder(order);
-                break;
-            }
+        for (Order order : ordersByCustomer.get(target)) {
+            deleteOrder(order);
         }
     }
 
@@ -177,15 +259,10 @@ public class ModelManager implements Model {
         // cascade
         logger.info("Cascade editing order in OrderBook.");
 
-        List<Order> orders = orderBook.getList();
-        for (int i = orders.size() - 1; i >= 0; i--) {
-            Order order = orders.get(i);
-            if (order.getCustomer().equals(target)) {
-                Order editedOrder = new Order(order.getId(), editedCustomer, order.getPhone(),
-                        order.getPrice(), order.getStatus(), order.getSchedule(), order.getTags());
-                orderBook.set(order, editedOrder);
-                break;
-            }
+        for (Order order : ordersByCustomer.get(target)) {
+            Order editedOrder = new Order(order.getId(), editedCustomer, order.getPhone(),
+                    order.getPrice(), order.getStatus(), order.getSchedule(), order.getTags());
+            orderBook.set(order, editedOrder);
         }
     }
 
@@ -205,6 +282,12 @@ public class ModelManager implements Model {
         filteredCustomers.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Customer> getIndexedCustomerPredicate(CustomerContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return customersByKeyword.narrow(predicate.getKeywords(), predicate);
+    }
+
     //=========== phoneBook ================================================================================
 
     @Override
@@ -230,14 +313,8 @@ public class ModelManager implements Model {
         // cascade
         logger.info("Cascade deleting orders in OrderBook.");
 
-        List<Order> orders = orderBook.getList();
-
-        for (int i = orders.size() - 1; i >= 0; i--) {
-            Order order = orders.get(i);
-            if (order.getPhone().equals(target)) {
-                deleteOrder(order);
-                break;
-            }
+        for (Order order : ordersByPhone.get(target)) {
+            deleteOrder(order);
         }
     }
 
@@ -255,16 +332,10 @@ public class ModelManager implements Model {
         // cascade
         logger.info("Cascade editing Orders in OrderBook.");
 
-        List<Order> orders = orderBook.getList();
-
-        for (int i = orders.size() - 1; i >= 0; i--) {
-            Order order = orders.get(i);
-            if (order.getPhone().equals(target)) {
-                Order editedOrder = new Order(order.getId(), order.getCustomer(), editedPhone,
-                        order.getPrice(), order.getStatus(), order.getSchedule(), order.getTags());
-                setOrder(order, editedOrder);
-                break;
-            }
+        for (Order order : ordersByPhone.get(target)) {
+            Order editedOrder = new Order(order.getId(), order.getCustomer(), editedPhone,
+                    order.getPrice(), order.getStatus(), order.getSchedule(), order.getTags());
+            setOrder(order, editedOrder);
         }
     }
 
@@ -284,6 +355,12 @@ public class ModelManager implements Model {
         filteredPhones.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Phone> getIndexedPhonePredicate(PhoneContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return phonesByKeyword.narrow(predicate.getKeywords(), predicate);
+    }
+
     //=========== Order DataBook ================================================================================
 
     @Override
@@ -343,6 +420,12 @@ public class ModelManager implements Model {
         filteredOrders.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Order> getIndexedOrderPredicate(OrderContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return ordersByKeyword.narrow(predicate.getKeywords(), predicate);
+    }
+
     //=========== Schedule DataBook ================================================================================
 
     @Override
@@ -369,15 +452,10 @@ public class ModelManager implements Model {
 
         // cascade
         logger.info("Cascade deleting schedules in OrderBook.");
-        List<Order> orders = orderBook.getList();
-        for (Order order : orders) {
-            order.getSchedule().ifPresent(schedule -> {
-                if (schedule.equals(target)) {
-                    Order editedOrder = new Order(order.getId(), order.getCustomer(), order.getPhone(),
-                            order.getPrice(), Status.UNSCHEDULED, Optional.empty(), order.getTags());
-                    setOrder(order, editedOrder);
-                }
-            });
+        for (Order order : ordersByScheduleId.get(target.getId())) {
+            Order editedOrder = new Order(order.getId(), order.getCustomer(), order.getPhone(),
+                    order.getPrice(), Status.UNSCHEDULED, Optional.empty(), order.getTags());
+            setOrder(order, editedOrder);
         }
     }
 
@@ -397,44 +475,41 @@ public class ModelManager implements Model {
 
         // cascade
         logger.info("Cascade edited schedules in OrderBook.");
-        List<Order> orders = orderBook.getList();
-        for (Order order : orders) {
-            order.getSchedule().ifPresent(schedule -> {
-                if (schedule.equals(target)) {
-                    Order editedOrder = new Order(order.getId(), order.getCustomer(), order.getPhone(),
-                            order.getPrice(), order.getStatus(), Optional.of(editedSchedule), order.getTags());
-                    orderBook.set(order, editedOrder);
-                }
-            });
+        for (Order order : ordersByScheduleId.get(target.getId())) {
+            Order editedOrder = new Order(order.getId(), order.getCustomer(), order.getPhone(),
+                    order.getPrice(), order.getStatus(), Optional.of(editedSchedule), order.getTags());
+            orderBook.set(order, editedOrder);
         }
     }
 
     @Override
     public List<Schedule> getConflictingSchedules(Schedule schedule) {
         requireNonNull(schedule);
-        List<Schedule> conflicts = new ArrayList<>();
-
-        Calendar startTime = schedule.getCalendar();
-        Calendar earliestUnconflictedStartTime = (Calendar) startTime.clone();
-        earliestUnconflictedStartTime.add(Calendar.HOUR_OF_DAY, -1);
-        Calendar latestUnconflictedStartTime = (Calendar) startTime.clone();
-        latestUnconflictedStartTime.add(Calendar.HOUR_OF_DAY, 1);
-
-        List<Schedule> schedules = scheduleBook.getList();
+        long meetupDuration = userPrefs.getMeetupDuration();
 
         // defensive filter for orderless schedule - in 0 orders
         // extra filter for same schedule
-        schedules.stream()
-                .filter(x -> orderBook.getList().stream()
-                        .filter(y -> y.getSchedule().isPresent())
-                        .anyMatch(y -> y.getSchedule().get().isSameAs(x)))
+        return schedulesByStartTime.getStartingWithin(ScheduleTimeIndex.getStartTime(schedule), meetupDuration)
+                .stream()
+                .filter(x -> ordersByScheduleId.contains(x.getId()))
                 .filter(x -> !x.isSameAs(schedule))
-                .filter(x -> x.getCalendar().after(earliestUnconflictedStartTime))
-                .filter(x -> x.getCalendar().before(latestUnconflictedStartTime))
-                .sorted(Comparator.comparing(Schedule::getCalendar))
-                .forEach(conflicts::add);
+                .collect(Collectors.toList());
+    }
 
-        return conflicts;
+    @Override
+    public List<ScheduleConflict> getScheduleConflicts() {
+        long meetupDuration = userPrefs.getMeetupDuration();
+        return schedulesByStartTime.getConflicts(meetupDuration, x -> ordersByScheduleId.contains(x.getId()));
+    }
+
+    @Override
+    public Optional<Schedule> getEarliestSchedule() {
+        return schedulesByStartTime.getEarliest();
+    }
+
+    @Override
+    public Optional<Schedule> getLatestSchedule() {
+        return schedulesByStartTime.getLatest();
     }
 
     //=========== Filtered Schedule List Accessors =============================================================
@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an exact amount of money in the SML, held as a whole number of cents.
+ * Guarantees: immutable.
+ */
+public class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    private static final int CENTS_PER_DOLLAR = 100;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Returns the amount of {@code cents} cents.
+     */
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Parses an amount of the form $dollars[.cents] with at most 2 decimals, such as a valid price or cost,
+     * without going through a floating point value.
+     *
+     * @throws NumberFormatException if {@code amount} is not of that form.
+     */
+    public static Money parse(String amount) {
+        requireNonNull(amount);
+        if (!amount.startsWith("$")) {
+            throw new NumberFormatException("Amount does not start with $: " + amount);
+        }
+        int point = amount.indexOf('.');
+        if (point == -1) {
+            return ofCents(Math.multiplyExact(Long.parseLong(amount.substring(1)), CENTS_PER_DOLLAR));
+        }
+        String decimals = amount.substring(point + 1);
+        if (decimals.isEmpty() || decimals.length() > 2 || !Character.isDigit(decimals.charAt(0))) {
+            throw new NumberFormatException("Amount does not have 1 or 2 decimals: " + amount);
+        }
+        long fraction = Long.parseLong(decimals) * (decimals.length() == 1 ? 10 : 1);
+        return ofCents(Math.multiplyExact(Long.parseLong(amount.substring(1, point)), CENTS_PER_DOLLAR) + fraction);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    /**
+     * Returns the amount in dollars, which is the closest {@code double} to the exact amount.
+     */
+    public double toDollars() {
+        return (double) cents / CENTS_PER_DOLLAR;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Returns the amount in the form $dollars.cents, which always has 2 decimals.
+     */
+    @Override
+    public String toString() {
+        long absoluteCents = Math.abs(cents);
+        return String.format("%s$%d.%02d", cents < 0 ? "-" : "", absoluteCents / CENTS_PER_DOLLAR,
+                absoluteCents % CENTS_PER_DOLLAR);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Money // instanceof handles nulls
+                && cents == ((Money) other).cents); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+}
@@ -0,0 +1,272 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list backed by a size-indexed AVL tree.
+ * Every update returns a new list that shares all untouched subtrees with the old one,
+ * so keeping an old version around costs nothing and each update costs O(log n).
+ *
+ * @param <T> The type of the elements.
+ */
+final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list with the same elements as {@code elements}, in the same order.
+     */
+    static <T> PersistentList<T> of(List<T> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end of this list.
+     */
+    PersistentList<T> add(T element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    PersistentList<T> add(int index, T element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    PersistentList<T> set(int index, T element) {
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     */
+    PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(delete(root, index));
+    }
+
+    /**
+     * Returns the elements of this list as a new mutable {@code List}.
+     */
+    List<T> toList() {
+        List<T> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new TreeIterator<>(root, false);
+    }
+
+    /**
+     * Returns an iterator over the elements of this list from the last to the first.
+     */
+    Iterator<T> descendingIterator() {
+        return new TreeIterator<>(root, true);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    //=========== Tree operations ===============================================================================
+
+    /**
+     * Returns a perfectly balanced tree of the elements of {@code elements} in the range [from, to).
+     */
+    private static <T> Node<T> build(List<T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with {@code element} inserted at {@code index}.
+     */
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with the element at {@code index} replaced.
+     */
+    private static <T> Node<T> replace(Node<T> node, int index, T element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    /**
+     * Returns a copy of the tree at {@code node} with the element at {@code index} removed.
+     */
+    private static <T> Node<T> delete(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, delete(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, delete(node.right, 0));
+    }
+
+    /**
+     * Joins {@code left}, {@code value} and {@code right} into a node, rotating once or twice if
+     * the heights of the two subtrees differ by more than one.
+     */
+    private static <T> Node<T> balance(T value, Node<T> left, Node<T> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value, new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value, new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node that caches the size and height of its subtree.
+     */
+    private static final class Node<T> {
+        private final T value;
+        private final Node<T> left;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        private Node(T value, Node<T> left, Node<T> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * An in-order iterator over a tree, in either direction.
+     */
+    private static final class TreeIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+        private final boolean isDescending;
+
+        private TreeIterator(Node<T> root, boolean isDescending) {
+            this.isDescending = isDescending;
+            descend(root);
+        }
+
+        /**
+         * Pushes {@code node} and its nearest descendants in the direction of iteration onto the path.
+         */
+        private void descend(Node<T> node) {
+            while (node != null) {
+                path.push(node);
+                node = isDescending ? node.right : node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            descend(isDescending ? node.left : node.right);
+            return node.value;
+        }
+    }
+
+}
@@ -1,5 +1,10 @@
 package seedu.address.model;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
 /**
@@ -13,5 +18,28 @@ public interface ReadOnlyDataBook<T> {
      */
     ObservableList<T> getList();
 
+    /**
+     * Returns an immutable copy of the current contents, which is unaffected by later changes to this data book.
+     */
+    default ReadOnlyDataBook<T> snapshot() {
+        ObservableList<T> copy = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(getList()));
+        return () -> copy;
+    }
+
+    /**
+     * Returns the range that has changed since {@code earlier}, an earlier snapshot of this data book,
+     * or {@code Optional.empty()} if it is not known.
+     */
+    default Optional<DataBookChange> getChangeSince(ReadOnlyDataBook<T> earlier) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the objects from index {@code from}, inclusive, to index {@code to}, exclusive.
+     */
+    default List<T> getRange(int from, int to) {
+        return new ArrayList<>(getList().subList(from, to));
+    }
+
 }
 
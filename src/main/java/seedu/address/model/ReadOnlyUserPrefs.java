@@ -21,4 +21,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getArchivedOrderBookFilePath();
 
+    /**
+     * Returns the length of a meetup in minutes.
+     * Meetups that start less than this apart are conflicting.
+     */
+    int getMeetupDuration();
+
 }
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index from the objects that the elements of a list refer to, such as the customer of an order, to the
+ * elements that refer to them.
+ * It listens to the list, so it stays consistent with every change to the list, including the changes
+ * replayed by undo and redo.
+ * @param <K> The type of the objects referred to.
+ * @param <T> The type of the elements of the list.
+ */
+class ReverseIndex<K, T> {
+
+    private final Function<T, Optional<K>> keyOf;
+    private final Map<K, Set<T>> index = new HashMap<>();
+
+    /**
+     * Creates an index of the elements of {@code list} by the object that {@code keyOf} says each of them
+     * refers to, if any.
+     */
+    ReverseIndex(ObservableList<T> list, Function<T, Optional<K>> keyOf) {
+        requireNonNull(keyOf);
+        this.keyOf = keyOf;
+        list.forEach(this::add);
+        list.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the elements that refer to {@code key}, in the order they were added to the index.
+     * The returned list is a copy, so the list being indexed can be changed while iterating over it.
+     */
+    List<T> get(K key) {
+        requireNonNull(key);
+        return new ArrayList<>(index.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * Returns true if any element refers to {@code key}.
+     */
+    boolean contains(K key) {
+        requireNonNull(key);
+        return index.containsKey(key);
+    }
+
+    /**
+     * Indexes {@code element} under the object it refers to.
+     */
+    private void add(T element) {
+        keyOf.apply(element).ifPresent(key -> index.computeIfAbsent(key, unused -> new LinkedHashSet<>())
+                .add(element));
+    }
+
+    /**
+     * Removes {@code element} from the index.
+     */
+    private void remove(T element) {
+        keyOf.apply(element).ifPresent(key -> index.computeIfPresent(key, (unused, elements) -> {
+            elements.remove(element);
+            return elements.isEmpty() ? null : elements;
+        }));
+    }
+
+}
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleConflict;
+
+/**
+ * An index of the schedules in a list by their start time, in epoch minutes.
+ * It listens to the list, so it stays consistent with every change to the list, including the changes
+ * replayed by undo and redo.
+ * Since all meetups last equally long, two meetups overlap exactly when they start less than one meetup
+ * duration apart, so the schedules that overlap a meetup are found in O(log n + k) by a range query.
+ */
+class ScheduleTimeIndex {
+
+    private final NavigableMap<Long, Set<Schedule>> schedulesByStartTime = new TreeMap<>();
+
+    /**
+     * Creates an index of the schedules in {@code schedules}.
+     */
+    ScheduleTimeIndex(ObservableList<Schedule> schedules) {
+        schedules.forEach(this::add);
+        schedules.addListener((ListChangeListener<Schedule>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::add);
+            }
+        });
+    }
+
+    /**
+     * Returns the schedules that start less than {@code duration} minutes before or after
+     * {@code startTime}, sorted by their start time.
+     */
+    List<Schedule> getStartingWithin(long startTime, long duration) {
+        List<Schedule> schedules = new ArrayList<>();
+        schedulesByStartTime.subMap(startTime - duration, false, startTime + duration, false)
+                .values().forEach(schedules::addAll);
+        return schedules;
+    }
+
+    /**
+     * Returns every pair of schedules accepted by {@code isIncluded} that start less than {@code duration}
+     * minutes apart, found in one sweep over the schedules in order of their start time.
+     * The pairs are sorted by the start time of their later schedule, then by that of their earlier schedule.
+     */
+    List<ScheduleConflict> getConflicts(long duration, Predicate<Schedule> isIncluded) {
+        List<ScheduleConflict> conflicts = new ArrayList<>();
+        // the schedules that started less than duration before the schedule being swept
+        Deque<Schedule> startedWithinDuration = new ArrayDeque<>();
+        for (Set<Schedule> schedules : schedulesByStartTime.values()) {
+            for (Schedule schedule : schedules) {
+                if (!isIncluded.test(schedule)) {
+                    continue;
+                }
+                long startTime = getStartTime(schedule);
+                while (!startedWithinDuration.isEmpty()
+                        && getStartTime(startedWithinDuration.peekFirst()) <= startTime - duration) {
+                    startedWithinDuration.removeFirst();
+                }
+                for (Schedule earlier : startedWithinDuration) {
+                    conflicts.add(new ScheduleConflict(earlier, schedule));
+                }
+                startedWithinDuration.addLast(schedule);
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns a schedule with the earliest start time, if there are any schedules.
+     */
+    Optional<Schedule> getEarliest() {
+        return Optional.ofNullable(schedulesByStartTime.firstEntry())
+                .map(entry -> entry.getValue().iterator().next());
+    }
+
+    /**
+     * Returns a schedule with the latest start time, if there are any schedules.
+     */
+    Optional<Schedule> getLatest() {
+        return Optional.ofNullable(schedulesByStartTime.lastEntry())
+                .map(entry -> entry.getValue().iterator().next());
+    }
+
+    /**
+     * Indexes {@code schedule} by its start time.
+     */
+    private void add(Schedule schedule) {
+        schedulesByStartTime.computeIfAbsent(getStartTime(schedule), unused -> new LinkedHashSet<>()).add(schedule);
+    }
+
+    /**
+     * Removes {@code schedule} from the index.
+     */
+    private void remove(Schedule schedule) {
+        schedulesByStartTime.computeIfPresent(getStartTime(schedule), (unused, schedules) -> {
+            schedules.remove(schedule);
+            return schedules.isEmpty() ? null : schedules;
+        });
+    }
+
+    /**
+     * Returns the start time of {@code schedule} in epoch minutes.
+     */
+    static long getStartTime(Schedule schedule) {
+        requireNonNull(schedule);
+        return schedule.getEpochMinute();
+    }
+
+}
@@ -3,8 +3,11 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +22,11 @@ import javafx.collections.ObservableList;
  * However, the removal of an object uses Identifiable#equals(Object) so
  * as to ensure that the object with exactly the same fields will be removed.
  *
+ * Identity checks are answered from hash indexes keyed on {@code Identifiable#getIdentityKeys()},
+ * one index per key position, which are kept consistent with the backing list on every mutation.
+ * The contents are also mirrored in a {@code PersistentList}, so that a snapshot of the list can be
+ * taken in O(1) and restored later by applying only the elements that differ.
+ *
  * Supports a minimal set of list operations.
  *
  * @param <T> A class that implements {@code Identifiable}.
@@ -27,13 +35,15 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
 
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    private final List<Map<Object, T>> identityIndexes = new ArrayList<>();
+    private PersistentList<T> contents = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent {@code Identifiable} object as the given argument.
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameAs);
+        return findSameAs(toCheck) != null;
     }
 
     /**
@@ -46,6 +56,8 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
             throw new DuplicateIdentityException();
         }
         internalList.add(toAdd);
+        contents = contents.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -61,11 +73,15 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
             throw new IdentityNotFoundException();
         }
 
-        if (!target.isSameAs(editedObject) && contains(editedObject)) {
+        T current = internalList.get(index);
+        if (isSameAsOtherThan(editedObject, current)) {
             throw new DuplicateIdentityException();
         }
 
         internalList.set(index, editedObject);
+        contents = contents.set(index, editedObject);
+        unindex(current);
+        index(editedObject);
     }
 
     /**
@@ -74,14 +90,18 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new IdentityNotFoundException();
         }
+        internalList.remove(index);
+        contents = contents.remove(index);
+        unindex(toRemove);
     }
 
     public void setList(UniqueList<T> replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        restore(replacement.contents);
     }
 
     /**
@@ -90,11 +110,97 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
      */
     public void setList(List<T> objects) {
         requireAllNonNull(objects);
-        if (!objectsAreUnique(objects)) {
-            throw new DuplicateIdentityException();
+        List<Map<Object, T>> replacementIndexes = new ArrayList<>();
+        for (T object : objects) {
+            if (!indexIfAbsent(replacementIndexes, object)) {
+                throw new DuplicateIdentityException();
+            }
         }
 
         internalList.setAll(objects);
+        contents = PersistentList.of(objects);
+        identityIndexes.clear();
+        identityIndexes.addAll(replacementIndexes);
+    }
+
+    /**
+     * Returns an immutable snapshot of the current contents of this list in O(1).
+     */
+    PersistentList<T> snapshot() {
+        return contents;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from a {@code UniqueList}.
+     * Only the range of elements that differs from the current contents is replaced, so listeners of
+     * the {@code ObservableList} are notified of that range alone.
+     */
+    void restore(PersistentList<T> snapshot) {
+        requireNonNull(snapshot);
+        if (snapshot == contents) {
+            return;
+        }
+
+        int oldSize = internalList.size();
+        int newSize = snapshot.size();
+
+        int prefix = 0;
+        Iterator<T> snapshotIterator = snapshot.iterator();
+        while (prefix < oldSize && prefix < newSize && internalList.get(prefix) == snapshotIterator.next()) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        Iterator<T> descendingSnapshotIterator = snapshot.descendingIterator();
+        while (suffix < oldSize - prefix && suffix < newSize - prefix
+                && internalList.get(oldSize - suffix - 1) == descendingSnapshotIterator.next()) {
+            suffix++;
+        }
+
+        List<T> added = new ArrayList<>(newSize - prefix - suffix);
+        for (int i = prefix; i < newSize - suffix; i++) {
+            added.add(snapshot.get(i));
+        }
+
+        replaceRange(prefix, oldSize - prefix - suffix, added);
+        contents = snapshot;
+    }
+
+    /**
+     * Replaces the {@code count} objects starting at index {@code from} with {@code replacement}.
+     * The resulting list must not contain duplicate objects, as when replaying a change
+     * previously made to this list.
+     */
+    void replace(int from, int count, List<T> replacement) {
+        requireNonNull(replacement);
+        if (from == 0 && count == internalList.size()) {
+            contents = PersistentList.of(replacement);
+        } else {
+            for (int i = 0; i < count; i++) {
+                contents = contents.remove(from);
+            }
+            for (int i = 0; i < replacement.size(); i++) {
+                contents = contents.add(from + i, replacement.get(i));
+            }
+        }
+        replaceRange(from, count, replacement);
+    }
+
+    /**
+     * Replaces the {@code count} objects starting at index {@code from} of the backing list with
+     * {@code replacement}, and updates the identity indexes to match.
+     */
+    private void replaceRange(int from, int count, List<T> replacement) {
+        List<T> removed = new ArrayList<>(internalList.subList(from, from + count));
+        if (count == 1 && replacement.size() == 1) {
+            internalList.set(from, replacement.get(0));
+        } else {
+            internalList.remove(from, from + count);
+            internalList.addAll(from, replacement);
+        }
+
+        removed.forEach(this::unindex);
+        replacement.forEach(this::index);
     }
 
     /**
@@ -123,17 +229,64 @@ public class UniqueList<T extends Identifiable<T>> implements Iterable<T> {
     }
 
     /**
-     * Returns true if {@code objects} contains only unique objects.
+     * Returns the object in the list with the same identity as {@code toCheck}, or null if there is none.
      */
-    private boolean objectsAreUnique(List<T> objects) {
-        for (int i = 0; i < objects.size() - 1; i++) {
-            for (int j = i + 1; j < objects.size(); j++) {
-                if (objects.get(i).isSameAs(objects.get(j))) {
-                    return false;
-                }
+    private T findSameAs(T toCheck) {
+        List<Object> keys = toCheck.getIdentityKeys();
+        for (int i = 0; i < keys.size() && i < identityIndexes.size(); i++) {
+            T match = identityIndexes.get(i).get(keys.get(i));
+            if (match != null) {
+                return match;
             }
         }
-        return true;
+        return null;
+    }
+
+    /**
+     * Returns true if any object in the list other than {@code excluded} has the same identity as {@code toCheck}.
+     */
+    private boolean isSameAsOtherThan(T toCheck, T excluded) {
+        List<Object> keys = toCheck.getIdentityKeys();
+        for (int i = 0; i < keys.size() && i < identityIndexes.size(); i++) {
+            T match = identityIndexes.get(i).get(keys.get(i));
+            if (match != null && match != excluded) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Adds the identity keys of {@code object} to the indexes.
+     */
+    private void index(T object) {
+        indexIfAbsent(identityIndexes, object);
+    }
+
+    /**
+     * Adds the identity keys of {@code object} to {@code indexes} in a single hashed pass.
+     * Returns false if another object in {@code indexes} already has the same identity.
+     */
+    private boolean indexIfAbsent(List<Map<Object, T>> indexes, T object) {
+        List<Object> keys = object.getIdentityKeys();
+        while (indexes.size() < keys.size()) {
+            indexes.add(new HashMap<>());
+        }
+        boolean isUnique = true;
+        for (int i = 0; i < keys.size(); i++) {
+            isUnique &= indexes.get(i).putIfAbsent(keys.get(i), object) == null;
+        }
+        return isUnique;
+    }
+
+    /**
+     * Removes the identity keys of {@code object} from the indexes.
+     */
+    private void unindex(T object) {
+        List<Object> keys = object.getIdentityKeys();
+        for (int i = 0; i < keys.size() && i < identityIndexes.size(); i++) {
+            identityIndexes.get(i).remove(keys.get(i), object);
+        }
     }
 
 }
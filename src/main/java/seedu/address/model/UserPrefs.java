@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,12 +14,16 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_MEETUP_DURATION = 60;
+    public static final String MESSAGE_INVALID_MEETUP_DURATION = "Meetup duration must be a positive number of minutes";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path customerBookFilePath = Paths.get("data" , "customerbook.json");
     private Path phoneBookFilePath = Paths.get("data" , "phonebook.json");
     private Path scheduleBookFilePath = Paths.get("data" , "schedulebook.json");
     private Path orderBookFilePath = Paths.get("data" , "orderbook.json");
     private Path archivedOrderBookFilePath = Paths.get("data", "archivedbook.json");
+    private int meetupDuration = DEFAULT_MEETUP_DURATION;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -44,6 +49,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setScheduleBookFilePath(newUserPrefs.getScheduleBookFilePath());
         setOrderBookFilePath(newUserPrefs.getOrderBookFilePath());
         setArchivedOrderBookFilePath(newUserPrefs.getArchivedOrderBookFilePath());
+        setMeetupDuration(newUserPrefs.getMeetupDuration());
     }
 
     public GuiSettings getGuiSettings() {
@@ -100,6 +106,22 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.archivedOrderBookFilePath = archivedOrderBookFilePath;
     }
 
+    public int getMeetupDuration() {
+        return meetupDuration;
+    }
+
+    public void setMeetupDuration(int meetupDuration) {
+        checkArgument(isValidMeetupDuration(meetupDuration), MESSAGE_INVALID_MEETUP_DURATION);
+        this.meetupDuration = meetupDuration;
+    }
+
+    /**
+     * Returns true if {@code meetupDuration} is a valid meetup duration in minutes.
+     */
+    public static boolean isValidMeetupDuration(int meetupDuration) {
+        return meetupDuration > 0;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -116,7 +138,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && phoneBookFilePath.equals(o.phoneBookFilePath)
                 && scheduleBookFilePath.equals(o.scheduleBookFilePath)
                 && orderBookFilePath.equals(o.orderBookFilePath)
-                && archivedOrderBookFilePath.equals(o.archivedOrderBookFilePath);
+                && archivedOrderBookFilePath.equals(o.archivedOrderBookFilePath)
+                && meetupDuration == o.meetupDuration;
     }
 
     @Override
@@ -132,6 +155,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("\nPhone data file location : " + phoneBookFilePath);
         sb.append("\nSchedule data file location : " + scheduleBookFilePath);
         sb.append("\nOrder data file location : " + orderBookFilePath);
+        sb.append("\nMeetup duration : " + meetupDuration + " minutes");
         return sb.toString();
     }
 
@@ -3,6 +3,8 @@ package seedu.address.model.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Customer's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidContactNumber(String)}
@@ -13,6 +15,7 @@ public class ContactNumber {
     public static final String MESSAGE_CONSTRAINTS =
             "ContactNumber numbers should only contain numbers, and it should be only 8 digits long";
     public static final String VALIDATION_REGEX = "\\d{8}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -29,7 +32,7 @@ public class ContactNumber {
      * Returns true if a given string is a valid contactNumber.
      */
     public static boolean isValidContactNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -106,4 +107,9 @@ public class Customer implements Identifiable<Customer> {
                 || other.getEmail().equals(getEmail()));
     }
 
+    @Override
+    public List<Object> getIdentityKeys() {
+        return List.of(contactNumber, email);
+    }
+
 }
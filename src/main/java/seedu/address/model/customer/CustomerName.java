@@ -3,6 +3,8 @@ package seedu.address.model.customer;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Customer's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCustomerName(String)}
@@ -18,6 +20,7 @@ public class CustomerName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -36,7 +39,7 @@ public class CustomerName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidCustomerName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
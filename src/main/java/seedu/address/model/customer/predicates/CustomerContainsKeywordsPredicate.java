@@ -1,5 +1,6 @@
 package seedu.address.model.customer.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -23,13 +24,26 @@ public class CustomerContainsKeywordsPredicate implements Predicate<Customer> {
             return false;
         }
 
+        List<String> fields = getSearchableFields(customer);
         return keywords.stream()
-                .allMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(customer.getCustomerName().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(customer.getContactNumber().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(customer.getEmail().toString(), keyword)
-                                || customer.getTags().stream().anyMatch(
-                                    tag -> StringUtil.containsWordIgnoreCase(tag.toString(), keyword)));
+                .allMatch(keyword -> fields.stream().anyMatch(field ->
+                        StringUtil.containsWordIgnoreCase(field, keyword)));
+    }
+
+    /**
+     * Returns the fields of {@code customer} that are searched for the keywords.
+     */
+    public static List<String> getSearchableFields(Customer customer) {
+        List<String> fields = new ArrayList<>();
+        fields.add(customer.getCustomerName().toString());
+        fields.add(customer.getContactNumber().toString());
+        fields.add(customer.getEmail().toString());
+        customer.getTags().forEach(tag -> fields.add(tag.toString()));
+        return fields;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
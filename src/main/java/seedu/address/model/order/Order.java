@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -137,4 +138,9 @@ public class Order implements Identifiable<Order> {
                 && other.getPhone().equals(getPhone());
     }
 
+    @Override
+    public List<Object> getIdentityKeys() {
+        return List.of(phone);
+    }
+
 }
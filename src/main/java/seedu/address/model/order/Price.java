@@ -3,6 +3,10 @@ package seedu.address.model.order;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.Money;
+
 /**
  * Represents a Phone's selling price in an Order in the SML.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
@@ -14,9 +18,13 @@ public class Price {
                     + "The maximum valid price is $999,999,999.99.";
 
     public static final String VALIDATION_REGEX = "\\$(0|([1-9]\\d{0,8}))(\\.\\d{1,2})?";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
+    // parsed once, so that arithmetic on it does not have to parse value again
+    private final Money amount;
+
     /**
      * Constructs a {@code Price}.
      *
@@ -26,13 +34,18 @@ public class Price {
         requireNonNull(price);
         checkArgument(isValidPrice(price), MESSAGE_CONSTRAINTS);
         value = price;
+        amount = Money.parse(price);
     }
 
     /**
      * Returns true if a given string is a valid price.
      */
     public static boolean isValidPrice(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    public Money getAmount() {
+        return amount;
     }
 
     @Override
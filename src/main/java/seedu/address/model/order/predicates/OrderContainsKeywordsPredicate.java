@@ -1,10 +1,13 @@
 package seedu.address.model.order.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
+import seedu.address.model.customer.predicates.CustomerContainsKeywordsPredicate;
 import seedu.address.model.order.Order;
+import seedu.address.model.phone.predicates.PhoneContainsKeywordsPredicate;
 
 /**
  * Tests that a {@code Order}'s data fields matches any of the keywords given.
@@ -23,31 +26,28 @@ public class OrderContainsKeywordsPredicate implements Predicate<Order> {
             return false;
         }
 
+        List<String> fields = getSearchableFields(order);
         return keywords.stream()
-                .allMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(order.getCustomer().getCustomerName().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(
-                                order.getCustomer().getContactNumber().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(
-                                order.getCustomer().getEmail().toString(), keyword)
-                        || order.getCustomer().getTags().stream().anyMatch(tag ->
-                                StringUtil.containsWordIgnoreCase(tag.toString(), keyword))
-
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getCapacity().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getColour().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getIdentityNumber().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getPhoneName().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getBrand().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getSerialNumber().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPhone().getCost().toString(), keyword)
-                        || order.getPhone().getTags().stream().anyMatch(tag ->
-                                StringUtil.containsWordIgnoreCase(tag.toString(), keyword))
-
-                        || StringUtil.containsWordIgnoreCase(order.getId().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getPrice().toString(), keyword)
-                        || StringUtil.containsWordIgnoreCase(order.getStatus().toString(), keyword)
-                        || order.getTags().stream().anyMatch(tag ->
-                                StringUtil.containsWordIgnoreCase(tag.toString(), keyword)));
+                .allMatch(keyword -> fields.stream().anyMatch(field ->
+                        StringUtil.containsWordIgnoreCase(field, keyword)));
+    }
+
+    /**
+     * Returns the fields of {@code order} that are searched for the keywords.
+     */
+    public static List<String> getSearchableFields(Order order) {
+        List<String> fields = new ArrayList<>();
+        fields.addAll(CustomerContainsKeywordsPredicate.getSearchableFields(order.getCustomer()));
+        fields.addAll(PhoneContainsKeywordsPredicate.getSearchableFields(order.getPhone()));
+        fields.add(order.getId().toString());
+        fields.add(order.getPrice().toString());
+        fields.add(order.getStatus().toString());
+        order.getTags().forEach(tag -> fields.add(tag.toString()));
+        return fields;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.phone;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Phone's colour in the SML.
  * Guarantees: immutable; is valid as declared in {@link #isValidColour(String)}
@@ -16,6 +18,7 @@ public class Colour {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -34,7 +37,7 @@ public class Colour {
      * Returns true if a given string is a valid colour.
      */
     public static boolean isValidColour(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
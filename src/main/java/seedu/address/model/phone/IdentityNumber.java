@@ -3,6 +3,8 @@ package seedu.address.model.phone;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Phone's IdentityNumber in the SML.
  * Guarantees: immutable; is valid as declared in {@link #isValidIdentityNumber(String)}.
@@ -12,6 +14,7 @@ public class IdentityNumber {
     public static final String MESSAGE_CONSTRAINTS = "IMEIs must contain only digits and be 15 digits long";
 
     public static final String VALIDATION_REGEX = "\\d{15}";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -25,7 +28,7 @@ public class IdentityNumber {
      * Returns true if a given string is a valid IMEI.
      */
     public static boolean isValidIdentityNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -4,6 +4,7 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
@@ -155,4 +156,9 @@ public class Phone implements Identifiable<Phone> {
                 || other.getSerialNumber().equals(getSerialNumber()));
     }
 
+    @Override
+    public List<Object> getIdentityKeys() {
+        return List.of(identityNumber, serialNumber);
+    }
+
 }
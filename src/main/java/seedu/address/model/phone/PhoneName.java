@@ -3,6 +3,8 @@ package seedu.address.model.phone;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Phone's name in the SML.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhoneName(String)}
@@ -17,6 +19,7 @@ public class PhoneName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
@@ -36,7 +39,7 @@ public class PhoneName {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidPhoneName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
 
@@ -3,6 +3,8 @@ package seedu.address.model.phone;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Phone's SerialNumber in the SML.
  * Guarantees: immutable; is valid as declared in {@link #isValidSerialNumber(String)}.
@@ -17,6 +19,7 @@ public class SerialNumber {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -30,7 +33,7 @@ public class SerialNumber {
      * Returns true if a given string is a valid serial number.
      */
     public static boolean isValidSerialNumber(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
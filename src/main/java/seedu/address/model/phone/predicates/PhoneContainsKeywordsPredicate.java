@@ -1,5 +1,6 @@
 package seedu.address.model.phone.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -23,17 +24,30 @@ public class PhoneContainsKeywordsPredicate implements Predicate<Phone> {
             return false;
         }
 
+        List<String> fields = getSearchableFields(phone);
         return keywords.stream()
-                .allMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(phone.getIdentityNumber().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(phone.getSerialNumber().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(phone.getPhoneName().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(phone.getBrand().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(phone.getColour().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(phone.getCapacity().toString(), keyword)
-                                || StringUtil.containsWordIgnoreCase(phone.getCost().toString(), keyword)
-                                || phone.getTags().stream().anyMatch(
-                                    tag -> StringUtil.containsWordIgnoreCase(tag.toString(), keyword)));
+                .allMatch(keyword -> fields.stream().anyMatch(field ->
+                        StringUtil.containsWordIgnoreCase(field, keyword)));
+    }
+
+    /**
+     * Returns the fields of {@code phone} that are searched for the keywords.
+     */
+    public static List<String> getSearchableFields(Phone phone) {
+        List<String> fields = new ArrayList<>();
+        fields.add(phone.getIdentityNumber().toString());
+        fields.add(phone.getSerialNumber().toString());
+        fields.add(phone.getPhoneName().toString());
+        fields.add(phone.getBrand().toString());
+        fields.add(phone.getColour().toString());
+        fields.add(phone.getCapacity().toString());
+        fields.add(phone.getCost().toString());
+        phone.getTags().forEach(tag -> fields.add(tag.toString()));
+        return fields;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
@@ -2,9 +2,13 @@ package seedu.address.model.schedule;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -22,27 +26,85 @@ public class Schedule implements Identifiable<Schedule> {
     private final UUID id;
 
     // Data fields
-    private final Calendar calendar;
+    private final LocalDateTime dateTime;
     private final Venue venue;
     private final Set<Tag> tags = new HashSet<>();
 
+    // Derived fields, precomputed for comparisons and statistics
+    private final long epochMinute;
+    private final int yearMonth;
+
     /**
      * Every field must be present and not null.
+     * {@code dateTime} is truncated to the minute.
      */
-    public Schedule(UUID id, Calendar calendar, Venue venue, Set<Tag> tags) {
-        requireAllNonNull(id, calendar, venue, tags);
+    public Schedule(UUID id, LocalDateTime dateTime, Venue venue, Set<Tag> tags) {
+        requireAllNonNull(id, dateTime, venue, tags);
         this.id = id;
-        this.calendar = calendar;
+        this.dateTime = dateTime.truncatedTo(ChronoUnit.MINUTES);
         this.venue = venue;
         this.tags.addAll(tags);
+        this.epochMinute = this.dateTime.toEpochSecond(ZoneOffset.UTC) / 60;
+        this.yearMonth = toYearMonth(this.dateTime.getYear(), this.dateTime.getMonthValue() - 1);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Only the date and the time of day, to the minute, of {@code calendar} are kept.
+     */
+    public Schedule(UUID id, Calendar calendar, Venue venue, Set<Tag> tags) {
+        this(id, toLocalDateTime(calendar), venue, tags);
+    }
+
+    /**
+     * Returns the date and time of day of {@code calendar}.
+     */
+    private static LocalDateTime toLocalDateTime(Calendar calendar) {
+        requireAllNonNull(calendar);
+        return LocalDateTime.of(calendar.get(Calendar.YEAR), calendar.get(Calendar.MONTH) + 1,
+                calendar.get(Calendar.DAY_OF_MONTH), calendar.get(Calendar.HOUR_OF_DAY), calendar.get(Calendar.MINUTE));
+    }
+
+    /**
+     * Returns the key that {@link #getYearMonth()} uses for the given year and 0-based month,
+     * which orders year-months chronologically.
+     */
+    public static int toYearMonth(int year, int month) {
+        return year * 12 + month;
     }
 
     public UUID getId() {
         return id;
     }
 
+    public LocalDateTime getDateTime() {
+        return dateTime;
+    }
+
+    /**
+     * Returns the date and time of this schedule as a new {@code Calendar}, which the caller may modify.
+     * Prefer {@link #getDateTime()} and {@link #getEpochMinute()}, which need no computation.
+     */
     public Calendar getCalendar() {
-        return calendar;
+        return new Calendar.Builder().setDate(dateTime.getYear(), dateTime.getMonthValue() - 1,
+                dateTime.getDayOfMonth()).setTimeOfDay(dateTime.getHour(), dateTime.getMinute(), 0).build();
+    }
+
+    /**
+     * Returns the number of minutes from 1970.01.01 00:00 to the date and time of this schedule,
+     * both on the same wall clock.
+     */
+    public long getEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns the year and month of this schedule as a single key, which orders year-months chronologically.
+     *
+     * @see #toYearMonth(int, int)
+     */
+    public int getYearMonth() {
+        return yearMonth;
     }
 
     public Venue getVenue() {
@@ -53,14 +115,8 @@ public class Schedule implements Identifiable<Schedule> {
      * Return a formatted String of the Calendar Object.
      */
     public String getCalendarString() {
-        StringBuilder sb = new StringBuilder();
-        // month to be changed back to 1-based
-        sb.append(calendar.get(Calendar.YEAR) + ".")
-                .append(String.format("%02d", calendar.get(Calendar.MONTH) + 1) + ".")
-                .append(String.format("%02d", calendar.get(Calendar.DAY_OF_MONTH)) + " ")
-                .append(String.format("%02d", calendar.get(Calendar.HOUR_OF_DAY)) + ":")
-                .append(String.format("%02d", calendar.get(Calendar.MINUTE)));
-        return sb.toString();
+        return String.format("%d.%02d.%02d %02d:%02d", dateTime.getYear(), dateTime.getMonthValue(),
+                dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute());
     }
 
     /**
@@ -87,7 +143,7 @@ public class Schedule implements Identifiable<Schedule> {
 
         Schedule otherSchedule = (Schedule) other;
         return otherSchedule.getId().equals(getId())
-                && otherSchedule.getCalendar().equals(getCalendar())
+                && otherSchedule.getDateTime().equals(getDateTime())
                 && otherSchedule.getVenue().equals(getVenue())
                 && otherSchedule.getTags().equals((getTags()));
     }
@@ -95,7 +151,7 @@ public class Schedule implements Identifiable<Schedule> {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(id, calendar, venue, tags);
+        return Objects.hash(id, dateTime, venue, tags);
     }
 
     @Override
@@ -122,4 +178,9 @@ public class Schedule implements Identifiable<Schedule> {
                 && other.getId().equals(getId());
     }
 
+    @Override
+    public List<Object> getIdentityKeys() {
+        return List.of(id);
+    }
+
 }
@@ -0,0 +1,52 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents a pair of meetups in the SML that overlap in time.
+ * Guarantees: both schedules are present and not null, immutable.
+ */
+public class ScheduleConflict {
+
+    private final Schedule earlier;
+    private final Schedule later;
+
+    /**
+     * Every field must be present and not null.
+     * {@code earlier} must not start after {@code later}.
+     */
+    public ScheduleConflict(Schedule earlier, Schedule later) {
+        requireAllNonNull(earlier, later);
+        this.earlier = earlier;
+        this.later = later;
+    }
+
+    public Schedule getEarlier() {
+        return earlier;
+    }
+
+    public Schedule getLater() {
+        return later;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ScheduleConflict // instanceof handles nulls
+                && earlier.equals(((ScheduleConflict) other).earlier)
+                && later.equals(((ScheduleConflict) other).later));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(earlier, later);
+    }
+
+    @Override
+    public String toString() {
+        return earlier.getCalendarString() + " clashes with " + later.getCalendarString();
+    }
+
+}
@@ -3,6 +3,8 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Schedule's venue in the SML.
  * Guarantees: immutable; is valid as declared in {@link #isValidVenue(String)}
@@ -12,6 +14,7 @@ public class Venue {
     public static final String MESSAGE_CONSTRAINTS = "Venue can take any string, and it should not be blank";
 
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String venue;
 
@@ -30,7 +33,7 @@ public class Venue {
      * Returns true if a given string is a valid venue.
      */
     public static boolean isValidVenue(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
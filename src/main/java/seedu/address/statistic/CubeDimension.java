@@ -0,0 +1,44 @@
+package seedu.address.statistic;
+
+import java.util.Optional;
+
+/**
+ * A dimension of the {@code SalesCube} that orders can be grouped by.
+ */
+public enum CubeDimension {
+    BRAND("brand"),
+    PHONE("phone"),
+    CAPACITY("capacity"),
+    COLOUR("colour"),
+    CUSTOMER("customer"),
+    TAG("tag"),
+    VENUE("venue"),
+    WEEK("week"),
+    MONTH("month");
+
+    public static final String MESSAGE_CONSTRAINTS = "Orders can only be grouped by "
+            + "brand, phone, capacity, colour, customer, tag, venue, week or month.";
+
+    private final String keyword;
+
+    CubeDimension(String keyword) {
+        this.keyword = keyword;
+    }
+
+    /**
+     * Returns the dimension that {@code keyword} names, ignoring case.
+     */
+    public static Optional<CubeDimension> fromKeyword(String keyword) {
+        for (CubeDimension dimension : values()) {
+            if (dimension.keyword.equalsIgnoreCase(keyword.trim())) {
+                return Optional.of(dimension);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return keyword;
+    }
+}
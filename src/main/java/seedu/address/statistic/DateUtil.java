@@ -1,37 +1,74 @@
 package seedu.address.statistic;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
 
 import seedu.address.model.order.Order;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * Utility class to help with extracting date value for use in statistic calculations
  */
 public class DateUtil {
 
+    /**
+     * Returns the 0-based month of the schedule of {@code order}, as {@code Calendar.MONTH} numbers months.
+     */
     public static int extractMonth(Order order) {
-        return order.getSchedule().get().getCalendar().get(Calendar.MONTH);
+        return order.getSchedule().get().getDateTime().getMonthValue() - 1;
     }
 
     public static int extractYear(Order order) {
-        return order.getSchedule().get().getCalendar().get(Calendar.YEAR);
+        return order.getSchedule().get().getDateTime().getYear();
+    }
+
+    /**
+     * Returns the year-month key of the schedule of {@code order}.
+     *
+     * @see Schedule#getYearMonth()
+     */
+    public static int extractYearMonth(Order order) {
+        return order.getSchedule().get().getYearMonth();
     }
 
     /**
      * takes in an order and remove the time from it, leaving just month and year
      */
     public static Calendar extractMonthYear(Order order) {
-        int month = extractMonth(order);
-        int year = extractYear(order);
-        int day = order.getSchedule().get().getCalendar().get(Calendar.DAY_OF_MONTH);
-        Calendar temp = new Calendar.Builder().setDate(year, month, day).build();
-        //System.out.println(temp.getTime());
-        return temp;
+        LocalDateTime dateTime = order.getSchedule().get().getDateTime();
+        return new Calendar.Builder().setDate(dateTime.getYear(), dateTime.getMonthValue() - 1,
+                dateTime.getDayOfMonth()).build();
     }
 
+    /**
+     * Returns the first date that {@link #extractMonthYear(Order)} places at or after {@code date}.
+     */
+    public static LocalDate getFirstDateFrom(Calendar date) {
+        Instant instant = date.toInstant();
+        LocalDate firstDate = instant.atZone(ZoneId.systemDefault()).toLocalDate();
+        return firstDate.atStartOfDay(ZoneId.systemDefault()).toInstant().isBefore(instant)
+                ? firstDate.plusDays(1)
+                : firstDate;
+    }
+
+    /**
+     * Returns the last date that {@link #extractMonthYear(Order)} places at or before {@code date}.
+     */
+    public static LocalDate getLastDateUntil(Calendar date) {
+        return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+
+    /**
+     * Returns the months between the starting and ending date of {@code statsPayload}, which must not be
+     * a default query, as its dates are not bounded.
+     */
     public static List<Calendar> getListOfYearMonth(StatsPayload statsPayload) {
+        assert !statsPayload.isDefaultQuery();
 
         List<Calendar> listOfYearMonth = new ArrayList<>();
         Calendar startDate = statsPayload.getStartingDate();
@@ -54,4 +91,17 @@ public class DateUtil {
         listOfYearMonth.add(endDate);
         return listOfYearMonth;
     }
+
+    /**
+     * Returns the first day of each month from the month of {@code firstDate} to the month of {@code lastDate}.
+     */
+    public static List<Calendar> getListOfYearMonth(LocalDate firstDate, LocalDate lastDate) {
+        List<Calendar> listOfYearMonth = new ArrayList<>();
+        for (LocalDate month = firstDate.withDayOfMonth(1); !month.isAfter(lastDate); month = month.plusMonths(1)) {
+            listOfYearMonth.add(new Calendar.Builder()
+                    .setDate(month.getYear(), month.getMonthValue() - 1, 1)
+                    .build());
+        }
+        return listOfYearMonth;
+    }
 }
@@ -0,0 +1,94 @@
+package seedu.address.statistic;
+
+import java.util.Arrays;
+
+/**
+ * The revenue and cost of orders in cents, bucketed by the period they are scheduled in.
+ * Periods are identified by consecutive keys, such as the keys of
+ * {@link seedu.address.model.schedule.Schedule#getYearMonth()} or epoch days.
+ * The buckets only span the periods that amounts were added to, and grow as amounts outside them are added.
+ */
+class PeriodTotals {
+
+    private static final int INITIAL_CAPACITY = 12;
+
+    private int firstPeriod;
+    private long[] revenue = new long[0];
+    private long[] cost = new long[0];
+
+    /**
+     * Adds {@code revenue} and {@code cost}, in cents, to the bucket of {@code period}.
+     * Negative amounts take away amounts added before.
+     */
+    void add(int period, long revenue, long cost) {
+        int index = indexOf(period);
+        this.revenue[index] += revenue;
+        this.cost[index] += cost;
+    }
+
+    long getRevenue(int period) {
+        return get(revenue, period);
+    }
+
+    long getCost(int period) {
+        return get(cost, period);
+    }
+
+    long getProfit(int period) {
+        return getRevenue(period) - getCost(period);
+    }
+
+    /**
+     * Returns the first period spanned by the buckets. Periods before it have no amounts.
+     */
+    int getFirstPeriod() {
+        return firstPeriod;
+    }
+
+    /**
+     * Returns the last period spanned by the buckets, which is before the first period if there are no buckets.
+     * Periods after it have no amounts.
+     */
+    int getLastPeriod() {
+        return firstPeriod + revenue.length - 1;
+    }
+
+    /**
+     * Returns the amount in the bucket of {@code period} of {@code amounts}, which is 0 if there is no such bucket.
+     */
+    private long get(long[] amounts, int period) {
+        int index = period - firstPeriod;
+        return index >= 0 && index < amounts.length ? amounts[index] : 0;
+    }
+
+    /**
+     * Returns the index of the bucket of {@code period}, growing the buckets to span it if they do not.
+     */
+    private int indexOf(int period) {
+        if (revenue.length == 0) {
+            firstPeriod = period;
+            revenue = new long[INITIAL_CAPACITY];
+            cost = new long[INITIAL_CAPACITY];
+        } else if (period < firstPeriod) {
+            int shift = Math.max(firstPeriod - period, revenue.length);
+            revenue = shift(revenue, shift);
+            cost = shift(cost, shift);
+            firstPeriod -= shift;
+        } else if (period - firstPeriod >= revenue.length) {
+            int length = Math.max(period - firstPeriod + 1, revenue.length * 2);
+            revenue = Arrays.copyOf(revenue, length);
+            cost = Arrays.copyOf(cost, length);
+        }
+        return period - firstPeriod;
+    }
+
+    /**
+     * Returns a copy of {@code amounts} with {@code shift} empty buckets in front.
+     */
+    private static long[] shift(long[] amounts, int shift) {
+        long[] shifted = new long[amounts.length + shift];
+        System.arraycopy(amounts, 0, shifted, shift, amounts.length);
+        return shifted;
+    }
+
+}
@@ -0,0 +1,344 @@
+package seedu.address.statistic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.statisticcommand.StatisticType;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An in-memory columnar snapshot of the completed orders with a schedule in a list, for grouping their revenue,
+ * cost and profit by any of the {@link CubeDimension}s, such as profit by brand by month.
+ * Every dimension is stored as a column of codes into the distinct values of that dimension, and the amounts as
+ * columns of cents, so that a query only reads primitive arrays.
+ * An order is counted once in each of its tags when grouped by tag, and in a group with no tag if it has none.
+ */
+public class SalesCube {
+
+    public static final String NO_TAG = "(no tag)";
+
+    // queries with at most this many possible groups sum up into an array rather than a map
+    private static final int MAX_DENSE_GROUPS = 1 << 16;
+
+    private final int size;
+    private final long[] revenue;
+    private final long[] cost;
+    private final long[] epochDay;
+    // the codes of each order in each single valued dimension, indexed by the ordinal of the dimension
+    private final int[][] columns = new int[CubeDimension.values().length][];
+    // the distinct values of each dimension, in the order they were first seen
+    private final List<List<String>> values = new ArrayList<>();
+    // the tag codes of order i are tagCodes[tagOffsets[i]] to tagCodes[tagOffsets[i + 1] - 1]
+    private final int[] tagOffsets;
+    private final int[] tagCodes;
+
+    private SalesCube(List<Order> orders) {
+        size = orders.size();
+        revenue = new long[size];
+        cost = new long[size];
+        epochDay = new long[size];
+        tagOffsets = new int[size + 1];
+
+        List<Map<String, Integer>> codes = new ArrayList<>();
+        for (CubeDimension dimension : CubeDimension.values()) {
+            codes.add(new HashMap<>());
+            values.add(new ArrayList<>());
+            if (dimension != CubeDimension.TAG) {
+                columns[dimension.ordinal()] = new int[size];
+            }
+        }
+
+        List<Integer> orderTagCodes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Order order = orders.get(i);
+            Schedule schedule = order.getSchedule().get();
+            revenue[i] = order.getPrice().getAmount().getCents();
+            cost[i] = order.getPhone().getCost().getAmount().getCents();
+            epochDay[i] = schedule.getDateTime().toLocalDate().toEpochDay();
+            for (CubeDimension dimension : CubeDimension.values()) {
+                if (dimension != CubeDimension.TAG) {
+                    columns[dimension.ordinal()][i] = encode(dimension, getValue(dimension, order, schedule), codes);
+                }
+            }
+
+            Set<Tag> tags = order.getTags();
+            if (tags.isEmpty()) {
+                orderTagCodes.add(encode(CubeDimension.TAG, NO_TAG, codes));
+            }
+            tags.forEach(tag -> orderTagCodes.add(encode(CubeDimension.TAG, tag.tagName, codes)));
+            tagOffsets[i + 1] = orderTagCodes.size();
+        }
+        tagCodes = orderTagCodes.stream().mapToInt(code -> code).toArray();
+    }
+
+    /**
+     * Returns a cube of the completed orders with a schedule in {@code orders}.
+     */
+    public static SalesCube of(List<Order> orders) {
+        requireNonNull(orders);
+        List<Order> completedOrders = new ArrayList<>();
+        for (Order order : orders) {
+            if (order.getStatus() == Status.COMPLETED && order.getSchedule().isPresent()) {
+                completedOrders.add(order);
+            }
+        }
+        return new SalesCube(completedOrders);
+    }
+
+    /**
+     * Returns the number of orders in the cube.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the amounts of {@code type} of the orders scheduled from {@code firstDate} to {@code lastDate}
+     * inclusive, grouped by the values of {@code groupBy}.
+     * Groups are sorted by the amount from largest to smallest if {@code limit} is given, and only the first
+     * {@code limit} groups are returned. Otherwise they are sorted by their values.
+     * Grouping by no dimension rolls all the orders up into a single group.
+     *
+     * @param limit the number of groups to return, or 0 to return all of them.
+     */
+    public List<Group> query(StatisticType type, List<CubeDimension> groupBy, LocalDate firstDate,
+                             LocalDate lastDate, int limit) {
+        requireAllNonNull(type, groupBy, firstDate, lastDate);
+        int[] radices = new int[groupBy.size()];
+        long groupCount = 1;
+        for (int d = 0; d < radices.length; d++) {
+            radices[d] = Math.max(values.get(groupBy.get(d).ordinal()).size(), 1);
+            groupCount *= radices[d];
+        }
+
+        Accumulator accumulator = groupCount <= MAX_DENSE_GROUPS
+                ? new Accumulator(new long[(int) groupCount], new int[(int) groupCount], null)
+                : new Accumulator(null, null, new HashMap<>());
+        long first = firstDate.toEpochDay();
+        long last = lastDate.toEpochDay();
+        for (int i = 0; i < size; i++) {
+            if (epochDay[i] < first || epochDay[i] > last) {
+                continue;
+            }
+            accumulate(accumulator, i, getAmount(type, i), groupBy, radices, 0, 0);
+        }
+
+        List<Group> groups = accumulator.toGroups(key -> decode(key, groupBy, radices));
+        Comparator<Group> byValues = (group, other) -> compareValues(group.getValues(), other.getValues());
+        if (limit > 0) {
+            groups.sort(Comparator.comparingLong(Group::getCents).reversed().thenComparing(byValues));
+            return new ArrayList<>(groups.subList(0, Math.min(limit, groups.size())));
+        }
+        groups.sort(byValues);
+        return groups;
+    }
+
+    /**
+     * Adds {@code amount} of order {@code row} to the groups of its values in the dimensions of {@code groupBy}
+     * from the {@code d}th on, given that the values of the dimensions before it make up {@code key}.
+     */
+    private void accumulate(Accumulator accumulator, int row, long amount, List<CubeDimension> groupBy,
+                            int[] radices, int d, long key) {
+        if (d == groupBy.size()) {
+            accumulator.add(key, amount);
+            return;
+        }
+        CubeDimension dimension = groupBy.get(d);
+        if (dimension != CubeDimension.TAG) {
+            accumulate(accumulator, row, amount, groupBy, radices, d + 1,
+                    key * radices[d] + columns[dimension.ordinal()][row]);
+            return;
+        }
+        for (int t = tagOffsets[row]; t < tagOffsets[row + 1]; t++) {
+            accumulate(accumulator, row, amount, groupBy, radices, d + 1, key * radices[d] + tagCodes[t]);
+        }
+    }
+
+    /**
+     * Returns the values of the dimensions of {@code groupBy} that {@code key} is made up of.
+     */
+    private List<String> decode(long key, List<CubeDimension> groupBy, int[] radices) {
+        String[] groupValues = new String[radices.length];
+        for (int d = radices.length - 1; d >= 0; d--) {
+            groupValues[d] = values.get(groupBy.get(d).ordinal()).get((int) (key % radices[d]));
+            key /= radices[d];
+        }
+        return List.of(groupValues);
+    }
+
+    /**
+     * Returns the amount of {@code type} of order {@code row}, in cents.
+     */
+    private long getAmount(StatisticType type, int row) {
+        switch (type) {
+        case PROFIT:
+            return revenue[row] - cost[row];
+        case REVENUE:
+            return revenue[row];
+        case COST:
+            return cost[row];
+        default:
+            throw new AssertionError("Unknown statistic type: " + type);
+        }
+    }
+
+    /**
+     * Returns the code of {@code value} in {@code dimension}, adding it to the distinct values if it is new.
+     */
+    private int encode(CubeDimension dimension, String value, List<Map<String, Integer>> codes) {
+        List<String> dimensionValues = values.get(dimension.ordinal());
+        return codes.get(dimension.ordinal()).computeIfAbsent(value, unused -> {
+            dimensionValues.add(value);
+            return dimensionValues.size() - 1;
+        });
+    }
+
+    /**
+     * Returns the value of {@code dimension} of {@code order}, which is scheduled by {@code schedule}.
+     * Weeks and months are written so that they sort chronologically.
+     */
+    private static String getValue(CubeDimension dimension, Order order, Schedule schedule) {
+        LocalDate date = schedule.getDateTime().toLocalDate();
+        switch (dimension) {
+        case BRAND:
+            return order.getPhone().getBrand().value;
+        case PHONE:
+            return order.getPhone().getPhoneName().fullName;
+        case CAPACITY:
+            return order.getPhone().getCapacity().value;
+        case COLOUR:
+            return order.getPhone().getColour().value;
+        case CUSTOMER:
+            return order.getCustomer().getCustomerName().fullName;
+        case VENUE:
+            return schedule.getVenue().venue;
+        case WEEK:
+            return String.format("%d-W%02d", date.get(IsoFields.WEEK_BASED_YEAR),
+                    date.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        case MONTH:
+            return String.format("%d.%02d", date.getYear(), date.getMonthValue());
+        default:
+            throw new AssertionError("Dimension with more than one value per order: " + dimension);
+        }
+    }
+
+    /**
+     * Compares lists of values of the same dimensions value by value.
+     */
+    private static int compareValues(List<String> values, List<String> otherValues) {
+        for (int d = 0; d < values.size(); d++) {
+            int comparison = values.get(d).compareTo(otherValues.get(d));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The sums of the amounts of each group, in an array indexed by the key of the group if there are few
+     * enough possible groups, or in a map otherwise.
+     */
+    private static class Accumulator {
+        private final long[] sums;
+        private final int[] counts;
+        private final Map<Long, Long> sparseSums;
+
+        Accumulator(long[] sums, int[] counts, Map<Long, Long> sparseSums) {
+            this.sums = sums;
+            this.counts = counts;
+            this.sparseSums = sparseSums;
+        }
+
+        /**
+         * Adds {@code amount} to the group of {@code key}.
+         */
+        void add(long key, long amount) {
+            if (sums != null) {
+                sums[(int) key] += amount;
+                counts[(int) key]++;
+            } else {
+                sparseSums.merge(key, amount, Long::sum);
+            }
+        }
+
+        /**
+         * Returns the groups that any order was added to, with their values given by {@code decoder}.
+         */
+        List<Group> toGroups(Decoder decoder) {
+            List<Group> groups = new ArrayList<>();
+            if (sums != null) {
+                for (int key = 0; key < sums.length; key++) {
+                    if (counts[key] > 0) {
+                        groups.add(new Group(decoder.decode(key), sums[key]));
+                    }
+                }
+            } else {
+                sparseSums.forEach((key, sum) -> groups.add(new Group(decoder.decode(key), sum)));
+            }
+            return groups;
+        }
+    }
+
+    /**
+     * Converts the key of a group into its values.
+     */
+    @FunctionalInterface
+    private interface Decoder {
+        List<String> decode(long key);
+    }
+
+    /**
+     * A group of orders with the same values in the dimensions grouped by, and the sum of their amounts.
+     */
+    public static class Group {
+        private final List<String> values;
+        private final long cents;
+
+        public Group(List<String> values, long cents) {
+            requireNonNull(values);
+            this.values = Collections.unmodifiableList(new ArrayList<>(values));
+            this.cents = cents;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        public long getCents() {
+            return cents;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Group // instanceof handles nulls
+                    && values.equals(((Group) other).values)
+                    && cents == ((Group) other).cents);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode() * 31 + Long.hashCode(cents);
+        }
+
+        @Override
+        public String toString() {
+            return String.join(", ", values) + ": " + cents;
+        }
+    }
+
+}
@@ -1,26 +1,22 @@
 package seedu.address.statistic;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.text.DecimalFormat;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.List;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import org.apache.commons.math3.stat.StatUtils;
 
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.util.MoneyUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.statisticcommand.StatisticType;
+import seedu.address.model.Money;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.order.Order;
-import seedu.address.model.order.Status;
+import seedu.address.model.schedule.Schedule;
 
 
 /**
@@ -29,254 +25,128 @@ import seedu.address.model.order.Status;
  */
 public class StatisticManager implements Statistic {
 
-    private final Logger logger = LogsCenter.getLogger(StatisticManager.class);
+    private static final Logger logger = LogsCenter.getLogger(StatisticManager.class);
+
+    private final ObservableList<Order> archivedOrders;
+    private final StatisticView archivedOrderView;
 
+    /**
+     * Creates a statistic module that sums up the orders of each order book it is asked about from scratch.
+     */
     public StatisticManager() {
         logger.fine("Initializing statistic module");
+        this.archivedOrders = null;
+        this.archivedOrderView = null;
+    }
+
+    /**
+     * Creates a statistic module that keeps the sums of the orders in {@code archivedOrders} up to date as they
+     * change, so that queries about the order book of {@code archivedOrders} take time proportional to the
+     * number of months queried rather than the number of orders.
+     */
+    public StatisticManager(ObservableList<Order> archivedOrders) {
+        requireNonNull(archivedOrders);
+        logger.fine("Initializing statistic module over archived orders");
+        this.archivedOrders = archivedOrders;
+        this.archivedOrderView = StatisticView.observing(archivedOrders);
     }
 
     /*--------------------Methods to calculate--------------------------*/
     @Override
     public XYChart.Series<String, Number> calculateTotalProfitOnCompletedGraph(ReadOnlyDataBook<Order> orderBook,
                                                                                 StatsPayload statsPayload) {
-        requireAllNonNull(orderBook, statsPayload);
-        logger.info("filtering orders from order Book");
-        //filter the list of orders to be only the orders within the starting and ending date.
-        List<Order> listOfFilteredOrders = getFilteredOrderListByDate(orderBook,
-                statsPayload)
-                .collect(Collectors.toList());
-        logger.info("calculating list of month");
-        // returns a list of Months between starting and ending date.
-        List<Calendar> listOfMonth = DateUtil.getListOfYearMonth(statsPayload);
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-
-        // loops through the list of months, for each month, calculate the revenue for all orders in that month
-        // returns this in the format of XYChat.Data().
-        List<XYChart.Data<String, Number>> listOfMonthlyProfit =
-                listOfMonth.stream()
-                        .map(month -> processProfitByMonth(listOfFilteredOrders, month))
-                        .collect(Collectors.toList());
-
-        listOfMonthlyProfit.stream().forEach(x -> series.getData().add(x));
         logger.info("calculating monthly data of Profit");
-        return series;
+        return calculateGraph(orderBook, statsPayload, StatisticType.PROFIT);
     }
 
     @Override
     public XYChart.Series<String, Number> calculateTotalRevenueOnCompletedGraph(ReadOnlyDataBook<Order> orderBook,
                                                                      StatsPayload statsPayload) {
-        requireAllNonNull(orderBook, statsPayload);
-        logger.info("filtering orders from order Book");
-        //filter the list of orders to be only the orders within the starting and ending date.
-        List<Order> listOfFilteredOrders = getFilteredOrderListByDate(orderBook,
-                statsPayload)
-                .collect(Collectors.toList());
-        logger.info("calculating list of month");
-        // returns a list of Months between starting and ending date.
-        List<Calendar> listOfMonth = DateUtil.getListOfYearMonth(statsPayload);
-
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-
-        // loops through the list of months, for each month, calculate the revenue for all orders in that month
-        // returns this in the format of XYChat.DaTa().
-        List<XYChart.Data<String, Number>> listOfMonthlyRevenue =
-                listOfMonth.stream()
-                .map(month -> processRevenueByMonth(listOfFilteredOrders, month))
-                .collect(Collectors.toList());
-
-        listOfMonthlyRevenue.stream().forEach(x -> series.getData().add(x));
         logger.info("calculating monthly data of Revenue");
-        return series;
+        return calculateGraph(orderBook, statsPayload, StatisticType.REVENUE);
     }
 
     @Override
     public XYChart.Series<String, Number> calculateTotalCostOnCompletedGraph(ReadOnlyDataBook<Order> orderBook,
                                                                                StatsPayload statsPayload) {
-        requireAllNonNull(orderBook, statsPayload);
-        //filter the list of orders to be only the orders within the starting and ending date.
-        logger.info("filtering orders from order Book");
-        List<Order> listOfFilteredOrders = getFilteredOrderListByDate(orderBook,
-                statsPayload)
-                .collect(Collectors.toList());
-        logger.info("calculating list of month");
-        // returns a list of Months between starting and ending date.
-        List<Calendar> listOfMonth = DateUtil.getListOfYearMonth(statsPayload);
-
-        XYChart.Series<String, Number> series = new XYChart.Series<>();
-
-        // loops through the list of months, for each month, calculate the cost for all orders in that month
-        // returns this in the format of XYChat.DaTa().
-        List<XYChart.Data<String, Number>> listOfMonthlyCost =
-                listOfMonth.stream()
-                        .map(month -> processCostByMonth(listOfFilteredOrders, month))
-                        .collect(Collectors.toList());
-
-        listOfMonthlyCost.stream().forEach(x -> series.getData().add(x));
         logger.info("calculating monthly data of Cost");
-        return series;
+        return calculateGraph(orderBook, statsPayload, StatisticType.COST);
     }
 
     @Override
     public String calculateTotalProfitOnCompleted(ReadOnlyDataBook<Order> orderBook,
                                                   StatsPayload statsPayload) {
-        requireAllNonNull(orderBook, statsPayload);
-        double revenue = this.getTotalRevenue(orderBook, statsPayload);
-        double cost = this.getTotalCost(orderBook, statsPayload);
-        double totalProfit = revenue - cost;
-        totalProfit = new BigDecimal(totalProfit).setScale(2, RoundingMode.HALF_UP).doubleValue();
         logger.info("calculating total profit");
-        return String.valueOf(totalProfit);
+        return calculateTotal(orderBook, statsPayload, StatisticType.PROFIT);
     }
 
     @Override
     public String calculateTotalRevenueOnCompleted(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload) {
-        requireAllNonNull(orderBook, statsPayload);
-        double totalRevenue = getTotalRevenue(orderBook, statsPayload);
-        totalRevenue = new BigDecimal(totalRevenue).setScale(2, RoundingMode.HALF_UP).doubleValue();
         logger.info("calculating total Revenue");
-        return String.valueOf(totalRevenue);
+        return calculateTotal(orderBook, statsPayload, StatisticType.REVENUE);
     }
 
     @Override
     public String calculateTotalCostOnCompleted(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload) {
-        requireAllNonNull(orderBook);
-        DecimalFormat format = new DecimalFormat("##.00");
-        double totalCost = getTotalCost(orderBook, statsPayload);
-        totalCost = new BigDecimal(totalCost).setScale(2, RoundingMode.HALF_UP).doubleValue();
         logger.info("calculating total Cost");
-        return String.valueOf(totalCost);
-    }
-
-
-
-    /*-------Methods to help with calculating monthly detail---------*/
-
-    // utility function to help with extract the relevant data to an XYChar.Data<A,B> object
-    private XYChart.Data<String, Number> processProfitByMonth(List<Order> listOfOrders, Calendar month) {
-        return new XYChart.Data<String, Number>(
-                StringUtil.convertCalendarDateToGraphDisplay(month),
-                StatisticManager.calculateProfitByMonth(listOfOrders, month));
+        return calculateTotal(orderBook, statsPayload, StatisticType.COST);
     }
 
-    // utility function to help with extract the relevant data to an XYChar.Data<A,B> object
-    private XYChart.Data<String, Number> processRevenueByMonth(List<Order> listOfOrders, Calendar month) {
-        return new XYChart.Data<String, Number>(
-                StringUtil.convertCalendarDateToGraphDisplay(month),
-                StatisticManager.calculateRevenueByMonth(listOfOrders, month));
-    }
-
-    // utility function to help with extract the relevant data to an XYChar.Data<A,B> object
-    private XYChart.Data<String, Number> processCostByMonth(List<Order> listOfOrders, Calendar month) {
-        return new XYChart.Data<String, Number>(
-                StringUtil.convertCalendarDateToGraphDisplay(month),
-                StatisticManager.calculateCostByMonth(listOfOrders, month));
-    }
+    /*-------------- helper methods ------------------*/
 
     /**
-     * Takes in an orderlist, calculates the profit of all orders in this month
+     * Returns the series of the monthly amounts of {@code type} of the completed orders in {@code orderBook},
+     * for each month between the starting and ending date of {@code statsPayload}.
      */
-    private static double calculateProfitByMonth(List<Order> orderList, Calendar month) {
-        double[] doubleProfitList =
-                StatisticManager.streamOfPresentOrders(orderList.stream())
-                        .filter(currentOrder ->
-                               DateUtil.extractMonth(currentOrder) == month.get(Calendar.MONTH)
-                                        && DateUtil.extractYear(currentOrder) == month.get(Calendar.YEAR))
-                        .map(currentOrder ->
-                                MoneyUtil.convertToDouble(currentOrder.getPrice())
-                                -
-                                MoneyUtil.convertToDouble(currentOrder.getPhone().getCost()))
-                        .collect(Collectors.toList())
-                        .stream()
-                        .mapToDouble(d -> d).toArray();
-        double result = new BigDecimal(StatUtils.sum(doubleProfitList))
-                .setScale(2, RoundingMode.HALF_UP)
-                .doubleValue();
-        return result;
+    private XYChart.Series<String, Number> calculateGraph(ReadOnlyDataBook<Order> orderBook,
+                                                          StatsPayload statsPayload, StatisticType type) {
+        requireAllNonNull(orderBook, statsPayload);
+        StatisticView view = getView(orderBook);
+        LocalDate firstDate = DateUtil.getFirstDateFrom(statsPayload.getStartingDate());
+        LocalDate lastDate = DateUtil.getLastDateUntil(statsPayload.getEndingDate());
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        List<Calendar> months;
+        if (statsPayload.isDefaultQuery()) {
+            // the dates of a default query are unbounded, so only the months that orders are scheduled in are shown
+            if (!view.getFirstDate().isPresent()) {
+                return series;
+            }
+            firstDate = view.getFirstDate().get();
+            lastDate = view.getLastDate().get();
+            months = DateUtil.getListOfYearMonth(firstDate, lastDate);
+        } else {
+            months = DateUtil.getListOfYearMonth(statsPayload);
+        }
+        for (Calendar month : months) {
+            int yearMonth = Schedule.toYearMonth(month.get(Calendar.YEAR), month.get(Calendar.MONTH));
+            series.getData().add(new XYChart.Data<>(StringUtil.convertCalendarDateToGraphDisplay(month),
+                    Money.ofCents(view.getAmount(type, yearMonth, firstDate, lastDate)).toDollars()));
+        }
+        return series;
     }
 
     /**
-     * Takes in an orderlist, calculates the revenue of all orders in this month
+     * Returns the total amount of {@code type} of the completed orders in {@code orderBook} that are scheduled
+     * between the starting and ending date of {@code statsPayload}.
      */
-    private static double calculateRevenueByMonth(List<Order> orderList, Calendar month) {
-        double[] doubleRevenueList =
-                StatisticManager.streamOfPresentOrders(orderList.stream())
-                .filter(currentOrder ->
-                        DateUtil.extractMonth(currentOrder) == month.get(2)
-                        && DateUtil.extractYear(currentOrder) == month.get(1))
-                .map(currentOrder -> MoneyUtil.convertToDouble(currentOrder.getPrice()))
-                .collect(Collectors.toList())
-                .stream()
-                .mapToDouble(d -> d).toArray();
-        double result = new BigDecimal(StatUtils.sum(doubleRevenueList))
-                .setScale(2, RoundingMode.HALF_UP)
-                .doubleValue();
-        return result;
+    private String calculateTotal(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload,
+                                  StatisticType type) {
+        requireAllNonNull(orderBook, statsPayload);
+        long total = getView(orderBook).getTotal(type, DateUtil.getFirstDateFrom(statsPayload.getStartingDate()),
+                DateUtil.getLastDateUntil(statsPayload.getEndingDate()));
+        return String.valueOf(Money.ofCents(total).toDollars());
     }
 
     /**
-     * Takes in an orderlist, calculates the cost of all orders in this month
+     * Returns the view of the orders in {@code orderBook}, which is only summed up now if they are not the
+     * archived orders that this module keeps up to date.
      */
-    private static double calculateCostByMonth(List<Order> orderList, Calendar month) {
-        double[] doubleCostList =
-                StatisticManager.streamOfPresentOrders(orderList.stream())
-                        .filter(currentOrder ->
-                                DateUtil.extractMonth(currentOrder) == month.get(2)
-                                        && DateUtil.extractYear(currentOrder) == month.get(1))
-                        .map(currentOrder -> MoneyUtil.convertToDouble(currentOrder.getPhone().getCost()))
-                        .collect(Collectors.toList())
-                        .stream()
-                        .mapToDouble(d -> d).toArray();
-        double result = new BigDecimal(StatUtils.sum(doubleCostList))
-                .setScale(2, RoundingMode.HALF_UP)
-                .doubleValue();
-        return result;
-    }
-
-    /*-------------- helper methods ------------------*/
-
-    private double getTotalRevenue(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload) {
-        double[] completedOrderPriceArray = getOrderPriceArrayInDouble(orderBook, statsPayload);
-        return StatUtils.sum(completedOrderPriceArray);
-    }
-
-    private double getTotalCost(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload) {
-        double[] completedOrderPhoneCostList = getPhoneCostArrayInDouble(orderBook, statsPayload);
-        return StatUtils.sum(completedOrderPhoneCostList);
-    }
-
-    /*-----Methods that deal with returning double[]----*/
-    private static double[] getOrderPriceArrayInDouble(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload) {
-        List<Double> completedOrderPriceList = getFilteredOrderListByDate(orderBook, statsPayload)
-                .map(currentOrder -> MoneyUtil.convertToDouble(currentOrder.getPrice()))
-                .collect(Collectors.toList());
-        return completedOrderPriceList.stream().mapToDouble(d -> d).toArray();
-    }
-
-    private static double[] getPhoneCostArrayInDouble(ReadOnlyDataBook<Order> orderBook, StatsPayload statsPayload) {
-        ObservableList<Order> orderList = orderBook.getList();
-        List<Double> completedOrderPhoneList = getFilteredOrderListByDate(orderBook, statsPayload)
-                .map(currentOrder -> MoneyUtil.convertToDouble(currentOrder.getPhone().getCost()))
-                .collect(Collectors.toList());
-        return completedOrderPhoneList.stream().mapToDouble(d -> d).toArray();
-    }
-
-    /*-----helper methods with regards to generating Stream----*/
-    private static Stream<Order> streamOfPresentOrders(Stream<Order> streamOrder) {
-        return streamOrder.filter(currentOrder -> currentOrder.getStatus() == Status.COMPLETED)
-                .filter(currentOrder -> currentOrder.getSchedule().isPresent());
-    }
-
-    private static Stream<Order> getFilteredOrderListByDate(ReadOnlyDataBook<Order> orderBook,
-                                                            StatsPayload statsPayload) {
-        assert (statsPayload.getStartingDate() != null
-                && statsPayload.getEndingDate() != null);
-        ObservableList<Order> orderList = orderBook.getList();
-        return StatisticManager.streamOfPresentOrders(orderList.stream())
-                .filter(currentOrder -> statsPayload.getStartingDate().compareTo(
-                        DateUtil.extractMonthYear(currentOrder)) <= 0)
-                .filter(currentOrder -> statsPayload.getEndingDate().compareTo(
-                        DateUtil.extractMonthYear(currentOrder)) >= 0);
+    private StatisticView getView(ReadOnlyDataBook<Order> orderBook) {
+        ObservableList<Order> orders = orderBook.getList();
+        if (archivedOrderView != null && orders == archivedOrders) {
+            return archivedOrderView;
+        }
+        logger.info("aggregating orders from order Book");
+        return StatisticView.of(orders);
     }
 }
-
-
@@ -0,0 +1,174 @@
+package seedu.address.statistic;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.statisticcommand.StatisticType;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * The revenue and cost of the completed orders in a list, summed up by the month and by the day of their schedule.
+ * A view that observes its list is kept up to date at a constant cost per order added to or removed from the list,
+ * including the changes made by undo, redo and clear.
+ * The amounts over any range of dates are answered in time proportional to the number of months in the range,
+ * rather than the number of orders.
+ */
+class StatisticView {
+
+    private final PeriodTotals monthlyTotals = new PeriodTotals();
+    private final PeriodTotals dailyTotals = new PeriodTotals();
+    // the number of orders in the view scheduled on each epoch day that has any
+    private final TreeMap<Integer, Integer> orderCountsByDay = new TreeMap<>();
+
+    private StatisticView(List<Order> orders) {
+        orders.forEach(this::add);
+    }
+
+    /**
+     * Returns a view of the orders in {@code orders} as they are now, built in a single pass over them.
+     */
+    static StatisticView of(List<Order> orders) {
+        return new StatisticView(orders);
+    }
+
+    /**
+     * Returns a view of the orders in {@code orders} that is kept up to date as {@code orders} changes.
+     */
+    static StatisticView observing(ObservableList<Order> orders) {
+        StatisticView view = new StatisticView(orders);
+        orders.addListener((ListChangeListener<Order>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(view::remove);
+                change.getAddedSubList().forEach(view::add);
+            }
+        });
+        return view;
+    }
+
+    /**
+     * Returns the amount of {@code type}, in cents, of the orders scheduled in {@code yearMonth}
+     * from {@code firstDate} to {@code lastDate} inclusive.
+     *
+     * @see Schedule#getYearMonth()
+     */
+    long getAmount(StatisticType type, int yearMonth, LocalDate firstDate, LocalDate lastDate) {
+        LocalDate monthStart = LocalDate.of(Math.floorDiv(yearMonth, 12), Math.floorMod(yearMonth, 12) + 1, 1);
+        LocalDate monthEnd = monthStart.plusMonths(1).minusDays(1);
+        if (!monthStart.isBefore(firstDate) && !monthEnd.isAfter(lastDate)) {
+            return get(monthlyTotals, type, yearMonth);
+        }
+
+        // only the days of a month that is partly in the range are summed up one by one
+        long firstDay = Math.max(monthStart.toEpochDay(), firstDate.toEpochDay());
+        long lastDay = Math.min(monthEnd.toEpochDay(), lastDate.toEpochDay());
+        long amount = 0;
+        for (long day = firstDay; day <= lastDay; day++) {
+            amount += get(dailyTotals, type, (int) day);
+        }
+        return amount;
+    }
+
+    /**
+     * Returns the amount of {@code type}, in cents, of the orders scheduled from {@code firstDate} to
+     * {@code lastDate} inclusive.
+     * Only the months between the first and last date that orders in the view are scheduled on are summed up,
+     * however far apart {@code firstDate} and {@code lastDate} are.
+     */
+    long getTotal(StatisticType type, LocalDate firstDate, LocalDate lastDate) {
+        if (orderCountsByDay.isEmpty()) {
+            return 0;
+        }
+        LocalDate firstOrderDate = getFirstDate().get();
+        LocalDate lastOrderDate = getLastDate().get();
+        int firstYearMonth = toYearMonth(firstDate.isAfter(firstOrderDate) ? firstDate : firstOrderDate);
+        int lastYearMonth = toYearMonth(lastDate.isBefore(lastOrderDate) ? lastDate : lastOrderDate);
+        long total = 0;
+        for (int yearMonth = firstYearMonth; yearMonth <= lastYearMonth; yearMonth++) {
+            total += getAmount(type, yearMonth, firstDate, lastDate);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the first date that an order in the view is scheduled on, if there are any orders.
+     */
+    Optional<LocalDate> getFirstDate() {
+        return orderCountsByDay.isEmpty()
+                ? Optional.empty()
+                : Optional.of(LocalDate.ofEpochDay(orderCountsByDay.firstKey()));
+    }
+
+    /**
+     * Returns the last date that an order in the view is scheduled on, if there are any orders.
+     */
+    Optional<LocalDate> getLastDate() {
+        return orderCountsByDay.isEmpty()
+                ? Optional.empty()
+                : Optional.of(LocalDate.ofEpochDay(orderCountsByDay.lastKey()));
+    }
+
+    /**
+     * Adds the amounts of {@code order} to the view.
+     */
+    private void add(Order order) {
+        update(order, 1);
+    }
+
+    /**
+     * Takes the amounts of {@code order} away from the view.
+     */
+    private void remove(Order order) {
+        update(order, -1);
+    }
+
+    /**
+     * Adds {@code sign} times the amounts of {@code order} to the view, if it is a completed order with a schedule.
+     */
+    private void update(Order order, int sign) {
+        if (order.getStatus() != Status.COMPLETED || !order.getSchedule().isPresent()) {
+            return;
+        }
+        Schedule schedule = order.getSchedule().get();
+        long revenue = sign * order.getPrice().getAmount().getCents();
+        long cost = sign * order.getPhone().getCost().getAmount().getCents();
+        int day = (int) schedule.getDateTime().toLocalDate().toEpochDay();
+        monthlyTotals.add(schedule.getYearMonth(), revenue, cost);
+        dailyTotals.add(day, revenue, cost);
+        orderCountsByDay.merge(day, sign, (count, change) -> count + change == 0 ? null : count + change);
+    }
+
+    /**
+     * Returns the year-month key of {@code date}.
+     *
+     * @see Schedule#toYearMonth(int, int)
+     */
+    private static int toYearMonth(LocalDate date) {
+        return Schedule.toYearMonth(date.getYear(), date.getMonthValue() - 1);
+    }
+
+    /**
+     * Returns the amount of {@code type} in the bucket of {@code period} of {@code totals}.
+     */
+    private static long get(PeriodTotals totals, StatisticType type, int period) {
+        switch (type) {
+        case PROFIT:
+            return totals.getProfit(period);
+        case REVENUE:
+            return totals.getRevenue(period);
+        case COST:
+            return totals.getCost(period);
+        default:
+            throw new AssertionError("Unknown statistic type: " + type);
+        }
+    }
+
+}
@@ -0,0 +1,270 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyDataBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.phone.Phone;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A {@code Storage} that saves the changes to each data book to an append-only journal next to the json file
+ * of the data book in another {@code Storage}, and compacts the journal into the json file once in a while.
+ * Reading a data book loads its json file and applies the changes in its journal.
+ * Data books read from or saved to other files are passed straight to the other {@code Storage}.
+ */
+public class JournalStorage implements Storage {
+
+    private final Storage storage;
+    private final JsonBookJournal<Customer> customerBookJournal;
+    private final JsonBookJournal<Phone> phoneBookJournal;
+    private final JsonBookJournal<Schedule> scheduleBookJournal;
+    private final JsonBookJournal<Order> orderBookJournal;
+    private final JsonBookJournal<Order> archivedOrderBookJournal;
+    // the bytes written when getBytesWrittenBySaves was last called
+    private long bytesWrittenAtLastCall;
+
+    public JournalStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        customerBookJournal = new JsonBookJournal<>(storage.getCustomerBookFilePath(),
+                storage::readCustomerBook, storage::saveCustomerBook, JsonSerializableCustomerBook::new, json ->
+                JsonUtil.fromJsonString(json, JsonSerializableCustomerBook.class).toModelType());
+        phoneBookJournal = new JsonBookJournal<>(storage.getPhoneBookFilePath(),
+                storage::readPhoneBook, storage::savePhoneBook, JsonSerializablePhoneBook::new, json ->
+                JsonUtil.fromJsonString(json, JsonSerializablePhoneBook.class).toModelType());
+        scheduleBookJournal = new JsonBookJournal<>(storage.getScheduleBookFilePath(),
+                storage::readScheduleBook, storage::saveScheduleBook, JsonSerializableScheduleBook::new, json ->
+                JsonUtil.fromJsonString(json, JsonSerializableScheduleBook.class).toModelType());
+        orderBookJournal = new JsonBookJournal<>(storage.getOrderBookFilePath(),
+                storage::readOrderBook, storage::saveOrderBook, JsonSerializableOrderBook::new, json ->
+                JsonUtil.fromJsonString(json, JsonSerializableOrderBook.class).toModelType());
+        archivedOrderBookJournal = new JsonBookJournal<>(storage.getArchivedOrderBookFilePath(),
+                storage::readArchivedOrderBook, storage::saveArchivedOrderBook, JsonSerializableOrderBook::new, json ->
+                JsonUtil.fromJsonString(json, JsonSerializableOrderBook.class).toModelType());
+    }
+
+    @Override
+    public void flush() throws IOException {
+        storage.flush();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten() + customerBookJournal.getBytesWritten() + phoneBookJournal.getBytesWritten()
+                + scheduleBookJournal.getBytesWritten() + orderBookJournal.getBytesWritten()
+                + archivedOrderBookJournal.getBytesWritten();
+    }
+
+    @Override
+    public synchronized CompletableFuture<Long> getBytesWrittenBySaves() {
+        // every save is written before it returns, as the journals and the other storage are written in place
+        long bytesWrittenNow = getBytesWritten();
+        long bytesWrittenBySaves = bytesWrittenNow - bytesWrittenAtLastCall;
+        bytesWrittenAtLastCall = bytesWrittenNow;
+        return CompletableFuture.completedFuture(bytesWrittenBySaves);
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ Customer DataBook methods ==============================
+
+    @Override
+    public Path getCustomerBookFilePath() {
+        return customerBookJournal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Customer>> readCustomerBook() throws DataConversionException, IOException {
+        return customerBookJournal.read();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Customer>> readCustomerBook(Path filePath) throws DataConversionException,
+            IOException {
+        if (filePath.equals(getCustomerBookFilePath())) {
+            return readCustomerBook();
+        }
+        return storage.readCustomerBook(filePath);
+    }
+
+    @Override
+    public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook) throws IOException {
+        customerBookJournal.save(customerBook);
+    }
+
+    @Override
+    public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook, Path filePath) throws IOException {
+        if (filePath.equals(getCustomerBookFilePath())) {
+            saveCustomerBook(customerBook);
+            return;
+        }
+        storage.saveCustomerBook(customerBook, filePath);
+    }
+
+    // ================ Phone DataBook methods ==============================
+
+    @Override
+    public Path getPhoneBookFilePath() {
+        return phoneBookJournal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Phone>> readPhoneBook() throws DataConversionException, IOException {
+        return phoneBookJournal.read();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Phone>> readPhoneBook(Path filePath) throws DataConversionException,
+            IOException {
+        if (filePath.equals(getPhoneBookFilePath())) {
+            return readPhoneBook();
+        }
+        return storage.readPhoneBook(filePath);
+    }
+
+    @Override
+    public void savePhoneBook(ReadOnlyDataBook<Phone> phoneBook) throws IOException {
+        phoneBookJournal.save(phoneBook);
+    }
+
+    @Override
+    public void savePhoneBook(ReadOnlyDataBook<Phone> phoneBook, Path filePath) throws IOException {
+        if (filePath.equals(getPhoneBookFilePath())) {
+            savePhoneBook(phoneBook);
+            return;
+        }
+        storage.savePhoneBook(phoneBook, filePath);
+    }
+
+    // ================ Schedule DataBook methods ==============================
+
+    @Override
+    public Path getScheduleBookFilePath() {
+        return scheduleBookJournal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Schedule>> readScheduleBook() throws DataConversionException, IOException {
+        return scheduleBookJournal.read();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Schedule>> readScheduleBook(Path filePath) throws DataConversionException,
+            IOException {
+        if (filePath.equals(getScheduleBookFilePath())) {
+            return readScheduleBook();
+        }
+        return storage.readScheduleBook(filePath);
+    }
+
+    @Override
+    public void saveScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook) throws IOException {
+        scheduleBookJournal.save(scheduleBook);
+    }
+
+    @Override
+    public void saveScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook, Path filePath) throws IOException {
+        if (filePath.equals(getScheduleBookFilePath())) {
+            saveScheduleBook(scheduleBook);
+            return;
+        }
+        storage.saveScheduleBook(scheduleBook, filePath);
+    }
+
+    // ================ Order DataBook methods ==============================
+
+    @Override
+    public Path getOrderBookFilePath() {
+        return orderBookJournal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readOrderBook() throws DataConversionException, IOException {
+        return orderBookJournal.read();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readOrderBook(Path filePath) throws DataConversionException,
+            IOException {
+        if (filePath.equals(getOrderBookFilePath())) {
+            return readOrderBook();
+        }
+        return storage.readOrderBook(filePath);
+    }
+
+    @Override
+    public void saveOrderBook(ReadOnlyDataBook<Order> orderBook) throws IOException {
+        orderBookJournal.save(orderBook);
+    }
+
+    @Override
+    public void saveOrderBook(ReadOnlyDataBook<Order> orderBook, Path filePath) throws IOException {
+        if (filePath.equals(getOrderBookFilePath())) {
+            saveOrderBook(orderBook);
+            return;
+        }
+        storage.saveOrderBook(orderBook, filePath);
+    }
+
+    // ================ Archived Order DataBook methods ==============================
+
+    @Override
+    public Path getArchivedOrderBookFilePath() {
+        return archivedOrderBookJournal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readArchivedOrderBook() throws DataConversionException, IOException {
+        return archivedOrderBookJournal.read();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readArchivedOrderBook(Path filePath) throws DataConversionException,
+            IOException {
+        if (filePath.equals(getArchivedOrderBookFilePath())) {
+            return readArchivedOrderBook();
+        }
+        return storage.readArchivedOrderBook(filePath);
+    }
+
+    @Override
+    public void saveArchivedOrderBook(ReadOnlyDataBook<Order> archivedOrderBook) throws IOException {
+        archivedOrderBookJournal.save(archivedOrderBook);
+    }
+
+    @Override
+    public void saveArchivedOrderBook(ReadOnlyDataBook<Order> archivedOrderBook, Path filePath) throws IOException {
+        if (filePath.equals(getArchivedOrderBookFilePath())) {
+            saveArchivedOrderBook(archivedOrderBook);
+            return;
+        }
+        storage.saveArchivedOrderBook(archivedOrderBook, filePath);
+    }
+
+}
@@ -1,6 +1,5 @@
 package seedu.address.storage;
 
-import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -10,32 +9,25 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
-import seedu.address.model.customer.ContactNumber;
 import seedu.address.model.customer.Customer;
-import seedu.address.model.customer.CustomerName;
-import seedu.address.model.customer.Email;
 import seedu.address.model.order.Order;
 import seedu.address.model.order.Price;
 import seedu.address.model.order.Status;
-import seedu.address.model.phone.Brand;
-import seedu.address.model.phone.Capacity;
-import seedu.address.model.phone.Colour;
-import seedu.address.model.phone.Cost;
-import seedu.address.model.phone.IdentityNumber;
 import seedu.address.model.phone.Phone;
-import seedu.address.model.phone.PhoneName;
-import seedu.address.model.phone.SerialNumber;
 import seedu.address.model.schedule.Schedule;
-import seedu.address.model.schedule.Venue;
 import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Order}.
+ * The customer, phone and schedule of the order are either embedded in it or referred to by their position in
+ * the {@code OrderReferenceTable} of the order book.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonAdaptedOrder {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Order's %s field is missing!";
@@ -48,7 +40,10 @@ class JsonAdaptedOrder {
     private final JsonAdaptedPhone phone;
     private final String price;
     private final String status;
-    private JsonAdaptedSchedule schedule;
+    private final JsonAdaptedSchedule schedule;
+    private final Integer customerRef;
+    private final Integer phoneRef;
+    private final Integer scheduleRef;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
@@ -60,6 +55,9 @@ class JsonAdaptedOrder {
                             @JsonProperty("phone") JsonAdaptedPhone phone, @JsonProperty("price") String price,
                             @JsonProperty("status") String status,
                             @JsonProperty("schedule") JsonAdaptedSchedule schedule,
+                            @JsonProperty("customerRef") Integer customerRef,
+                            @JsonProperty("phoneRef") Integer phoneRef,
+                            @JsonProperty("scheduleRef") Integer scheduleRef,
                             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
         this.id = id;
         this.customer = customer;
@@ -67,26 +65,50 @@ class JsonAdaptedOrder {
         this.price = price;
         this.status = status;
         this.schedule = schedule;
+        this.customerRef = customerRef;
+        this.phoneRef = phoneRef;
+        this.scheduleRef = scheduleRef;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
     }
 
     /**
-     * Converts a given {@code Order} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedOrder} with the given order details and an embedded customer, phone
+     * and schedule.
+     */
+    public JsonAdaptedOrder(String id, JsonAdaptedCustomer customer, JsonAdaptedPhone phone, String price,
+                            String status, JsonAdaptedSchedule schedule, List<JsonAdaptedTag> tagged) {
+        this(id, customer, phone, price, status, schedule, null, null, null, tagged);
+    }
+
+    /**
+     * Converts a given {@code Order} into this class for Jackson use, embedding its customer, phone and schedule.
      */
     public JsonAdaptedOrder(Order source) {
-        id = source.getId().toString();
-        customer = new JsonAdaptedCustomer(source.getCustomer());
-        phone = new JsonAdaptedPhone(source.getPhone());
-        price = source.getPrice().value;
-        status = source.getStatus().toString();
-        if (source.getSchedule().isPresent()) {
-            schedule = new JsonAdaptedSchedule(source.getSchedule().get());
-        }
-        tagged.addAll(source.getTags().stream()
+        this(source.getId().toString(), new JsonAdaptedCustomer(source.getCustomer()),
+                new JsonAdaptedPhone(source.getPhone()), source.getPrice().value, source.getStatus().toString(),
+                source.getSchedule().map(JsonAdaptedSchedule::new).orElse(null), null, null, null,
+                adaptTags(source));
+    }
+
+    /**
+     * Converts a given {@code Order} into this class for Jackson use, referring to its customer, phone and schedule
+     * by their position in {@code references}, which they are added to if needed.
+     */
+    public JsonAdaptedOrder(Order source, OrderReferenceTable references) {
+        this(source.getId().toString(), null, null, source.getPrice().value, source.getStatus().toString(), null,
+                references.refer(source.getCustomer()), references.refer(source.getPhone()),
+                source.getSchedule().map(references::refer).orElse(null), adaptTags(source));
+    }
+
+    /**
+     * Returns the Jackson-friendly versions of the tags of {@code source}.
+     */
+    private static List<JsonAdaptedTag> adaptTags(Order source) {
+        return source.getTags().stream()
                 .map(JsonAdaptedTag::new)
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
     }
 
     /**
@@ -94,7 +116,17 @@ class JsonAdaptedOrder {
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted order.
      */
-    public Order toModelType() throws IllegalValueException, ParseException {
+    public Order toModelType() throws IllegalValueException {
+        return toModelType(new OrderReferenceTable());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted Order object into the model's {@code Order} object,
+     * resolving references against {@code references} and sharing embedded objects through it.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted order.
+     */
+    public Order toModelType(OrderReferenceTable references) throws IllegalValueException {
         final List<Tag> orderTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             orderTags.add(tag.toModelType());
@@ -113,49 +145,21 @@ class JsonAdaptedOrder {
                     UUID.class.getSimpleName()));
         }
 
-        if (customer == null) {
+        if (customer == null && customerRef == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Customer.class.getSimpleName()));
         }
-        if (!CustomerName.isValidCustomerName(customer.toModelType().getCustomerName()
-                .toString())) {
-            throw new IllegalValueException(CustomerName.MESSAGE_CONSTRAINTS);
-        }
-        if (!ContactNumber.isValidContactNumber(customer.toModelType().getContactNumber()
-                .toString())) {
-            throw new IllegalValueException(ContactNumber.MESSAGE_CONSTRAINTS);
-        }
-        if (!Email.isValidEmail(customer.toModelType().getEmail().toString())) {
-            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
-        }
-        final Customer modelCustomer = customer.toModelType();
+        final Customer modelCustomer = customer == null
+                ? references.getCustomer(customerRef)
+                : references.share(customer.toModelType());
 
-        if (phone == null) {
+        if (phone == null && phoneRef == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Phone.class.getSimpleName()));
         }
-        if (!IdentityNumber.isValidIdentityNumber(phone.toModelType().getIdentityNumber().toString())) {
-            throw new IllegalValueException(IdentityNumber.MESSAGE_CONSTRAINTS);
-        }
-        if (!SerialNumber.isValidSerialNumber(phone.toModelType().getSerialNumber().toString())) {
-            throw new IllegalValueException(SerialNumber.MESSAGE_CONSTRAINTS);
-        }
-        if (!PhoneName.isValidPhoneName(phone.toModelType().getPhoneName().toString())) {
-            throw new IllegalValueException(PhoneName.MESSAGE_CONSTRAINTS);
-        }
-        if (!Brand.isValidBrand(phone.toModelType().getBrand().toString())) {
-            throw new IllegalValueException(Brand.MESSAGE_CONSTRAINTS);
-        }
-        if (!Capacity.isValidCapacity(phone.toModelType().getCapacity().toString().split("GB")[0])) {
-            throw new IllegalValueException(Capacity.MESSAGE_CONSTRAINTS);
-        }
-        if (!Colour.isValidColour(phone.toModelType().getColour().toString())) {
-            throw new IllegalValueException(Colour.MESSAGE_CONSTRAINTS);
-        }
-        if (!Cost.isValidCost(phone.toModelType().getCost().toString())) {
-            throw new IllegalValueException(Cost.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = phone.toModelType();
+        final Phone modelPhone = phone == null
+                ? references.getPhone(phoneRef)
+                : references.share(phone.toModelType());
 
         if (price == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -184,17 +188,15 @@ class JsonAdaptedOrder {
         }
         final Status modelStatus = temp;
 
-        if (schedule == null && !status.equals("Unscheduled")) {
+        if (schedule == null && scheduleRef == null && !status.equals("Unscheduled")) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     Schedule.class.getSimpleName()));
         }
-        if (schedule != null && !Venue.isValidVenue(schedule.toModelType().getVenue().toString())) {
-            throw new IllegalValueException(Venue.MESSAGE_CONSTRAINTS);
-        }
-
         final Optional<Schedule> modelSchedule;
         if (schedule != null) {
-            modelSchedule = Optional.of(schedule.toModelType());
+            modelSchedule = Optional.of(references.share(schedule.toModelType()));
+        } else if (scheduleRef != null) {
+            modelSchedule = Optional.of(references.getSchedule(scheduleRef));
         } else {
             modelSchedule = Optional.ofNullable(null);
         }
@@ -1,6 +1,6 @@
 package seedu.address.storage;
 
-import java.text.ParseException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashSet;
@@ -54,13 +54,9 @@ class JsonAdaptedSchedule {
      */
     public JsonAdaptedSchedule(Schedule source) {
         id = source.getId().toString();
-        StringBuilder sb = new StringBuilder();
-        sb.append(source.getCalendar().get(Calendar.YEAR) + ".")
-                .append(String.format("%02d", source.getCalendar().get(Calendar.MONTH) + 1) + ".")
-                .append(String.format("%02d", source.getCalendar().get(Calendar.DAY_OF_MONTH)) + ".")
-                .append(String.format("%02d", source.getCalendar().get(Calendar.HOUR_OF_DAY)) + ".")
-                .append(String.format("%02d", source.getCalendar().get(Calendar.MINUTE)));
-        calendar = sb.toString();
+        LocalDateTime dateTime = source.getDateTime();
+        calendar = String.format("%d.%02d.%02d.%02d.%02d", dateTime.getYear(), dateTime.getMonthValue(),
+                dateTime.getDayOfMonth(), dateTime.getHour(), dateTime.getMinute());
         venue = source.getVenue().venue;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
@@ -72,7 +68,7 @@ class JsonAdaptedSchedule {
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted schedule.
      */
-    public Schedule toModelType() throws IllegalValueException, ParseException {
+    public Schedule toModelType() throws IllegalValueException {
         final List<Tag> scheduleTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             scheduleTags.add(tag.toModelType());
@@ -95,9 +91,9 @@ class JsonAdaptedSchedule {
         for (int index = 0; index < 5; index++) {
             input[index] = Integer.parseInt(stringCalendar[index]);
         }
-        input[1] -= 1;
-        Calendar modelCalendar = new Calendar.Builder().setDate(input[0], input[1], input[2])
-                .setTimeOfDay(input[3], input[4], 0).build();
+        // out of range fields roll over into the next field, as they did when schedules were stored as Calendars
+        LocalDateTime modelDateTime = LocalDateTime.of(input[0], 1, 1, 0, 0).plusMonths(input[1] - 1)
+                .plusDays(input[2] - 1).plusHours(input[3]).plusMinutes(input[4]);
 
         if (venue == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
@@ -109,7 +105,7 @@ class JsonAdaptedSchedule {
         final Venue modelVenue = new Venue(venue.toString());
 
         final Set<Tag> modelTags = new HashSet<>(scheduleTags);
-        return new Schedule(modelId, modelCalendar, modelVenue, modelTags);
+        return new Schedule(modelId, modelDateTime, modelVenue, modelTags);
     }
 
 }
@@ -0,0 +1,271 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.DataBook;
+import seedu.address.model.DataBookChange;
+import seedu.address.model.DuplicateIdentityException;
+import seedu.address.model.Identifiable;
+import seedu.address.model.ReadOnlyDataBook;
+
+/**
+ * An append-only journal of the changes saved to a data book that is stored as a json file by another storage.
+ * Each save appends only the range of objects that changed since the previous save, as recorded by the data book,
+ * so it costs O(change) rather than O(all data). Once the journal grows larger than the json file, it is compacted
+ * by saving the whole data book to the json file and starting a new journal.
+ * The first line of the journal is the checksum of the json file it applies to, so that the journal left behind
+ * by an interrupted compaction is ignored.
+ * @param <T> A class that implements {@code Identifiable}.
+ */
+class JsonBookJournal<T extends Identifiable<T>> {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String MESSAGE_INVALID_CHANGE = "Journal contains a change outside of the data book.";
+
+    private static final int CHECKSUM_BUFFER_SIZE = 1 << 16;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonBookJournal.class);
+
+    private final Path filePath;
+    private final Path journalFilePath;
+    private final BookReader<T> reader;
+    private final BookWriter<T> writer;
+    private final Function<ReadOnlyDataBook<T>, Object> serializer;
+    private final BookParser<T> parser;
+
+    // the data book as last saved, or null if the journal is not known to match the json file
+    private ReadOnlyDataBook<T> savedBook;
+    private long fileSize;
+    private volatile long bytesWritten;
+
+    /**
+     * Creates a journal for the data book stored at {@code filePath}.
+     *
+     * @param reader reads the data book from a json file.
+     * @param writer writes the whole data book to a json file.
+     * @param serializer converts a data book into its Jackson-friendly version.
+     * @param parser converts the json of a data book into a data book.
+     */
+    JsonBookJournal(Path filePath, BookReader<T> reader, BookWriter<T> writer,
+                    Function<ReadOnlyDataBook<T>, Object> serializer, BookParser<T> parser) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.journalFilePath = Paths.get(filePath.toString() + JOURNAL_FILE_EXTENSION);
+        this.reader = reader;
+        this.writer = writer;
+        this.serializer = serializer;
+        this.parser = parser;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    /**
+     * Returns the number of bytes written to the journal so far.
+     * Bytes written to the json file are counted by the storage that writes it.
+     */
+    long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    /**
+     * Returns the data book in the json file with the changes in the journal applied,
+     * or {@code Optional.empty()} if the json file is not found.
+     * An incomplete last change, left by a crash while it was being appended, is ignored.
+     *
+     * @throws DataConversionException if the json file or the journal is not in the correct format.
+     */
+    Optional<ReadOnlyDataBook<T>> read() throws DataConversionException, IOException {
+        savedBook = null;
+        Optional<ReadOnlyDataBook<T>> book = reader.read(filePath);
+        if (!book.isPresent() || !Files.exists(journalFilePath)) {
+            return book;
+        }
+
+        String journal = FileUtil.readFromFile(journalFilePath);
+        boolean isComplete = journal.endsWith("\n");
+        String[] lines = journal.split("\n");
+        if (!lines[0].equals(String.valueOf(getChecksum(filePath)))) {
+            logger.info("Journal " + journalFilePath + " does not apply to " + filePath + " and is ignored");
+            return book;
+        }
+
+        int changeCount = isComplete ? lines.length : lines.length - 1;
+        List<T> objects = new ArrayList<>(book.get().getList());
+        for (int i = 1; i < changeCount; i++) {
+            apply(lines[i], objects);
+        }
+        if (!isComplete) {
+            logger.warning("Incomplete change found in " + journalFilePath + " is ignored");
+        }
+
+        DataBook<T> journaledBook = new DataBook<>();
+        try {
+            journaledBook.setData(objects);
+        } catch (DuplicateIdentityException e) {
+            throw new DataConversionException(e);
+        }
+        if (isComplete) {
+            savedBook = journaledBook.snapshot();
+            fileSize = Files.size(filePath);
+        }
+        return Optional.of(journaledBook);
+    }
+
+    /**
+     * Applies the change in the journal line {@code line} to {@code objects}.
+     *
+     * @throws DataConversionException if the line is not a valid change to {@code objects}.
+     */
+    private void apply(String line, List<T> objects) throws DataConversionException {
+        try {
+            JsonJournalEntry entry = JsonUtil.fromJsonString(line, JsonJournalEntry.class);
+            int from = entry.getFrom();
+            int to = from + entry.getCount();
+            if (from < 0 || entry.getCount() < 0 || to > objects.size() || entry.getAdded() == null) {
+                throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+            }
+
+            List<T> added = parser.parse(entry.getAdded()).getList();
+            objects.subList(from, to).clear();
+            objects.addAll(from, added);
+        } catch (IOException | IllegalValueException | ParseException e) {
+            logger.info("Invalid change found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Saves {@code book} by appending the objects that changed since the last save to the journal,
+     * compacting the journal if it has grown larger than the json file.
+     * The changed range is the one the data book recorded as it was changed, so a save takes time proportional to
+     * the change rather than to the size of the data book.
+     */
+    void save(ReadOnlyDataBook<T> book) throws IOException {
+        ReadOnlyDataBook<T> snapshot = book.snapshot();
+        if (savedBook == null) {
+            compact(snapshot);
+            return;
+        }
+
+        DataBookChange change = snapshot.getChangeSince(savedBook).orElseGet(() -> compareWithSaved(snapshot));
+        if (change.isEmpty()) {
+            savedBook = snapshot;
+            return;
+        }
+
+        int from = change.getFrom();
+        DataBook<T> added = new DataBook<>();
+        added.setData(snapshot.getRange(from, from + change.getAddedCount()));
+        JsonJournalEntry entry = new JsonJournalEntry(from, change.getRemovedCount(),
+                JsonUtil.toCompactJsonString(serializer.apply(added)));
+
+        // a failed append may leave an incomplete change behind, which only a compaction can discard
+        savedBook = null;
+        long journalSize = Files.size(journalFilePath);
+        FileUtil.appendToFile(journalFilePath, JsonUtil.toCompactJsonString(entry) + "\n");
+        savedBook = snapshot;
+
+        long newJournalSize = Files.size(journalFilePath);
+        bytesWritten += newJournalSize - journalSize;
+        if (newJournalSize > fileSize) {
+            compact(snapshot);
+        }
+    }
+
+    /**
+     * Returns the range in which {@code snapshot} differs from the data book as last saved, by comparing their
+     * objects from both ends. Only needed when {@code snapshot} was not taken from the same data book as the last
+     * save, such as for the first save after a read.
+     */
+    private DataBookChange compareWithSaved(ReadOnlyDataBook<T> snapshot) {
+        List<T> savedObjects = savedBook.getList();
+        List<T> objects = snapshot.getList();
+        int from = 0;
+        int savedTo = savedObjects.size();
+        int to = objects.size();
+        while (from < savedTo && from < to && savedObjects.get(from) == objects.get(from)) {
+            from++;
+        }
+        while (savedTo > from && to > from && savedObjects.get(savedTo - 1) == objects.get(to - 1)) {
+            savedTo--;
+            to--;
+        }
+        return new DataBookChange(from, savedTo - from, to - from);
+    }
+
+    /**
+     * Saves the whole of {@code snapshot} to the json file and starts a new, empty journal.
+     */
+    private void compact(ReadOnlyDataBook<T> snapshot) throws IOException {
+        logger.fine("Compacting journal " + journalFilePath);
+        savedBook = null;
+        writer.write(snapshot, filePath);
+        FileUtil.writeToFile(journalFilePath, getChecksum(filePath) + "\n");
+        bytesWritten += Files.size(journalFilePath);
+        fileSize = Files.size(filePath);
+        savedBook = snapshot;
+    }
+
+    /**
+     * Returns the checksum of {@code file}, reading it a buffer at a time.
+     */
+    private static long getChecksum(Path file) throws IOException {
+        CRC32 checksum = new CRC32();
+        byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            for (int count = in.read(buffer); count != -1; count = in.read(buffer)) {
+                checksum.update(buffer, 0, count);
+            }
+        }
+        return checksum.getValue();
+    }
+
+    /**
+     * Reads a data book from a json file.
+     */
+    @FunctionalInterface
+    interface BookReader<T> {
+        Optional<ReadOnlyDataBook<T>> read(Path filePath) throws DataConversionException, IOException;
+    }
+
+    /**
+     * Writes a whole data book to a json file.
+     */
+    @FunctionalInterface
+    interface BookWriter<T> {
+        void write(ReadOnlyDataBook<T> book, Path filePath) throws IOException;
+    }
+
+    /**
+     * Converts the json of a data book into a data book.
+     */
+    @FunctionalInterface
+    interface BookParser<T> {
+        ReadOnlyDataBook<T> parse(String json) throws IOException, IllegalValueException, ParseException;
+    }
+
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Jackson-friendly version of a change saved to a data book journal.
+ * The change replaces {@code count} objects starting at index {@code from} with the objects
+ * of {@code added}, which is the JSON of a serializable data book.
+ */
+class JsonJournalEntry {
+
+    private final int from;
+    private final int count;
+    @JsonRawValue
+    private final String added;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given change details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("from") int from, @JsonProperty("count") int count,
+                            @JsonProperty("added") JsonNode added) {
+        this(from, count, added == null ? null : added.toString());
+    }
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with {@code added} as the JSON of the added objects.
+     */
+    public JsonJournalEntry(int from, int count, String added) {
+        this.from = from;
+        this.count = count;
+        this.added = added;
+    }
+
+    public int getFrom() {
+        return from;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public String getAdded() {
+        return added;
+    }
+
+}
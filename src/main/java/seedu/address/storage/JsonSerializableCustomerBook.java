@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DataBook;
+import seedu.address.model.DuplicateIdentityException;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.customer.Customer;
 
@@ -46,13 +47,13 @@ class JsonSerializableCustomerBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public DataBook<Customer> toModelType() throws IllegalValueException {
+        List<Customer> customerList = ParallelConversion.convertAll(customers, JsonAdaptedCustomer::toModelType);
+
         DataBook<Customer> customerBook = new DataBook<>();
-        for (JsonAdaptedCustomer jsonAdaptedCustomer : customers) {
-            Customer customer = jsonAdaptedCustomer.toModelType();
-            if (customerBook.has(customer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_CUSTOMER);
-            }
-            customerBook.add(customer);
+        try {
+            customerBook.setData(customerList);
+        } catch (DuplicateIdentityException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_CUSTOMER);
         }
         return customerBook;
     }
@@ -11,24 +11,46 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DataBook;
+import seedu.address.model.DuplicateIdentityException;
 import seedu.address.model.ReadOnlyDataBook;
+import seedu.address.model.customer.Customer;
 import seedu.address.model.order.Order;
+import seedu.address.model.phone.Phone;
+import seedu.address.model.schedule.Schedule;
 
 /**
  * An Immutable Order DataBook that is serializable to JSON format.
+ * Each distinct customer, phone and schedule is stored once, and orders refer to them by their position.
+ * Order books in which orders embed their customer, phone and schedule can still be read.
  */
 @JsonRootName(value = "orderbook")
 class JsonSerializableOrderBook {
 
     public static final String MESSAGE_DUPLICATE_ORDER = "orders list contains duplicate order(s).";
 
+    private final List<JsonAdaptedCustomer> customers = new ArrayList<>();
+    private final List<JsonAdaptedPhone> phones = new ArrayList<>();
+    private final List<JsonAdaptedSchedule> schedules = new ArrayList<>();
     private final List<JsonAdaptedOrder> orders = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableOrderBook} with the given orders.
+     * Constructs a {@code JsonSerializableOrderBook} with the given orders and the customers, phones and schedules
+     * they refer to.
      */
     @JsonCreator
-    public JsonSerializableOrderBook(@JsonProperty("orders") List<JsonAdaptedOrder> orders) {
+    public JsonSerializableOrderBook(@JsonProperty("customers") List<JsonAdaptedCustomer> customers,
+                                     @JsonProperty("phones") List<JsonAdaptedPhone> phones,
+                                     @JsonProperty("schedules") List<JsonAdaptedSchedule> schedules,
+                                     @JsonProperty("orders") List<JsonAdaptedOrder> orders) {
+        if (customers != null) {
+            this.customers.addAll(customers);
+        }
+        if (phones != null) {
+            this.phones.addAll(phones);
+        }
+        if (schedules != null) {
+            this.schedules.addAll(schedules);
+        }
         this.orders.addAll(orders);
     }
 
@@ -38,7 +60,15 @@ class JsonSerializableOrderBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableOrderBook}.
      */
     public JsonSerializableOrderBook(ReadOnlyDataBook<Order> source) {
-        orders.addAll(source.getList().stream().map(JsonAdaptedOrder::new).collect(Collectors.toList()));
+        OrderReferenceTable references = new OrderReferenceTable();
+        for (Order order : source.getList()) {
+            orders.add(new JsonAdaptedOrder(order, references));
+        }
+        customers.addAll(references.getCustomers().stream().map(JsonAdaptedCustomer::new)
+                .collect(Collectors.toList()));
+        phones.addAll(references.getPhones().stream().map(JsonAdaptedPhone::new).collect(Collectors.toList()));
+        schedules.addAll(references.getSchedules().stream().map(JsonAdaptedSchedule::new)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -47,13 +77,21 @@ class JsonSerializableOrderBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public DataBook<Order> toModelType() throws IllegalValueException, ParseException {
+        OrderReferenceTable references = new OrderReferenceTable();
+        List<Customer> customerList = ParallelConversion.convertAll(customers, JsonAdaptedCustomer::toModelType);
+        List<Phone> phoneList = ParallelConversion.convertAll(phones, JsonAdaptedPhone::toModelType);
+        List<Schedule> scheduleList = ParallelConversion.convertAll(schedules, JsonAdaptedSchedule::toModelType);
+        customerList.forEach(references::add);
+        phoneList.forEach(references::add);
+        scheduleList.forEach(references::add);
+
+        List<Order> orderList = ParallelConversion.convertAll(orders, order -> order.toModelType(references));
+
         DataBook<Order> orderBook = new DataBook<>();
-        for (JsonAdaptedOrder jsonAdaptedOrder : orders) {
-            Order order = jsonAdaptedOrder.toModelType();
-            if (orderBook.has(order)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
-            }
-            orderBook.add(order);
+        try {
+            orderBook.setData(orderList);
+        } catch (DuplicateIdentityException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ORDER);
         }
         return orderBook;
     }
@@ -10,6 +10,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DataBook;
+import seedu.address.model.DuplicateIdentityException;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.phone.Phone;
 
@@ -46,13 +47,13 @@ class JsonSerializablePhoneBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public DataBook<Phone> toModelType() throws IllegalValueException {
+        List<Phone> phoneList = ParallelConversion.convertAll(phones, JsonAdaptedPhone::toModelType);
+
         DataBook<Phone> phoneBook = new DataBook<>();
-        for (JsonAdaptedPhone jsonAdaptedPhone : phones) {
-            Phone phone = jsonAdaptedPhone.toModelType();
-            if (phoneBook.has(phone)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PHONE);
-            }
-            phoneBook.add(phone);
+        try {
+            phoneBook.setData(phoneList);
+        } catch (DuplicateIdentityException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PHONE);
         }
         return phoneBook;
     }
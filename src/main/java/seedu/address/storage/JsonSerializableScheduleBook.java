@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.DataBook;
+import seedu.address.model.DuplicateIdentityException;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.schedule.Schedule;
 
@@ -47,13 +48,13 @@ class JsonSerializableScheduleBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public DataBook<Schedule> toModelType() throws IllegalValueException, ParseException {
+        List<Schedule> scheduleList = ParallelConversion.convertAll(schedules, JsonAdaptedSchedule::toModelType);
+
         DataBook<Schedule> scheduleBook = new DataBook<>();
-        for (JsonAdaptedSchedule jsonAdaptedSchedule : schedules) {
-            Schedule schedule = jsonAdaptedSchedule.toModelType();
-            if (scheduleBook.has(schedule)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
-            }
-            scheduleBook.add(schedule);
+        try {
+            scheduleBook.setData(scheduleList);
+        } catch (DuplicateIdentityException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_SCHEDULE);
         }
         return scheduleBook;
     }
@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.phone.Phone;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * The distinct customers, phones and schedules referred to by the orders of an order book, in the order
+ * they are stored.
+ * Orders refer to them by their index in the table, and orders that refer to equal ones share a single instance.
+ * The table may be used by several threads converting orders at the same time.
+ */
+class OrderReferenceTable {
+
+    public static final String INVALID_REFERENCE_MESSAGE_FORMAT = "Order's %s reference %d does not exist!";
+
+    private final List<Customer> customers = new ArrayList<>();
+    private final List<Phone> phones = new ArrayList<>();
+    private final List<Schedule> schedules = new ArrayList<>();
+    private final Map<Customer, Integer> customerReferences = new HashMap<>();
+    private final Map<Phone, Integer> phoneReferences = new HashMap<>();
+    private final Map<Schedule, Integer> scheduleReferences = new HashMap<>();
+
+    /**
+     * Returns the reference to {@code customer}, adding it to the table if there is no equal customer yet.
+     */
+    public synchronized int refer(Customer customer) {
+        return indexOf(customer, customers, customerReferences);
+    }
+
+    /**
+     * Returns the reference to {@code phone}, adding it to the table if there is no equal phone yet.
+     */
+    public synchronized int refer(Phone phone) {
+        return indexOf(phone, phones, phoneReferences);
+    }
+
+    /**
+     * Returns the reference to {@code schedule}, adding it to the table if there is no equal schedule yet.
+     */
+    public synchronized int refer(Schedule schedule) {
+        return indexOf(schedule, schedules, scheduleReferences);
+    }
+
+    /**
+     * Returns the instance in the table that is equal to {@code customer}, adding it if there is none.
+     */
+    public synchronized Customer share(Customer customer) {
+        return customers.get(refer(customer));
+    }
+
+    /**
+     * Returns the instance in the table that is equal to {@code phone}, adding it if there is none.
+     */
+    public synchronized Phone share(Phone phone) {
+        return phones.get(refer(phone));
+    }
+
+    /**
+     * Returns the instance in the table that is equal to {@code schedule}, adding it if there is none.
+     */
+    public synchronized Schedule share(Schedule schedule) {
+        return schedules.get(refer(schedule));
+    }
+
+    /**
+     * Adds {@code customer} to the end of the table, so that it can be referred to by its position
+     * even if an equal customer is already in the table.
+     */
+    public synchronized void add(Customer customer) {
+        append(customer, customers, customerReferences);
+    }
+
+    /**
+     * Adds {@code phone} to the end of the table, so that it can be referred to by its position
+     * even if an equal phone is already in the table.
+     */
+    public synchronized void add(Phone phone) {
+        append(phone, phones, phoneReferences);
+    }
+
+    /**
+     * Adds {@code schedule} to the end of the table, so that it can be referred to by its position
+     * even if an equal schedule is already in the table.
+     */
+    public synchronized void add(Schedule schedule) {
+        append(schedule, schedules, scheduleReferences);
+    }
+
+    /**
+     * Returns the customer that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if there is no such customer.
+     */
+    public synchronized Customer getCustomer(int reference) throws IllegalValueException {
+        return lookUp(reference, customers, Customer.class);
+    }
+
+    /**
+     * Returns the phone that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if there is no such phone.
+     */
+    public synchronized Phone getPhone(int reference) throws IllegalValueException {
+        return lookUp(reference, phones, Phone.class);
+    }
+
+    /**
+     * Returns the schedule that {@code reference} refers to.
+     *
+     * @throws IllegalValueException if there is no such schedule.
+     */
+    public synchronized Schedule getSchedule(int reference) throws IllegalValueException {
+        return lookUp(reference, schedules, Schedule.class);
+    }
+
+    public List<Customer> getCustomers() {
+        return customers;
+    }
+
+    public List<Phone> getPhones() {
+        return phones;
+    }
+
+    public List<Schedule> getSchedules() {
+        return schedules;
+    }
+
+    /**
+     * Returns the position of the object equal to {@code object} in {@code objects}, adding it if there is none.
+     */
+    private static <T> int indexOf(T object, List<T> objects, Map<T, Integer> references) {
+        return references.computeIfAbsent(object, unused -> {
+            objects.add(object);
+            return objects.size() - 1;
+        });
+    }
+
+    /**
+     * Adds {@code object} to the end of {@code objects}, or the object equal to it if there is one.
+     */
+    private static <T> void append(T object, List<T> objects, Map<T, Integer> references) {
+        Integer existingReference = references.putIfAbsent(object, objects.size());
+        objects.add(existingReference == null ? object : objects.get(existingReference));
+    }
+
+    /**
+     * Returns the object at position {@code reference} of {@code objects}.
+     */
+    private static <T> T lookUp(int reference, List<T> objects, Class<T> type) throws IllegalValueException {
+        if (reference < 0 || reference >= objects.size()) {
+            throw new IllegalValueException(String.format(INVALID_REFERENCE_MESSAGE_FORMAT,
+                    type.getSimpleName(), reference));
+        }
+        return objects.get(reference);
+    }
+
+}
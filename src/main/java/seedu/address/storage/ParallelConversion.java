@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the Jackson-friendly records of a data book into model objects, spreading the conversion of large
+ * books over all cores.
+ */
+class ParallelConversion {
+
+    /** Books with fewer records than this are converted on the calling thread. */
+    static final int PARALLEL_THRESHOLD = 512;
+
+    /**
+     * Returns {@code records} converted by {@code converter}, in the same order.
+     *
+     * @throws IllegalValueException of the first record in order that cannot be converted, as it was thrown
+     *     before the conversion was parallelized.
+     */
+    static <S, T> List<T> convertAll(List<S> records, Converter<S, T> converter) throws IllegalValueException {
+        try {
+            return (records.size() < PARALLEL_THRESHOLD ? records.stream() : records.parallelStream())
+                    .map(record -> convert(record, converter))
+                    .collect(Collectors.toList());
+        } catch (InvalidRecordException e) {
+            // converts the records one at a time to throw the error of the first invalid one
+            List<T> converted = new ArrayList<>();
+            for (S record : records) {
+                converted.add(converter.convert(record));
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * Converts {@code record} by {@code converter}, reporting an invalid record as an unchecked exception so that
+     * it can leave a stream.
+     */
+    private static <S, T> T convert(S record, Converter<S, T> converter) {
+        try {
+            return converter.convert(record);
+        } catch (IllegalValueException e) {
+            throw new InvalidRecordException();
+        }
+    }
+
+    /**
+     * Converts a Jackson-friendly record into a model object.
+     */
+    @FunctionalInterface
+    interface Converter<S, T> {
+        T convert(S record) throws IllegalValueException;
+    }
+
+    /**
+     * Signals that a record could not be converted.
+     */
+    private static class InvalidRecordException extends RuntimeException {
+        InvalidRecordException() {
+            super(null, null, false, false);
+        }
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyDataBook;
@@ -69,4 +70,22 @@ public interface Storage extends CustomerBookStorage, PhoneBookStorage, Schedule
 
     @Override
     void saveArchivedOrderBook(ReadOnlyDataBook<Order> orderBook) throws IOException;
+
+    /**
+     * Blocks until all the data books saved so far have been written.
+     *
+     * @throws IOException if any of those writes failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Returns the number of bytes of data books written so far.
+     */
+    long getBytesWritten();
+
+    /**
+     * Returns the number of bytes written for the data books saved since the last call, which is known once
+     * those saves have been written.
+     */
+    CompletableFuture<Long> getBytesWrittenBySaves();
 }
@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -27,6 +29,9 @@ public class StorageManager implements Storage {
     private OrderBookStorage orderBookStorage;
     private OrderBookStorage archivedOrderBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private volatile long bytesWritten;
+    // the bytes written when getBytesWrittenBySaves was last called
+    private long bytesWrittenAtLastCall;
 
     public StorageManager(CustomerBookStorage customerBookStorage,
                           PhoneBookStorage phoneBookStorage, ScheduleBookStorage scheduleBookStorage,
@@ -86,6 +91,7 @@ public class StorageManager implements Storage {
     public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         customerBookStorage.saveCustomerBook(customerBook, filePath);
+        bytesWritten += Files.size(filePath);
     }
 
     // ================ Phone DataBook methods ==============================
@@ -116,6 +122,7 @@ public class StorageManager implements Storage {
     public void savePhoneBook(ReadOnlyDataBook<Phone> phoneBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         phoneBookStorage.savePhoneBook(phoneBook, filePath);
+        bytesWritten += Files.size(filePath);
     }
 
     // ================ Schedule DataBook methods ==============================
@@ -146,6 +153,7 @@ public class StorageManager implements Storage {
     public void saveScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         scheduleBookStorage.saveScheduleBook(scheduleBook, filePath);
+        bytesWritten += Files.size(filePath);
     }
 
     // ================ Order DataBook methods ==============================
@@ -176,6 +184,7 @@ public class StorageManager implements Storage {
     public void saveOrderBook(ReadOnlyDataBook<Order> orderBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         orderBookStorage.saveOrderBook(orderBook, filePath);
+        bytesWritten += Files.size(filePath);
     }
 
     // ================ Archived Order DataBook methods ==============================
@@ -206,5 +215,26 @@ public class StorageManager implements Storage {
     public void saveArchivedOrderBook(ReadOnlyDataBook<Order> archivedOrderBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         archivedOrderBookStorage.saveOrderBook(archivedOrderBook, filePath);
+        bytesWritten += Files.size(filePath);
     }
+
+    @Override
+    public void flush() {
+        // every save is written before it returns
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Long> getBytesWrittenBySaves() {
+        // every save is written before it returns
+        long bytesWrittenNow = getBytesWritten();
+        long bytesWrittenBySaves = bytesWrittenNow - bytesWrittenAtLastCall;
+        bytesWrittenAtLastCall = bytesWrittenNow;
+        return CompletableFuture.completedFuture(bytesWrittenBySaves);
+    }
+
 }
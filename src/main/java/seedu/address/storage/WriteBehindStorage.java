@@ -0,0 +1,373 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyDataBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.phone.Phone;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * A {@code Storage} that writes data books to another {@code Storage} on a background thread.
+ * Saving a data book only takes a snapshot of it and returns immediately. Saves of the same file that are
+ * requested before the writer gets to them are coalesced, so a burst of commands causes one write per file.
+ * A write that fails is reported by the next save or {@link #flush()}.
+ * The bytes written for the saves requested between two calls to {@link #getBytesWrittenBySaves()} are reported
+ * once those saves have been written. A save replaced before it starts counts as 0 bytes, as the save that
+ * replaces it writes them instead.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+    private final Map<Path, PendingSave> pendingSaves = new HashMap<>();
+    // the saves requested since getBytesWrittenBySaves was last called
+    private SaveBatch currentBatch = new SaveBatch();
+    private IOException writeFailure;
+
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code save} to write the file at {@code filePath}, replacing any save of that file
+     * that has not started yet.
+     */
+    private synchronized void scheduleSave(Path filePath, Save save) throws IOException {
+        throwWriteFailure();
+        currentBatch.addSave();
+        PendingSave replacedSave = pendingSaves.put(filePath, new PendingSave(save, currentBatch));
+        if (replacedSave == null) {
+            writer.execute(() -> write(filePath));
+        } else {
+            replacedSave.batch.finishSave(0);
+        }
+    }
+
+    /**
+     * Performs the latest save scheduled for {@code filePath}. Runs on the writer thread.
+     */
+    private void write(Path filePath) {
+        PendingSave pendingSave;
+        synchronized (this) {
+            pendingSave = pendingSaves.remove(filePath);
+        }
+        // only this thread writes to the other storage, so the bytes it writes meanwhile are this save's
+        long bytesWrittenBefore = storage.getBytesWritten();
+        try {
+            pendingSave.save.run();
+        } catch (IOException e) {
+            recordWriteFailure(filePath, e);
+        } catch (RuntimeException e) {
+            // e.g. the data could not be serialized, which must not be dropped silently on this thread
+            recordWriteFailure(filePath, new IOException(e));
+        } finally {
+            synchronized (this) {
+                pendingSave.batch.finishSave(storage.getBytesWritten() - bytesWrittenBefore);
+            }
+        }
+    }
+
+    /**
+     * Keeps {@code failure}, the failure to write {@code filePath}, to be reported by the next save or flush.
+     */
+    private synchronized void recordWriteFailure(Path filePath, IOException failure) {
+        logger.warning("Failed to write to data file " + filePath + ": " + failure);
+        writeFailure = failure;
+    }
+
+    /**
+     * Throws the last write failure that has not been reported yet, if any.
+     */
+    private synchronized void throwWriteFailure() throws IOException {
+        if (writeFailure != null) {
+            IOException failure = writeFailure;
+            writeFailure = null;
+            throw failure;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        throwWriteFailure();
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return storage.getBytesWritten();
+    }
+
+    @Override
+    public synchronized CompletableFuture<Long> getBytesWrittenBySaves() {
+        SaveBatch batch = currentBatch;
+        currentBatch = new SaveBatch();
+        batch.close();
+        return batch.bytesWritten;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ Customer DataBook methods ==============================
+
+    @Override
+    public Path getCustomerBookFilePath() {
+        return storage.getCustomerBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Customer>> readCustomerBook() throws DataConversionException, IOException {
+        return readCustomerBook(getCustomerBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Customer>> readCustomerBook(Path filePath) throws DataConversionException,
+            IOException {
+        flush();
+        return storage.readCustomerBook(filePath);
+    }
+
+    @Override
+    public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook) throws IOException {
+        saveCustomerBook(customerBook, getCustomerBookFilePath());
+    }
+
+    @Override
+    public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook, Path filePath) throws IOException {
+        ReadOnlyDataBook<Customer> snapshot = customerBook.snapshot();
+        scheduleSave(filePath, () -> storage.saveCustomerBook(snapshot, filePath));
+    }
+
+    // ================ Phone DataBook methods ==============================
+
+    @Override
+    public Path getPhoneBookFilePath() {
+        return storage.getPhoneBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Phone>> readPhoneBook() throws DataConversionException, IOException {
+        return readPhoneBook(getPhoneBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Phone>> readPhoneBook(Path filePath) throws DataConversionException,
+            IOException {
+        flush();
+        return storage.readPhoneBook(filePath);
+    }
+
+    @Override
+    public void savePhoneBook(ReadOnlyDataBook<Phone> phoneBook) throws IOException {
+        savePhoneBook(phoneBook, getPhoneBookFilePath());
+    }
+
+    @Override
+    public void savePhoneBook(ReadOnlyDataBook<Phone> phoneBook, Path filePath) throws IOException {
+        ReadOnlyDataBook<Phone> snapshot = phoneBook.snapshot();
+        scheduleSave(filePath, () -> storage.savePhoneBook(snapshot, filePath));
+    }
+
+    // ================ Schedule DataBook methods ==============================
+
+    @Override
+    public Path getScheduleBookFilePath() {
+        return storage.getScheduleBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Schedule>> readScheduleBook() throws DataConversionException, IOException {
+        return readScheduleBook(getScheduleBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Schedule>> readScheduleBook(Path filePath) throws DataConversionException,
+            IOException {
+        flush();
+        return storage.readScheduleBook(filePath);
+    }
+
+    @Override
+    public void saveScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook) throws IOException {
+        saveScheduleBook(scheduleBook, getScheduleBookFilePath());
+    }
+
+    @Override
+    public void saveScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook, Path filePath) throws IOException {
+        ReadOnlyDataBook<Schedule> snapshot = scheduleBook.snapshot();
+        scheduleSave(filePath, () -> storage.saveScheduleBook(snapshot, filePath));
+    }
+
+    // ================ Order DataBook methods ==============================
+
+    @Override
+    public Path getOrderBookFilePath() {
+        return storage.getOrderBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readOrderBook() throws DataConversionException, IOException {
+        return readOrderBook(getOrderBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readOrderBook(Path filePath) throws DataConversionException,
+            IOException {
+        flush();
+        return storage.readOrderBook(filePath);
+    }
+
+    @Override
+    public void saveOrderBook(ReadOnlyDataBook<Order> orderBook) throws IOException {
+        saveOrderBook(orderBook, getOrderBookFilePath());
+    }
+
+    @Override
+    public void saveOrderBook(ReadOnlyDataBook<Order> orderBook, Path filePath) throws IOException {
+        ReadOnlyDataBook<Order> snapshot = orderBook.snapshot();
+        scheduleSave(filePath, () -> storage.saveOrderBook(snapshot, filePath));
+    }
+
+    // ================ Archived Order DataBook methods ==============================
+
+    @Override
+    public Path getArchivedOrderBookFilePath() {
+        return storage.getArchivedOrderBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readArchivedOrderBook() throws DataConversionException, IOException {
+        return readArchivedOrderBook(getArchivedOrderBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyDataBook<Order>> readArchivedOrderBook(Path filePath) throws DataConversionException,
+            IOException {
+        flush();
+        return storage.readArchivedOrderBook(filePath);
+    }
+
+    @Override
+    public void saveArchivedOrderBook(ReadOnlyDataBook<Order> archivedOrderBook) throws IOException {
+        saveArchivedOrderBook(archivedOrderBook, getArchivedOrderBookFilePath());
+    }
+
+    @Override
+    public void saveArchivedOrderBook(ReadOnlyDataBook<Order> archivedOrderBook, Path filePath) throws IOException {
+        ReadOnlyDataBook<Order> snapshot = archivedOrderBook.snapshot();
+        scheduleSave(filePath, () -> storage.saveArchivedOrderBook(snapshot, filePath));
+    }
+
+    /**
+     * A write of a data book to a file.
+     */
+    @FunctionalInterface
+    private interface Save {
+        void run() throws IOException;
+    }
+
+    /**
+     * A save waiting for the writer, and the batch of saves it was requested in.
+     */
+    private static class PendingSave {
+        private final Save save;
+        private final SaveBatch batch;
+
+        PendingSave(Save save, SaveBatch batch) {
+            this.save = save;
+            this.batch = batch;
+        }
+    }
+
+    /**
+     * The saves requested between two calls to {@link #getBytesWrittenBySaves()}, and the bytes written for them
+     * once they have all been written. Only used while holding the lock of the {@code WriteBehindStorage}.
+     */
+    private static class SaveBatch {
+        private final CompletableFuture<Long> bytesWritten = new CompletableFuture<>();
+        private int unwrittenSaves;
+        private long bytes;
+        private boolean isClosed;
+
+        /**
+         * Counts a save requested in this batch.
+         */
+        private void addSave() {
+            unwrittenSaves++;
+        }
+
+        /**
+         * Counts a save of this batch that wrote {@code savedBytes} bytes, or was replaced.
+         */
+        private void finishSave(long savedBytes) {
+            unwrittenSaves--;
+            bytes += savedBytes;
+            completeIfWritten();
+        }
+
+        /**
+         * Stops the batch from taking more saves.
+         */
+        private void close() {
+            isClosed = true;
+            completeIfWritten();
+        }
+
+        /**
+         * Completes {@code bytesWritten} once the batch is closed and all its saves are written.
+         */
+        private void completeIfWritten() {
+            if (isClosed && unwrittenSaves == 0) {
+                bytesWritten.complete(bytes);
+            }
+        }
+    }
+
+}
@@ -4,8 +4,6 @@ import static seedu.address.ui.CommandBox.ERROR_STYLE_CLASS;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.SortedSet;
-import java.util.TreeSet;
 
 import javafx.event.Event;
 import javafx.event.EventType;
@@ -28,12 +26,12 @@ import javafx.scene.text.TextFlow;
  * Represents a JavaFX TextField with auto-complete drop down menu built-in.
  */
 public class AutoCompleteTextField extends TextField {
-    private final SortedSet<String> entries;
+    public static final int MAX_ENTRIES = 8;
+
     private final ContextMenu entriesPopup;
 
     public AutoCompleteTextField() {
         super();
-        this.entries = new TreeSet<>();
         this.entriesPopup = new ContextMenu();
     }
 
@@ -44,8 +42,7 @@ public class AutoCompleteTextField extends TextField {
      */
     public void populatePopup(List<String> searchResults, String searchWord) {
         List<CustomMenuItem> menuItems = new ArrayList<>();
-        int maxEntries = 8;
-        int count = Math.min(searchResults.size(), maxEntries);
+        int count = Math.min(searchResults.size(), MAX_ENTRIES);
 
         for (int i = 0; i < count; i++) {
             final String result = searchResults.get(i);
@@ -66,10 +63,6 @@ public class AutoCompleteTextField extends TextField {
         entriesPopup.getItems().addAll(menuItems);
     }
 
-    public SortedSet<String> getEntries() {
-        return entries;
-    }
-
     public ContextMenu getEntriesPopup() {
         return entriesPopup;
     }
@@ -104,19 +97,6 @@ public class AutoCompleteTextField extends TextField {
         this.getStyleClass().remove(ERROR_STYLE_CLASS);
     }
 
-    /**
-     * Compares {@code firstMatch} and {@code secondMatch} with {@code text} to determine which is more similar.
-     * @param firstMatch A string containing {@code text}.
-     * @param secondMatch A string containing {@code text}.
-     * @param text A string.
-     * @return 0 if equally similar, negative int if firstMatch more similar, positive int if secondMatch more similar.
-     */
-    public int compareEntries(String firstMatch, String secondMatch, String text) {
-        int firstIndex = firstMatch.indexOf(text);
-        int secondIndex = secondMatch.indexOf(text);
-        return firstIndex - secondIndex;
-    }
-
     /**
      * Hides and shows the dropdown.
      */
@@ -0,0 +1,136 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LatencyHistogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.autocomplete.AutoCompleteResult;
+
+/**
+ * Finds the autocomplete suggestions for the text in the command box on a background thread.
+ * Nothing is done until {@value #DEBOUNCE_MILLIS} ms after the keystroke that requested the suggestions, and the
+ * request is cancelled if another keystroke comes in before then, so a burst of typing only looks up the suggestions
+ * for the last keystroke. The values the suggestions are chosen from are then looked up on the JavaFX Application
+ * Thread, which owns the lists they come from, and are matched against the text on the background thread.
+ * Suggestions that are ready after the text has changed again are dropped, and only showing the rest runs on the
+ * JavaFX Application Thread. The time from each keystroke to its suggestions being shown is kept in a histogram.
+ */
+public class AutoCompleter {
+
+    public static final long DEBOUNCE_MILLIS = 40;
+
+    private static final Logger logger = LogsCenter.getLogger(AutoCompleter.class);
+    private static final int LATENCIES_PER_LOG = 500;
+
+    private final Function<String, AutoCompleteResult> lookUp;
+    private final Consumer<Runnable> uiThread;
+    private final int maxSuggestions;
+    private final ScheduledExecutorService worker;
+    private final LatencyHistogram latencies = new LatencyHistogram();
+    // the number of the latest request; suggestions whose request is not the latest are stale
+    private final AtomicLong latestRequest = new AtomicLong();
+    private ScheduledFuture<?> pendingLookUp;
+
+    /**
+     * Creates an {@code AutoCompleter} that looks up suggestions with {@code lookUp}, and shows up to
+     * {@code maxSuggestions} of them by running the code that shows them with {@code uiThread}.
+     */
+    public AutoCompleter(Function<String, AutoCompleteResult> lookUp, Consumer<Runnable> uiThread,
+                         int maxSuggestions) {
+        requireNonNull(lookUp);
+        requireNonNull(uiThread);
+        this.lookUp = lookUp;
+        this.uiThread = uiThread;
+        this.maxSuggestions = maxSuggestions;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autocomplete");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * After a pause in typing, passes the suggestions matching {@code text} and the string they match to
+     * {@code show} unless the text changes before they are ready.
+     * Must be called on the thread that {@code show} runs on, which owns the lists the values come from.
+     */
+    public void request(String text, BiConsumer<List<String>, String> show) {
+        requireNonNull(text);
+        requireNonNull(show);
+        long keystrokeTime = System.nanoTime();
+        long request = cancel();
+        pendingLookUp = worker.schedule(() -> uiThread.accept(() -> lookUp(request, text, keystrokeTime, show)),
+                DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the look up that is pending, if any, and makes any suggestions being matched stale.
+     * Returns the number of the next request.
+     */
+    public long cancel() {
+        if (pendingLookUp != null) {
+            pendingLookUp.cancel(false);
+            pendingLookUp = null;
+        }
+        return latestRequest.incrementAndGet();
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * Looks up the values for {@code text}, the text of request {@code request}, and hands them to the worker thread
+     * to match unless they are stale by then. Runs on the JavaFX Application Thread.
+     */
+    private void lookUp(long request, String text, long keystrokeTime, BiConsumer<List<String>, String> show) {
+        if (request != latestRequest.get()) {
+            return;
+        }
+        AutoCompleteResult result = lookUp.apply(text).snapshot();
+        worker.execute(() -> match(request, result, keystrokeTime, show));
+    }
+
+    /**
+     * Finds the suggestions in {@code result}, the values of request {@code request}, and shows them with
+     * {@code show} unless they are stale by then. Runs on the worker thread.
+     */
+    private void match(long request, AutoCompleteResult result, long keystrokeTime,
+                       BiConsumer<List<String>, String> show) {
+        if (request != latestRequest.get()) {
+            return;
+        }
+        List<String> suggestions = result.getMatches(maxSuggestions);
+        String stringToCompare = result.getStringToCompare();
+        uiThread.accept(() -> {
+            if (request != latestRequest.get()) {
+                return;
+            }
+            // recorded first so that the latency is counted by the time anyone sees the suggestions
+            recordLatency(System.nanoTime() - keystrokeTime);
+            show.accept(suggestions, stringToCompare);
+        });
+    }
+
+    /**
+     * Records the time from a keystroke to its suggestions being shown, and logs the percentiles now and then.
+     */
+    private void recordLatency(long nanos) {
+        latencies.record(nanos);
+        if (latencies.getCount() % LATENCIES_PER_LOG == 0) {
+            logger.info("Keystroke to autocomplete suggestions latency: " + latencies);
+        }
+    }
+
+}
@@ -1,13 +1,12 @@
 package seedu.address.ui;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.logic.Logic;
-import seedu.address.logic.autocomplete.AutoCompleteResult;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,6 +23,7 @@ public class CommandBox extends UiPart<Region> {
 
     private final CommandExecutor commandExecutor;
     private final Logic logic;
+    private final AutoCompleter autoCompleter;
 
     @FXML
     private AutoCompleteTextField commandTextField;
@@ -32,6 +32,8 @@ public class CommandBox extends UiPart<Region> {
         super(FXML);
         this.commandExecutor = commandExecutor;
         this.logic = logic;
+        this.autoCompleter = new AutoCompleter(logic::getAutoCompleteResult, Platform::runLater,
+                AutoCompleteTextField.MAX_ENTRIES);
 
         addListener();
     }
@@ -46,26 +48,10 @@ public class CommandBox extends UiPart<Region> {
             String enteredText = commandTextField.getText();
             // hide suggestions if no input
             if (enteredText == null || enteredText.isEmpty()) {
+                autoCompleter.cancel();
                 commandTextField.getEntriesPopup().hide();
             } else {
-                AutoCompleteResult result = logic.getAutoCompleteResult(enteredText);
-
-                // add possible values
-                commandTextField.getEntries().clear();
-                commandTextField.getEntries().addAll(result.getValues());
-
-                // filter
-                String stringToCompare = result.getStringToCompare();
-                List<String> filteredEntries = commandTextField.getEntries().stream()
-                        .filter(e -> e.contains(stringToCompare))
-                        .sorted((e1, e2) -> commandTextField.compareEntries(e1, e2, stringToCompare))
-                        .collect(Collectors.toList());
-                if (!filteredEntries.isEmpty() && !filteredEntries.contains(stringToCompare)) {
-                    commandTextField.populatePopup(filteredEntries, stringToCompare);
-                    commandTextField.refreshDropdown();
-                } else {
-                    commandTextField.getEntriesPopup().hide();
-                }
+                autoCompleter.request(enteredText, this::showSuggestions);
             }
         });
 
@@ -74,6 +60,19 @@ public class CommandBox extends UiPart<Region> {
         }));
     }
 
+    /**
+     * Shows {@code suggestions}, the best matches for {@code stringToCompare} first, unless there are none or
+     * {@code stringToCompare} has been entered in full.
+     */
+    private void showSuggestions(List<String> suggestions, String stringToCompare) {
+        if (!suggestions.isEmpty() && !suggestions.get(0).equals(stringToCompare)) {
+            commandTextField.populatePopup(suggestions, stringToCompare);
+            commandTextField.refreshDropdown();
+        } else {
+            commandTextField.getEntriesPopup().hide();
+        }
+    }
+
     /**
      * Handles the Enter button pressed event.
      */
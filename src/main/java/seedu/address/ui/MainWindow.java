@@ -135,7 +135,7 @@ public class MainWindow extends UiPart<Stage> {
         phoneListPanel = new PhoneListPanel(logic.getFilteredPhoneList());
         orderListPanel = new OrderListPanel(logic.getFilteredOrderList());
         calendarPanel = new CalendarPanel(logic.getFilteredScheduleList(), logic.getFilteredOrderList(),
-                logic.getCalendarDate());
+                logic.getCalendarDate(), logic.getMeetupDuration());
         archiveOrderListPanel = new ArchivedOrderListPanel(logic.getFilteredArchivedOrderList());
         tabPanel = new TabPanel(customerListPanel, phoneListPanel, orderListPanel,
                 calendarPanel, archiveOrderListPanel);
@@ -28,17 +28,19 @@ public class CalendarPanel extends UiPart<Region> {
     private ObservableList<Schedule> scheduleList;
     private ObservableList<Order> orderList;
     private CalendarDate calendarDate;
+    private int meetupDuration;
 
     @FXML
     private VBox calendarBox;
 
     public CalendarPanel(ObservableList<Schedule> scheduleList, ObservableList<Order> orderList,
-                         CalendarDate calendarDate) {
+                         CalendarDate calendarDate, int meetupDuration) {
         super(FXML);
 
         this.scheduleList = scheduleList;
         this.orderList = orderList;
         this.calendarDate = calendarDate;
+        this.meetupDuration = meetupDuration;
 
         agenda = new Agenda();
 
@@ -78,8 +80,8 @@ public class CalendarPanel extends UiPart<Region> {
             if (orderIndex != 0) {
                 agenda.appointments().addAll(
                         new Agenda.AppointmentImplLocal()
-                                .withStartLocalDateTime(calendarToLocalDateTime(schedule.getCalendar()))
-                                .withEndLocalDateTime(calendarToLocalDateTime(schedule.getCalendar()).plusHours(1))
+                                .withStartLocalDateTime(schedule.getDateTime())
+                                .withEndLocalDateTime(schedule.getDateTime().plusMinutes(meetupDuration))
                                 .withSummary(String.format("Order %d: %s", orderIndex, schedule.getVenue().toString()))
                 );
             }
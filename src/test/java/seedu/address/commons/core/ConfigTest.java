@@ -11,7 +11,9 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Undo history depth : 100\n"
+                + "Undo history change limit : 200000";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,59 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getPercentile_noLatencies_zero() {
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentile(101));
+    }
+
+    @Test
+    public void getPercentile_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 4; micros++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+        assertEquals(2, histogram.getPercentile(50));
+        assertEquals(4, histogram.getPercentile(100));
+        assertEquals(4, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentile_largeLatencies_withinAnEighth() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        assertWithinAnEighth(50_000, histogram.getPercentile(50));
+        assertWithinAnEighth(99_000, histogram.getPercentile(99));
+        assertWithinAnEighth(100_000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_hugeLatency_countedInLastBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        assertTrue(histogram.getPercentile(50) > TimeUnit.DAYS.toMicros(20));
+    }
+
+    /**
+     * Asserts that {@code actual} is at least {@code expected} and at most an eighth more.
+     */
+    private static void assertWithinAnEighth(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected + expected / 8, expected + " but was " + actual);
+    }
+
+}
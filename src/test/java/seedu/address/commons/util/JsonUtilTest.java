@@ -41,5 +41,15 @@ public class JsonUtilTest {
 
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
-    //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
+    @Test
+    public void jsonUtil_writeThenReadObjectToJson_correctObject() throws IOException {
+        SerializableTestClass written = new SerializableTestClass();
+        written.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, written);
+        SerializableTestClass read = JsonUtil.deserializeObjectFromJsonFile(SERIALIZATION_FILE,
+                SerializableTestClass.class);
+
+        assertEquals(JsonUtil.toJsonString(written), JsonUtil.toJsonString(read));
+    }
 }
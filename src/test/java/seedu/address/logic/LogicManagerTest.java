@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_CUSTOMER_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.CONTACT_NUMBER_DESC_ALICE;
@@ -17,6 +19,7 @@ import static seedu.address.model.util.SampleDataUtil.getSampleScheduleBook;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -24,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.addcommand.AddCustomerCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -57,6 +61,7 @@ public class LogicManagerTest {
     private Model model = new ModelManager();
     private Statistic statistic = new StatisticManager();
     private Logic logic;
+    private StorageManager storage;
 
     @BeforeEach
     public void setUp() {
@@ -73,7 +78,7 @@ public class LogicManagerTest {
                 new JsonOrderBookStorage(temporaryFolder.resolve("archivedOrderBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
 
-        StorageManager storage = new StorageManager(customerBookStorage, phoneBookStorage,
+        storage = new StorageManager(customerBookStorage, phoneBookStorage,
                 scheduleBookStorage, orderBookStorage, archivedOrderBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage, statistic);
@@ -100,6 +105,22 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_modifyingThenReadOnlyCommand_onlyModifiedBooksSaved() throws Exception {
+        LogicManager logicManager = new LogicManager(model, storage, statistic);
+        String addCommand = AddCustomerCommand.COMMAND_WORD + NAME_DESC_ALICE + CONTACT_NUMBER_DESC_ALICE
+                + EMAIL_DESC_ALICE;
+
+        logicManager.execute(addCommand);
+        assertTrue(Files.exists(storage.getCustomerBookFilePath()));
+        assertFalse(Files.exists(storage.getPhoneBookFilePath()));
+        assertEquals(Files.size(storage.getCustomerBookFilePath()),
+                (long) logicManager.getBytesWrittenByLastCommand().get());
+
+        logicManager.execute(ListCustomerCommand.COMMAND_WORD);
+        assertEquals(0, (long) logicManager.getBytesWrittenByLastCommand().get());
+    }
+
     @Test
     public void getFilteredCustomerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredCustomerList().remove(0));
@@ -125,6 +146,19 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredArchivedOrderList().remove(0));
     }
 
+    @Test
+    public void execute_firstCommandReadOnly_nothingSaved() throws Exception {
+        // without orders and schedules, there are no conflicts to resolve, so the books stay as they were given
+        model = new ModelManager(getSampleCustomerBook(), getSamplePhoneBook(), new DataBook<>(), new DataBook<>(),
+                new DataBook<>(), new UserPrefs());
+        LogicManager logicManager = new LogicManager(model, storage, statistic);
+
+        logicManager.execute(HelpCommand.COMMAND_WORD);
+        assertEquals(0, (long) logicManager.getBytesWrittenByLastCommand().get());
+        assertFalse(Files.exists(storage.getCustomerBookFilePath()));
+        assertFalse(Files.exists(storage.getOrderBookFilePath()));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() throws Exception {
         JsonCustomerBookStorage customerBookStorage =
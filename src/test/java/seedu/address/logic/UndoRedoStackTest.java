@@ -91,6 +91,55 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void push_beyondMaxDepth_oldestCommandForgotten() {
+        undoRedoStack = new UndoRedoStack(2, UndoRedoStack.DEFAULT_MAX_CHANGE_SIZE);
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandOne);
+
+        assertEquals(dummyUndoableCommandOne, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_beyondMaxChangeSize_oldestCommandsForgotten() {
+        SizedUndoableCommand three = new SizedUndoableCommand(3);
+        SizedUndoableCommand two = new SizedUndoableCommand(2);
+        SizedUndoableCommand one = new SizedUndoableCommand(1);
+        undoRedoStack = new UndoRedoStack(UndoRedoStack.DEFAULT_MAX_DEPTH, 5);
+
+        // undoing and redoing a command does not count its change size twice
+        undoRedoStack.push(three);
+        undoRedoStack.popUndo();
+        undoRedoStack.popRedo();
+        undoRedoStack.push(two);
+        assertStackStatus(Arrays.asList(three, two), Collections.emptyList());
+
+        undoRedoStack.push(one);
+        assertStackStatus(Arrays.asList(two, one), Collections.emptyList());
+    }
+
+    @Test
+    public void constructor_copy_changesIndependently() {
+        SizedUndoableCommand three = new SizedUndoableCommand(3);
+        SizedUndoableCommand two = new SizedUndoableCommand(2);
+        undoRedoStack = new UndoRedoStack(UndoRedoStack.DEFAULT_MAX_DEPTH, 5);
+        undoRedoStack.push(three);
+        UndoRedoStack copy = new UndoRedoStack(undoRedoStack);
+
+        copy.popUndo();
+        assertStackStatus(Collections.singletonList(three), Collections.emptyList());
+
+        // the copy no longer counts the change size of the command it popped
+        copy.popRedo();
+        undoRedoStack.popUndo();
+        copy.push(two);
+        assertEquals(two, copy.popUndo());
+        assertEquals(three, copy.popUndo());
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
@@ -252,4 +301,17 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
     }
+
+    class SizedUndoableCommand extends DummyUndoableCommand {
+        private final int changeSize;
+
+        SizedUndoableCommand(int changeSize) {
+            this.changeSize = changeSize;
+        }
+
+        @Override
+        public int getChangeSize() {
+            return changeSize;
+        }
+    }
 }
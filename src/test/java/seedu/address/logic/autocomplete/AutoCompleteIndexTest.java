@@ -0,0 +1,64 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+class AutoCompleteIndexTest {
+
+    private static final List<String> VALUES = Arrays.asList("iPhone 11", "iPhone 11 Pro", "Pixel 4", "Galaxy S10",
+            "Galaxy Note 10", "Nokia 3310", "phone case", "10", "");
+
+    @Test
+    void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AutoCompleteIndex<String>(null, Collections::singleton));
+    }
+
+    @Test
+    void getMatches_sameAsGoingThroughAllValues() {
+        AutoCompleteIndex<String> index = new AutoCompleteIndex<>(VALUES, Collections::singleton);
+        SortedSet<String> values = new TreeSet<>(VALUES);
+        AutoCompleteValueProvider allValues = () -> values;
+        for (String query : Arrays.asList("", "1", "10", "hone", "Phone", "Galaxy", "alaxy Note", "x", "0 ", "zzz")) {
+            for (int limit : Arrays.asList(1, 3, 100)) {
+                assertEquals(allValues.getMatches(query, limit), index.getMatches(query, limit), query);
+            }
+        }
+    }
+
+    @Test
+    void getMatches_earliestMatchFirst() {
+        AutoCompleteIndex<String> index = new AutoCompleteIndex<>(VALUES, Collections::singleton);
+        assertEquals(Arrays.asList("10", "Galaxy S10", "Nokia 3310", "Galaxy Note 10"), index.getMatches("10", 8));
+        assertEquals(Arrays.asList("phone case", "iPhone 11"), index.getMatches("hone", 2));
+    }
+
+    @Test
+    void getMatches_listChanged_indexUpdated() {
+        ObservableList<List<String>> list = FXCollections.observableArrayList();
+        AutoCompleteIndex<List<String>> index = new AutoCompleteIndex<>(list, values -> values);
+        List<String> first = Arrays.asList("Apple", "Samsung");
+        List<String> second = Arrays.asList("Apple", "Sony");
+        list.addAll(first, second);
+        assertEquals(Arrays.asList("Samsung", "Sony"), index.getMatches("S", 8));
+
+        list.remove(first);
+        assertEquals(Arrays.asList("Sony"), index.getMatches("S", 8));
+        assertEquals(Arrays.asList("Apple"), index.getMatches("pple", 8));
+
+        list.set(0, Arrays.asList("Nokia"));
+        assertEquals(new TreeSet<>(Arrays.asList("Nokia")), index.getValues());
+        assertEquals(Collections.emptyList(), index.getMatches("pple", 8));
+    }
+
+}
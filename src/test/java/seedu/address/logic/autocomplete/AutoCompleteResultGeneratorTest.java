@@ -31,6 +31,7 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.function.Predicate;
@@ -42,12 +43,17 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.CalendarDate;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeLog;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.predicates.CustomerContainsKeywordsPredicate;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.predicates.OrderContainsKeywordsPredicate;
 import seedu.address.model.phone.Phone;
+import seedu.address.model.phone.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleConflict;
 
 class AutoCompleteResultGeneratorTest {
 
@@ -248,6 +254,11 @@ class AutoCompleteResultGeneratorTest {
         @Override
         public void updateFilteredCustomerList(Predicate<Customer> predicate) {}
 
+        @Override
+        public Predicate<Customer> getIndexedCustomerPredicate(CustomerContainsKeywordsPredicate predicate) {
+            return predicate;
+        }
+
         @Override
         public void setPhoneBook(ReadOnlyDataBook<Phone> phoneBook) {}
 
@@ -278,6 +289,11 @@ class AutoCompleteResultGeneratorTest {
         @Override
         public void updateFilteredPhoneList(Predicate<Phone> predicate) {}
 
+        @Override
+        public Predicate<Phone> getIndexedPhonePredicate(PhoneContainsKeywordsPredicate predicate) {
+            return predicate;
+        }
+
         @Override
         public void setOrderBook(ReadOnlyDataBook<Order> orderBook) {}
 
@@ -308,6 +324,11 @@ class AutoCompleteResultGeneratorTest {
         @Override
         public void updateFilteredOrderList(Predicate<Order> predicate) {}
 
+        @Override
+        public Predicate<Order> getIndexedOrderPredicate(OrderContainsKeywordsPredicate predicate) {
+            return predicate;
+        }
+
         @Override
         public void setScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook) {}
 
@@ -343,6 +364,21 @@ class AutoCompleteResultGeneratorTest {
             return null;
         }
 
+        @Override
+        public List<ScheduleConflict> getScheduleConflicts() {
+            return null;
+        }
+
+        @Override
+        public Optional<Schedule> getEarliestSchedule() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Schedule> getLatestSchedule() {
+            return Optional.empty();
+        }
+
         @Override
         public CalendarDate getCalendarDate() {
             return null;
@@ -383,6 +419,42 @@ class AutoCompleteResultGeneratorTest {
 
         @Override
         public void resolveOrderBooksConflict() {}
+
+        @Override
+        public void startRecordingChanges() {}
+
+        @Override
+        public ModelChangeLog stopRecordingChanges() {
+            return null;
+        }
+
+        @Override
+        public boolean isCustomerBookModified() {
+            return false;
+        }
+
+        @Override
+        public boolean isPhoneBookModified() {
+            return false;
+        }
+
+        @Override
+        public boolean isOrderBookModified() {
+            return false;
+        }
+
+        @Override
+        public boolean isScheduleBookModified() {
+            return false;
+        }
+
+        @Override
+        public boolean isArchivedOrderBookModified() {
+            return false;
+        }
+
+        @Override
+        public void markBooksSaved() {}
     }
 
 }
@@ -0,0 +1,67 @@
+package seedu.address.logic.autocomplete.graphs;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class PrefixScannerTest {
+
+    /**
+     * A scanner over a graph whose nodes are the prefixes followed so far, joined by commas, and which has an edge
+     * along every prefix except {@code x/}.
+     */
+    private static PrefixScanner<String> createScanner() {
+        return new PrefixScanner<>("", (node, prefix) -> prefix.getPrefix().equals("x/")
+                ? Optional.empty()
+                : Optional.of(node + prefix.getPrefix() + ","));
+    }
+
+    @Test
+    void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PrefixScanner<String>(null, (node, prefix) ->
+                Optional.of(node)));
+        assertThrows(NullPointerException.class, () -> new PrefixScanner<String>("", null));
+    }
+
+    @Test
+    void scan_noPrefix_startingNode() {
+        PrefixScanner.Scan<String> scan = createScanner().scan(" hello world/ a /c abcd/");
+        assertEquals("", scan.getNode());
+        assertEquals(-1, scan.getOffset());
+    }
+
+    @Test
+    void scan_prefixes_followedInOrder() {
+        PrefixScanner.Scan<String> scan = createScanner().scan(" n/John p/98 x/1 top/5 abcd/ e");
+        assertEquals("n/,p/,top/,", scan.getNode());
+        assertEquals(" n/John p/98 x/1 top/".length(), scan.getOffset());
+    }
+
+    @Test
+    void scan_typingAndDeleting_sameAsScanningFromStart() {
+        String command = " n/John Doe p/9876  a/311, Clementi x/1 top/5 t/friends";
+        List<String> inputs = new ArrayList<>();
+        for (int end = 0; end <= command.length(); end++) {
+            inputs.add(command.substring(0, end));
+        }
+        for (int end = command.length(); end >= 0; end--) {
+            inputs.add(command.substring(0, end));
+        }
+        inputs.addAll(Arrays.asList(" n/John p/1", " q/John p/1", " n/John p/1", " n/Jo p/1", " n/John p/1 t/"));
+
+        PrefixScanner<String> scanner = createScanner();
+        for (String input : inputs) {
+            PrefixScanner.Scan<String> expected = createScanner().scan(input);
+            PrefixScanner.Scan<String> actual = scanner.scan(input);
+            assertEquals(expected.getNode(), actual.getNode(), input);
+            assertEquals(expected.getOffset(), actual.getOffset(), input);
+        }
+    }
+
+}
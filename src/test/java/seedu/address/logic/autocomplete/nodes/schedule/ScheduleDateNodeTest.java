@@ -0,0 +1,50 @@
+package seedu.address.logic.autocomplete.nodes.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+
+class ScheduleDateNodeTest {
+
+    private static final Calendar EARLY = new GregorianCalendar(2020, Calendar.MARCH, 2, 13, 5);
+    private static final Calendar MIDDLE = new GregorianCalendar(2020, Calendar.MARCH, 9, 9, 0);
+    private static final Calendar LATE = new GregorianCalendar(2021, Calendar.JANUARY, 1, 8, 30);
+
+    @Test
+    void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduleDateNode(null));
+    }
+
+    @Test
+    void getValues_noSchedules_emptySet() {
+        ScheduleDateNode node = new ScheduleDateNode(new ModelManager());
+        assertEquals(Collections.emptySortedSet(), node.getValues());
+    }
+
+    @Test
+    void getValues_schedulesChanged_earliestAndLatestDatesFollowBook() {
+        ModelManager model = new ModelManager();
+        Schedule early = new ScheduleBuilder().withCalendar(EARLY).build();
+        Schedule late = new ScheduleBuilder().withCalendar(LATE).build();
+        model.addSchedule(late);
+        model.addSchedule(new ScheduleBuilder().withCalendar(MIDDLE).build());
+        model.addSchedule(early);
+        ScheduleDateNode node = new ScheduleDateNode(model);
+        assertEquals(List.of("2020.3.2", "2021.1.1"), List.copyOf(node.getValues()));
+
+        model.deleteSchedule(early);
+        model.deleteSchedule(late);
+        assertEquals(List.of("2020.3.9"), List.copyOf(node.getValues()));
+    }
+
+}
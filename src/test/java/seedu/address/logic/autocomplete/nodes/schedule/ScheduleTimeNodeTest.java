@@ -0,0 +1,49 @@
+package seedu.address.logic.autocomplete.nodes.schedule;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.GregorianCalendar;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.ScheduleBuilder;
+
+class ScheduleTimeNodeTest {
+
+    private static final Calendar AFTERNOON = new GregorianCalendar(2020, Calendar.MARCH, 2, 13, 5);
+
+    @Test
+    void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ScheduleTimeNode(null));
+    }
+
+    @Test
+    void getValues_emptyList_emptySet() {
+        ScheduleTimeNode node = new ScheduleTimeNode(Collections.emptyList());
+        assertEquals(Collections.emptySortedSet(), node.getValues());
+    }
+
+    @Test
+    void getValues_schedulesChanged_timesFollowList() {
+        Schedule first = new ScheduleBuilder().withCalendar(AFTERNOON).build();
+        Schedule second = new ScheduleBuilder().withCalendar(AFTERNOON).build();
+        ObservableList<Schedule> schedules = FXCollections.observableArrayList(first, second);
+        ScheduleTimeNode node = new ScheduleTimeNode(schedules);
+        assertEquals(List.of("13.5"), List.copyOf(node.getValues()));
+
+        // the time stays while another schedule has it
+        schedules.remove(first);
+        assertEquals(List.of("13.5"), List.copyOf(node.getValues()));
+
+        schedules.remove(second);
+        assertEquals(Collections.emptySortedSet(), node.getValues());
+    }
+
+}
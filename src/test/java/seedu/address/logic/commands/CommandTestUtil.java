@@ -288,11 +288,12 @@ public class CommandTestUtil {
     /**
      * Executes the given {@code command}, confirms that <br>
      * - the returned {@link CommandResult} matches {@code expectedCommandResult} <br>
-     * - the {@code actualModel} matches {@code expectedModel}
+     * - the {@code actualModel} matches {@code expectedModel} <br>
+     * - the {@code actualUndoRedoStack} matches {@code expectedUndoRedoStack}
      */
     public static void assertCommandSuccess(Command command, Model actualModel, UndoRedoStack actualUndoRedoStack,
-                                            CommandResult expectedCommandResult, Model expectedModel) {
-        UndoRedoStack expectedUndoRedoStack = new UndoRedoStack(actualUndoRedoStack);
+                                            CommandResult expectedCommandResult, Model expectedModel,
+                                            UndoRedoStack expectedUndoRedoStack) {
         try {
             CommandResult result = command.execute(actualModel, new CommandHistory(), actualUndoRedoStack);
 
@@ -325,13 +326,16 @@ public class CommandTestUtil {
     }
 
     /**
-     * Convenience wrapper to {@link #assertCommandSuccess(Command, Model, CommandResult, Model)}
+     * Convenience wrapper to
+     * {@link #assertCommandSuccess(Command, Model, UndoRedoStack, CommandResult, Model, UndoRedoStack)}
      * that takes a string {@code expectedMessage}.
      */
     public static void assertCommandSuccess(Command command, Model actualModel, UndoRedoStack actualUndoRedoStack,
-                                            String expectedMessage, Model expectedModel) {
+                                            String expectedMessage, Model expectedModel,
+                                            UndoRedoStack expectedUndoRedoStack) {
         CommandResult expectedCommandResult = new CommandResult(expectedMessage);
-        assertCommandSuccess(command, actualModel, actualUndoRedoStack, expectedCommandResult, expectedModel);
+        assertCommandSuccess(command, actualModel, actualUndoRedoStack, expectedCommandResult, expectedModel,
+                expectedUndoRedoStack);
     }
 
     /**
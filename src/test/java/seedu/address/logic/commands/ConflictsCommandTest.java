@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalOrders.ORDERONE;
+import static seedu.address.testutil.TypicalOrders.ORDERTHREE;
+import static seedu.address.testutil.TypicalOrders.ORDERTWO;
+import static seedu.address.testutil.TypicalOrders.VIPORDER;
+
+import java.util.Calendar;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.order.Order;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        expectedModel = new ModelManager();
+    }
+
+    /**
+     * Adds an order scheduled at {@code hour}:{@code minute} on 12 December 2019 to both models.
+     */
+    private void addScheduledOrder(Order order, int hour, int minute) {
+        addScheduledOrder(order, 2019, hour, minute);
+    }
+
+    /**
+     * Adds an order scheduled at {@code hour}:{@code minute} on 12 December of {@code year} to both models.
+     */
+    private void addScheduledOrder(Order order, int year, int hour, int minute) {
+        Calendar calendar = new Calendar.Builder().setDate(year, Calendar.DECEMBER, 12)
+                .setTimeOfDay(hour, minute, 0).build();
+        Schedule schedule = new ScheduleBuilder().withId(UUID.randomUUID()).withCalendar(calendar).build();
+        Order scheduledOrder = new OrderBuilder(order).withSchedule(Optional.of(schedule)).build();
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addOrder(scheduledOrder);
+            m.addSchedule(schedule);
+        }
+    }
+
+    @Test
+    public void execute_noConflicts_noConflictsMessage() {
+        addScheduledOrder(VIPORDER, 10, 0);
+        addScheduledOrder(ORDERONE, 11, 0);
+        assertCommandSuccess(new ConflictsCommand(), model,
+                new CommandResult(ConflictsCommand.MESSAGE_NO_CONFLICTS, UiChange.ORDER), expectedModel);
+    }
+
+    @Test
+    public void execute_overlappingSchedules_allPairsListed() {
+        addScheduledOrder(VIPORDER, 10, 0);
+        addScheduledOrder(ORDERONE, 10, 30);
+        addScheduledOrder(ORDERTHREE, 10, 59);
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_SUCCESS, 3, "2019.12.12:\n"
+                + "- 10:00 Order 1 and 10:30 Order 2\n"
+                + "- 10:00 Order 1 and 10:59 Order 3\n"
+                + "- 10:30 Order 2 and 10:59 Order 3");
+        assertCommandSuccess(new ConflictsCommand(), model,
+                new CommandResult(expectedMessage, UiChange.ORDER), expectedModel);
+    }
+
+    @Test
+    public void execute_conflictsOnSeveralDays_daysInDateOrder() {
+        addScheduledOrder(VIPORDER, 2019, 10, 0);
+        addScheduledOrder(ORDERONE, 2019, 10, 30);
+        addScheduledOrder(ORDERTHREE, 999, 10, 0);
+        addScheduledOrder(ORDERTWO, 999, 10, 30);
+        String expectedMessage = String.format(ConflictsCommand.MESSAGE_SUCCESS, 2, "999.12.12:\n"
+                + "- 10:00 Order 3 and 10:30 Order 4\n"
+                + "2019.12.12:\n"
+                + "- 10:00 Order 1 and 10:30 Order 2");
+        assertCommandSuccess(new ConflictsCommand(), model,
+                new CommandResult(expectedMessage, UiChange.ORDER), expectedModel);
+    }
+
+}
@@ -49,9 +49,15 @@ public class RedoCommandTest {
         CommandResult commandResult = deleteCommand.execute(model, new CommandHistory(), undoRedoStack);
         deleteCommand.saveSuccessMessage(commandResult.getFeedbackToUser());
         undoRedoStack.push(deleteCommand);
-        undoRedoStack.popUndo();
+        undoRedoStack.popUndo().undo(model);
+        new DeleteCustomerCommand(INDEX_FIRST_CUSTOMER).execute(expectedModel, new CommandHistory(),
+                new UndoRedoStack());
+        UndoRedoStack expectedUndoRedoStack = new UndoRedoStack(undoRedoStack);
+        expectedUndoRedoStack.popRedo();
+
         assertCommandSuccess(new RedoCommand(), model, undoRedoStack,
-                String.format(RedoCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser()), expectedModel);
+                String.format(RedoCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser()), expectedModel,
+                expectedUndoRedoStack);
 
     }
 
@@ -49,9 +49,12 @@ public class UndoCommandTest {
         CommandResult commandResult = deleteCommand.execute(model, new CommandHistory(), undoRedoStack);
         deleteCommand.saveSuccessMessage(commandResult.getFeedbackToUser());
         undoRedoStack.push(deleteCommand);
+        UndoRedoStack expectedUndoRedoStack = new UndoRedoStack(undoRedoStack);
+        expectedUndoRedoStack.popUndo();
 
         assertCommandSuccess(new UndoCommand(), model, undoRedoStack,
-                String.format(UndoCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser()), expectedModel);
+                String.format(UndoCommand.MESSAGE_SUCCESS, commandResult.getFeedbackToUser()), expectedModel,
+                expectedUndoRedoStack);
 
     }
 
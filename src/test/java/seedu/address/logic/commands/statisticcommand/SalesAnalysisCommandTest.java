@@ -0,0 +1,55 @@
+package seedu.address.logic.commands.statisticcommand;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalOrders.ORDERONESTATS;
+import static seedu.address.testutil.TypicalOrders.ORDERTWOSTATS;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.UiChange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.statistic.CubeDimension;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.TypicalPhones;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SalesAnalysisCommand}.
+ */
+public class SalesAnalysisCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        expectedModel = new ModelManager();
+    }
+
+    @Test
+    public void execute_noArchivedOrders_noOrdersMessage() {
+        assertCommandSuccess(new SalesAnalysisCommand(StatisticType.PROFIT, Arrays.asList(CubeDimension.BRAND), 0,
+                LocalDate.MIN, LocalDate.MAX), model,
+                new CommandResult(SalesAnalysisCommand.MESSAGE_NO_ORDERS, UiChange.ARCHIVED_ORDER), expectedModel);
+    }
+
+    @Test
+    public void execute_groupByBrand_groupsListed() {
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.addArchivedOrder(ORDERONESTATS);
+            m.addArchivedOrder(new OrderBuilder(ORDERTWOSTATS).withPhone(TypicalPhones.ANDROIDONE).build());
+        }
+        String expectedMessage = String.format(SalesAnalysisCommand.MESSAGE_SUCCESS, "Revenue", "brand",
+                "1. Samsung: $909.00\n2. iPhone: $1231.12\n", "$2140.12");
+        assertCommandSuccess(new SalesAnalysisCommand(StatisticType.REVENUE, Arrays.asList(CubeDimension.BRAND), 0,
+                LocalDate.MIN, LocalDate.MAX), model,
+                new CommandResult(expectedMessage, UiChange.ARCHIVED_ORDER), expectedModel);
+    }
+
+}
@@ -136,6 +136,26 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixStartsAnotherPrefix_longestPrefixTaken() {
+        Prefix t = new Prefix("t/");
+        Prefix to = new Prefix("to/");
+        Prefix top = new Prefix("top/");
+        PrefixAutomaton prefixes = new PrefixAutomaton(t, top, to);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble top/5 t/friend to/ t/top/", prefixes);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, top, "5");
+        assertArgumentPresent(argMultimap, t, "friend", "top/");
+        assertArgumentPresent(argMultimap, to, "");
+
+        // the same compiled prefixes can be reused for another arguments string
+        argMultimap = ArgumentTokenizer.tokenize(" tops/1 to/2", prefixes);
+        assertPreamblePresent(argMultimap, "tops/1");
+        assertArgumentPresent(argMultimap, to, "2");
+        assertArgumentAbsent(argMultimap, top);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
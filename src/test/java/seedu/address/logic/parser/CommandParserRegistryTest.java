@@ -0,0 +1,140 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CancelOrderCommand;
+import seedu.address.logic.commands.CompleteOrderCommand;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.addcommand.AddCustomerCommand;
+import seedu.address.logic.commands.addcommand.AddOrderCommand;
+import seedu.address.logic.commands.addcommand.AddPhoneCommand;
+import seedu.address.logic.commands.addcommand.AddScheduleCommand;
+import seedu.address.logic.commands.clearcommand.ClearArchivedOrderCommand;
+import seedu.address.logic.commands.clearcommand.ClearCustomerCommand;
+import seedu.address.logic.commands.clearcommand.ClearOrderCommand;
+import seedu.address.logic.commands.clearcommand.ClearPhoneCommand;
+import seedu.address.logic.commands.clearcommand.ClearScheduleCommand;
+import seedu.address.logic.commands.copycommand.CopyCustomerCommand;
+import seedu.address.logic.commands.copycommand.CopyOrderCommand;
+import seedu.address.logic.commands.copycommand.CopyPhoneCommand;
+import seedu.address.logic.commands.deletecommand.DeleteCustomerCommand;
+import seedu.address.logic.commands.deletecommand.DeletePhoneCommand;
+import seedu.address.logic.commands.deletecommand.DeleteScheduleCommand;
+import seedu.address.logic.commands.editcommand.EditCustomerCommand;
+import seedu.address.logic.commands.editcommand.EditOrderCommand;
+import seedu.address.logic.commands.editcommand.EditPhoneCommand;
+import seedu.address.logic.commands.editcommand.EditScheduleCommand;
+import seedu.address.logic.commands.findcommand.FindCustomerCommand;
+import seedu.address.logic.commands.findcommand.FindOrderCommand;
+import seedu.address.logic.commands.findcommand.FindPhoneCommand;
+import seedu.address.logic.commands.listcommand.ListCustomerCommand;
+import seedu.address.logic.commands.listcommand.ListOrderCommand;
+import seedu.address.logic.commands.listcommand.ListPhoneCommand;
+import seedu.address.logic.commands.statisticcommand.StatsCommand;
+import seedu.address.logic.commands.switchcommand.SwitchArchivedOrderPanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchCustomerPanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchOrderPanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchPhonePanelCommand;
+import seedu.address.logic.commands.switchcommand.SwitchSchedulePanelCommand;
+
+public class CommandParserRegistryTest {
+
+    private final CommandParserRegistry registry = CommandParserRegistry.getInstance();
+
+    @Test
+    public void getInstance_sameRegistry() {
+        assertSame(registry, CommandParserRegistry.getInstance());
+    }
+
+    @Test
+    public void getParser_commandWord_sameParserEveryTime() {
+        Parser<?> parser = registry.getParser(AddCustomerCommand.COMMAND_WORD).get();
+        assertSame(parser, registry.getParser(AddCustomerCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getParser_commandWithoutArguments_newCommandEveryTime() throws Exception {
+        Parser<?> parser = registry.getParser(ExitCommand.COMMAND_WORD).get();
+        Object command = parser.parse("");
+        Object otherCommand = parser.parse(" ignored");
+        assertTrue(command instanceof ExitCommand);
+        assertTrue(otherCommand instanceof ExitCommand);
+        assertNotSame(command, otherCommand);
+    }
+
+    @Test
+    public void getParser_unknownCommandWord_empty() {
+        assertFalse(registry.getParser("unknown").isPresent());
+        assertFalse(registry.getParser("").isPresent());
+        assertThrows(NullPointerException.class, () -> registry.getParser(null));
+    }
+
+    @Test
+    public void getCommandWords_everyCommandWord() {
+        Set<String> expectedCommandWords = Set.of(
+                SwitchCustomerPanelCommand.COMMAND_WORD,
+                AddCustomerCommand.COMMAND_WORD,
+                DeleteCustomerCommand.COMMAND_WORD,
+                FindCustomerCommand.COMMAND_WORD,
+                ListCustomerCommand.COMMAND_WORD,
+                ClearCustomerCommand.COMMAND_WORD,
+                EditCustomerCommand.COMMAND_WORD,
+                CopyCustomerCommand.COMMAND_WORD,
+                SwitchPhonePanelCommand.COMMAND_WORD,
+                AddPhoneCommand.COMMAND_WORD,
+                DeletePhoneCommand.COMMAND_WORD,
+                FindPhoneCommand.COMMAND_WORD,
+                ListPhoneCommand.COMMAND_WORD,
+                ClearPhoneCommand.COMMAND_WORD,
+                EditPhoneCommand.COMMAND_WORD,
+                CopyPhoneCommand.COMMAND_WORD,
+                SwitchOrderPanelCommand.COMMAND_WORD,
+                AddOrderCommand.COMMAND_WORD,
+                FindOrderCommand.COMMAND_WORD,
+                CompleteOrderCommand.COMMAND_WORD,
+                CancelOrderCommand.COMMAND_WORD,
+                ListOrderCommand.COMMAND_WORD,
+                ClearOrderCommand.COMMAND_WORD,
+                EditOrderCommand.COMMAND_WORD,
+                CopyOrderCommand.COMMAND_WORD,
+                SwitchSchedulePanelCommand.COMMAND_WORD,
+                ScheduleCommand.COMMAND_WORD,
+                AddScheduleCommand.COMMAND_WORD,
+                DeleteScheduleCommand.COMMAND_WORD,
+                EditScheduleCommand.COMMAND_WORD,
+                ClearScheduleCommand.COMMAND_WORD,
+                ConflictsCommand.COMMAND_WORD,
+                SwitchArchivedOrderPanelCommand.COMMAND_WORD,
+                ClearArchivedOrderCommand.COMMAND_WORD,
+                UndoCommand.COMMAND_WORD,
+                RedoCommand.COMMAND_WORD,
+                HistoryCommand.COMMAND_WORD,
+                StatsCommand.COMMAND_WORD,
+                ExitCommand.COMMAND_WORD,
+                HelpCommand.COMMAND_WORD,
+                ExportCommand.COMMAND_WORD);
+        assertEquals(expectedCommandWords, registry.getCommandWords());
+    }
+
+    @Test
+    public void getCommandWords_unmodifiable() {
+        assertThrows(UnsupportedOperationException.class, () -> registry.getCommandWords().add("unknown"));
+    }
+
+}
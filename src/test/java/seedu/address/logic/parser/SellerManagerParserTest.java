@@ -13,6 +13,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ORDER;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PHONE;
 import static seedu.address.testutil.TypicalSchedules.MONDAY_SCHEDULE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
@@ -25,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.CancelOrderCommand;
 import seedu.address.logic.commands.CompleteOrderCommand;
+import seedu.address.logic.commands.ConflictsCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
@@ -60,6 +62,9 @@ import seedu.address.logic.commands.findcommand.FindPhoneCommand;
 import seedu.address.logic.commands.listcommand.ListCustomerCommand;
 import seedu.address.logic.commands.listcommand.ListOrderCommand;
 import seedu.address.logic.commands.listcommand.ListPhoneCommand;
+import seedu.address.logic.commands.statisticcommand.SalesAnalysisCommand;
+import seedu.address.logic.commands.statisticcommand.StatisticType;
+import seedu.address.logic.commands.statisticcommand.StatsCommand;
 import seedu.address.logic.commands.switchcommand.SwitchArchivedOrderPanelCommand;
 import seedu.address.logic.commands.switchcommand.SwitchCustomerPanelCommand;
 import seedu.address.logic.commands.switchcommand.SwitchOrderPanelCommand;
@@ -75,6 +80,7 @@ import seedu.address.model.phone.Phone;
 import seedu.address.model.phone.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.tag.Tag;
+import seedu.address.statistic.CubeDimension;
 import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.CustomerUtil;
 import seedu.address.testutil.EditCustomerDescriptorBuilder;
@@ -302,6 +308,23 @@ public class SellerManagerParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_conflicts() throws Exception {
+        assertTrue(parser.parseCommand(ConflictsCommand.COMMAND_WORD) instanceof ConflictsCommand);
+    }
+
+    @Test
+    public void parseCommand_salesAnalysis() throws Exception {
+        SalesAnalysisCommand command = (SalesAnalysisCommand) parser.parseCommand(StatsCommand.COMMAND_WORD
+                + " s/profit g/brand g/month top/5");
+        assertEquals(new SalesAnalysisCommand(StatisticType.PROFIT,
+                Arrays.asList(CubeDimension.BRAND, CubeDimension.MONTH), 5, LocalDate.MIN, LocalDate.MAX), command);
+        assertThrows(ParseException.class, CubeDimension.MESSAGE_CONSTRAINTS, () ->
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " s/profit g/planet"));
+        assertThrows(ParseException.class, StatsCommandParser.MESSAGE_DUPLICATE_DIMENSION, () ->
+                parser.parseCommand(StatsCommand.COMMAND_WORD + " s/profit g/brand g/brand"));
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
@@ -9,22 +9,27 @@ import static seedu.address.testutil.TypicalCustomers.BENSON;
 import static seedu.address.testutil.TypicalCustomers.CARL;
 import static seedu.address.testutil.TypicalCustomers.DANIEL;
 import static seedu.address.testutil.TypicalCustomers.FIONA;
+import static seedu.address.testutil.TypicalCustomers.getTypicalCustomerBook;
 import static seedu.address.testutil.TypicalOrders.ORDERONE;
 import static seedu.address.testutil.TypicalOrders.ORDERTHREE;
 import static seedu.address.testutil.TypicalOrders.VIPORDER;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
 import static seedu.address.testutil.TypicalPhones.ANDROIDONE;
 import static seedu.address.testutil.TypicalPhones.IPHONEONE;
 import static seedu.address.testutil.TypicalPhones.IPHONEPRO11;
 import static seedu.address.testutil.TypicalPhones.IPHONEXR;
+import static seedu.address.testutil.TypicalPhones.getTypicalPhoneBook;
 import static seedu.address.testutil.TypicalSchedules.CBD_SCHEDULE;
 import static seedu.address.testutil.TypicalSchedules.FRIDAY_SCHEDULE;
 import static seedu.address.testutil.TypicalSchedules.MONDAY_SCHEDULE;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBook;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,9 +37,12 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.customer.Customer;
 import seedu.address.model.customer.predicates.CustomerContainsKeywordsPredicate;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.order.predicates.OrderContainsKeywordsPredicate;
 import seedu.address.model.phone.Phone;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.CustomerBookBuilder;
+import seedu.address.testutil.CustomerBuilder;
 import seedu.address.testutil.OrderBookBuilder;
 import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.PhoneBookBuilder;
@@ -192,6 +200,37 @@ public class ModelManagerTest {
         assertFalse(modelManager.hasOrder(order));
     }
 
+    @Test
+    public void deleteCustomer_customerWithSeveralOrders_allOrdersDeleted() {
+        modelManager.addCustomer(BENSON);
+        Order order = new OrderBuilder(VIPORDER).withCustomer(BENSON).build();
+        Order otherOrder = new OrderBuilder(ORDERONE).withCustomer(BENSON).build();
+        modelManager.addOrder(order);
+        modelManager.addOrder(otherOrder);
+        modelManager.deleteCustomer(BENSON);
+        assertEquals(0, modelManager.getOrderBook().getList().size());
+    }
+
+    @Test
+    public void setCustomer_afterUndoAndRedo_cascadesToRestoredOrders() {
+        modelManager.addCustomer(BENSON);
+        Order order = new OrderBuilder(VIPORDER).withCustomer(BENSON).build();
+        modelManager.addOrder(order);
+        modelManager.startRecordingChanges();
+        modelManager.setCustomer(BENSON, CARL);
+        ModelChangeLog changeLog = modelManager.stopRecordingChanges();
+
+        changeLog.revert();
+        modelManager.setCustomer(BENSON, DANIEL);
+        assertEquals(Arrays.asList(new OrderBuilder(order).withCustomer(DANIEL).build()),
+                modelManager.getOrderBook().getList());
+
+        modelManager.setCustomer(DANIEL, BENSON);
+        changeLog.reapply();
+        modelManager.deleteCustomer(CARL);
+        assertEquals(0, modelManager.getOrderBook().getList().size());
+    }
+
     @Test
     public void getFilteredCustomerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredCustomerList().remove(0));
@@ -513,6 +552,34 @@ public class ModelManagerTest {
         assertEquals(0, conflicts.size());
     }
 
+    @Test
+    public void getConflictingSchedules_scheduledOrderStartsWithinMeetupDuration_returnsConflict() {
+        modelManager.addSchedule(CBD_SCHEDULE);
+        modelManager.addOrder(new OrderBuilder(VIPORDER).withSchedule(Optional.of(CBD_SCHEDULE)).build());
+
+        Calendar newCalendar = (Calendar) CBD_SCHEDULE.getCalendar().clone();
+        newCalendar.add(Calendar.MINUTE, 59);
+        Schedule newSchedule = new ScheduleBuilder(CBD_SCHEDULE).withId(UUID.randomUUID())
+                .withCalendar(newCalendar).build();
+        assertEquals(Arrays.asList(CBD_SCHEDULE), modelManager.getConflictingSchedules(newSchedule));
+    }
+
+    @Test
+    public void getConflictingSchedules_longerMeetupDuration_returnsConflict() {
+        modelManager.addSchedule(CBD_SCHEDULE);
+        modelManager.addOrder(new OrderBuilder(VIPORDER).withSchedule(Optional.of(CBD_SCHEDULE)).build());
+        Calendar newCalendar = (Calendar) CBD_SCHEDULE.getCalendar().clone();
+        newCalendar.add(Calendar.HOUR_OF_DAY, 2);
+        Schedule newSchedule = new ScheduleBuilder(CBD_SCHEDULE).withId(UUID.randomUUID())
+                .withCalendar(newCalendar).build();
+        assertEquals(0, modelManager.getConflictingSchedules(newSchedule).size());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMeetupDuration(180);
+        modelManager.setUserPrefs(userPrefs);
+        assertEquals(Arrays.asList(CBD_SCHEDULE), modelManager.getConflictingSchedules(newSchedule));
+    }
+
     @Test
     public void setSchedule_nullFields_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setSchedule(null, null));
@@ -549,6 +616,24 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasOrder(newOrder));
     }
 
+    @Test
+    public void deleteSchedule_afterUndoAndRedo_cascadesToRestoredOrders() {
+        Order order = new OrderBuilder(VIPORDER).withSchedule(Optional.of(MONDAY_SCHEDULE)).build();
+        modelManager.addOrder(order);
+        modelManager.addSchedule(MONDAY_SCHEDULE);
+        modelManager.startRecordingChanges();
+        modelManager.setSchedule(MONDAY_SCHEDULE, FRIDAY_SCHEDULE);
+        ModelChangeLog changeLog = modelManager.stopRecordingChanges();
+
+        changeLog.revert();
+        changeLog.reapply();
+        changeLog.revert();
+        modelManager.deleteSchedule(MONDAY_SCHEDULE);
+        Order orderWithoutSchedule = new OrderBuilder(order).withStatus(Status.UNSCHEDULED)
+                .withSchedule(Optional.empty()).build();
+        assertEquals(Arrays.asList(orderWithoutSchedule), modelManager.getOrderBook().getList());
+    }
+
     @Test
     public void getFilteredScheduleList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredScheduleList().remove(0));
@@ -735,4 +820,61 @@ public class ModelManagerTest {
         modelManagerCopy.setCalendarDate(differentCalendar);
         assertTrue(modelManager.equals(modelManagerCopy));
     }
+
+    @Test
+    public void stopRecordingChanges_cascadingDelete_revertAndReapplyRestoreBooks() {
+        modelManager = new ModelManager(getTypicalCustomerBook(), getTypicalPhoneBook(), getTypicalOrderBook(),
+                getTypicalScheduleBook(), new DataBook<>(), new UserPrefs());
+        ModelManager expectedBefore = new ModelManager(getTypicalCustomerBook(), getTypicalPhoneBook(),
+                getTypicalOrderBook(), getTypicalScheduleBook(), new DataBook<>(), new UserPrefs());
+        Order orderWithPhone = modelManager.getOrderBook().getList().get(0);
+
+        modelManager.startRecordingChanges();
+        modelManager.deletePhone(orderWithPhone.getPhone());
+        ModelChangeLog changeLog = modelManager.stopRecordingChanges();
+        assertFalse(modelManager.hasOrder(orderWithPhone));
+
+        ModelManager expectedAfter = new ModelManager(modelManager.getCustomerBook(), modelManager.getPhoneBook(),
+                modelManager.getOrderBook(), modelManager.getScheduleBook(), modelManager.getArchivedOrderBook(),
+                new UserPrefs());
+
+        changeLog.revert();
+        assertEquals(expectedBefore, modelManager);
+
+        changeLog.reapply();
+        assertEquals(expectedAfter, modelManager);
+    }
+
+    @Test
+    public void getIndexedOrderPredicate_keywords_sameOrdersAsPredicate() {
+        modelManager = new ModelManager(getTypicalCustomerBook(), getTypicalPhoneBook(), getTypicalOrderBook(),
+                getTypicalScheduleBook(), new DataBook<>(), new UserPrefs());
+        for (String keywords : Arrays.asList("iphone", "$1231.12 iPhone", "a", "PHO", "nosuchword", "al xr")) {
+            OrderContainsKeywordsPredicate predicate =
+                    new OrderContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+")));
+            List<Order> expectedOrders = modelManager.getOrderBook().getList().filtered(predicate);
+            assertEquals(expectedOrders,
+                    modelManager.getOrderBook().getList().filtered(modelManager.getIndexedOrderPredicate(predicate)));
+        }
+    }
+
+    @Test
+    public void getIndexedCustomerPredicate_customerEditedAfterwards_editedCustomerTested() {
+        modelManager.addCustomer(BENSON);
+        CustomerContainsKeywordsPredicate predicate =
+                new CustomerContainsKeywordsPredicate(Arrays.asList("zzz"));
+        modelManager.updateFilteredCustomerList(modelManager.getIndexedCustomerPredicate(predicate));
+        assertEquals(0, modelManager.getFilteredCustomerList().size());
+
+        Customer editedBenson = new CustomerBuilder(BENSON).withName("Benson Zzz").build();
+        modelManager.setCustomer(BENSON, editedBenson);
+        assertEquals(Arrays.asList(editedBenson), modelManager.getFilteredCustomerList());
+
+        modelManager.setCustomer(editedBenson, BENSON);
+        assertEquals(0, modelManager.getFilteredCustomerList().size());
+        assertEquals(Arrays.asList(BENSON), modelManager.getCustomerBook().getList()
+                .filtered(modelManager.getIndexedCustomerPredicate(
+                        new CustomerContainsKeywordsPredicate(Arrays.asList("benson")))));
+    }
+
 }
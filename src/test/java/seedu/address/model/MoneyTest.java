@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.order.Price;
+import seedu.address.model.phone.Cost;
+
+class MoneyTest {
+
+    @Test
+    void parse_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Money.parse(null));
+    }
+
+    @Test
+    void parse_invalidAmount_throwsNumberFormatException() {
+        assertThrows(NumberFormatException.class, () -> Money.parse("1.00"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("$1."));
+        assertThrows(NumberFormatException.class, () -> Money.parse("$1.234"));
+        assertThrows(NumberFormatException.class, () -> Money.parse("$1.-5"));
+    }
+
+    @Test
+    void parse_validAmount_returnsCorrespondingCents() {
+        assertEquals(123456L, Money.parse("$1234.56").getCents());
+        assertEquals(150L, Money.parse("$1.5").getCents());
+        assertEquals(700L, Money.parse("$7").getCents());
+        assertEquals(99999999999L, Money.parse("$999999999.99").getCents());
+    }
+
+    @Test
+    void getAmount_validPriceAndCost_parsedAmount() {
+        assertEquals(Money.ofCents(100), new Price("$1.00").getAmount());
+        assertEquals(Money.ofCents(10), new Cost("$0.10").getAmount());
+    }
+
+    @Test
+    void arithmetic_exactToTheCent() {
+        Money total = Money.ZERO;
+        for (int i = 0; i < 10; i++) {
+            total = total.plus(Money.parse("$0.10"));
+        }
+        assertEquals(Money.parse("$1"), total);
+        assertEquals(Money.ofCents(-90), Money.parse("$0.10").minus(Money.parse("$1")));
+        assertEquals(0.1, Money.parse("$0.10").toDollars());
+    }
+
+    @Test
+    void compareTo() {
+        assertTrue(Money.parse("$0.99").compareTo(Money.parse("$1")) < 0);
+        assertTrue(Money.parse("$1.00").compareTo(Money.parse("$1")) == 0);
+        assertFalse(Money.parse("$10").compareTo(Money.parse("$9.99")) < 0);
+    }
+
+    @Test
+    void toString_alwaysTwoDecimals() {
+        assertEquals("$1.50", Money.parse("$1.5").toString());
+        assertEquals("-$0.05", Money.ofCents(-5).toString());
+    }
+
+}
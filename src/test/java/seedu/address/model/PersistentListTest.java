@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_list_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(elements, PersistentList.of(elements).toList());
+    }
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<Integer> list = PersistentList.<Integer>empty().add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void update_oldVersionUnchanged() {
+        PersistentList<Integer> original = PersistentList.of(Arrays.asList(1, 2, 3));
+        original.add(4);
+        original.set(0, 0);
+        original.remove(1);
+        assertEquals(Arrays.asList(1, 2, 3), original.toList());
+    }
+
+    @Test
+    public void update_randomOperations_matchesArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.add(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, actual.toList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+
+    @Test
+    public void descendingIterator_elementsInReverseOrder() {
+        List<Integer> elements = Arrays.asList(1, 2, 3, 4, 5);
+        List<Integer> reversed = new ArrayList<>();
+        Iterator<Integer> iterator = PersistentList.of(elements).descendingIterator();
+        iterator.forEachRemaining(reversed::add);
+
+        List<Integer> expected = new ArrayList<>(elements);
+        Collections.reverse(expected);
+        assertEquals(expected, reversed);
+    }
+
+}
@@ -1,14 +1,18 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 class UniqueListTest {
 
     private UniqueList<IdentifiableStub> uniqueList = new UniqueList<>();
@@ -94,6 +98,15 @@ class UniqueListTest {
         assertTrue(uniqueList.contains(editedObject));
     }
 
+    @Test
+    void set_targetReplaced_targetIdentityNoLongerContained() {
+        IdentifiableStub target = new IdentifiableStub(0);
+        uniqueList.add(target);
+        uniqueList.set(target, new IdentifiableStub(1));
+        assertFalse(uniqueList.contains(target));
+        uniqueList.add(new IdentifiableStub(0));
+    }
+
     @Test
     void remove_nullObject_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueList.remove(null));
@@ -111,6 +124,7 @@ class UniqueListTest {
         assertTrue(uniqueList.contains(obj));
         uniqueList.remove(obj);
         assertFalse(uniqueList.contains(obj));
+        uniqueList.add(new IdentifiableStub(0));
     }
 
     @Test
@@ -125,6 +139,7 @@ class UniqueListTest {
         inputList.add(obj);
         uniqueList.setList(inputList);
         assertTrue(uniqueList.contains(obj));
+        assertThrows(DuplicateIdentityException.class, () -> uniqueList.add(new IdentifiableStub(0)));
     }
 
     @Test
@@ -139,15 +154,66 @@ class UniqueListTest {
         assertThrows(DuplicateIdentityException.class, () -> uniqueList.setList(duplicateList));
     }
 
+    @Test
+    void setList_listWithDuplicates_listIsUnchanged() {
+        IdentifiableStub obj = new IdentifiableStub(2);
+        uniqueList.add(obj);
+        List<IdentifiableStub> duplicateList =
+                Arrays.asList(new IdentifiableStub(0), new IdentifiableStub(1), new IdentifiableStub(0));
+        assertThrows(DuplicateIdentityException.class, () -> uniqueList.setList(duplicateList));
+        assertTrue(uniqueList.contains(obj));
+        assertFalse(uniqueList.contains(new IdentifiableStub(1)));
+    }
+
     @Test
     void setList_listWithNoDuplicates_listIsReplaced() {
         IdentifiableStub obj1 = new IdentifiableStub(0);
         IdentifiableStub obj2 = new IdentifiableStub(1);
         List<IdentifiableStub> nonDuplicateList =
                 Arrays.asList(obj1, obj2);
+        uniqueList.add(new IdentifiableStub(2));
         uniqueList.setList(nonDuplicateList);
         assertTrue(uniqueList.contains(obj1));
         assertTrue(uniqueList.contains(obj2));
+        assertFalse(uniqueList.contains(new IdentifiableStub(2)));
+    }
+
+    @Test
+    void restore_snapshot_contentsAndIdentitiesRestored() {
+        IdentifiableStub obj0 = new IdentifiableStub(0);
+        IdentifiableStub obj1 = new IdentifiableStub(1);
+        uniqueList.add(obj0);
+        uniqueList.add(obj1);
+        PersistentList<IdentifiableStub> snapshot = uniqueList.snapshot();
+
+        uniqueList.remove(obj0);
+        uniqueList.set(obj1, new IdentifiableStub(3));
+        uniqueList.add(new IdentifiableStub(2));
+
+        uniqueList.restore(snapshot);
+        assertEquals(Arrays.asList(obj0, obj1), uniqueList.asUnmodifiableObservableList());
+        assertTrue(uniqueList.contains(obj0));
+        assertFalse(uniqueList.contains(new IdentifiableStub(2)));
+        assertFalse(uniqueList.contains(new IdentifiableStub(3)));
+    }
+
+    @Test
+    void restore_snapshot_onlyChangedRangeReported() {
+        IdentifiableStub changed = new IdentifiableStub(1);
+        uniqueList.setList(Arrays.asList(new IdentifiableStub(0), changed, new IdentifiableStub(2)));
+        PersistentList<IdentifiableStub> snapshot = uniqueList.snapshot();
+        uniqueList.set(changed, new IdentifiableStub(4));
+
+        List<Integer> changedIndexes = new ArrayList<>();
+        uniqueList.asUnmodifiableObservableList().addListener((ListChangeListener<IdentifiableStub>) change -> {
+            while (change.next()) {
+                for (int i = change.getFrom(); i < Math.max(change.getTo(), change.getFrom() + 1); i++) {
+                    changedIndexes.add(i);
+                }
+            }
+        });
+        uniqueList.restore(snapshot);
+        assertEquals(Arrays.asList(1), changedIndexes);
     }
 
     @Test
@@ -168,6 +234,11 @@ class UniqueListTest {
             return this.identity == other.identity;
         }
 
+        @Override
+        public List<Object> getIdentityKeys() {
+            return List.of(identity);
+        }
+
     }
 
 }
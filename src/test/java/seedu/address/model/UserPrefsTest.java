@@ -1,5 +1,7 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -12,4 +14,18 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPref.setGuiSettings(null));
     }
 
+    @Test
+    public void setMeetupDuration_nonPositiveDuration_throwsIllegalArgumentException() {
+        UserPrefs userPref = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPref.setMeetupDuration(0));
+    }
+
+    @Test
+    public void isValidMeetupDuration() {
+        assertFalse(UserPrefs.isValidMeetupDuration(-1));
+        assertFalse(UserPrefs.isValidMeetupDuration(0));
+        assertTrue(UserPrefs.isValidMeetupDuration(1));
+        assertTrue(UserPrefs.isValidMeetupDuration(UserPrefs.DEFAULT_MEETUP_DURATION));
+    }
+
 }
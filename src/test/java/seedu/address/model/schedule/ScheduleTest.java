@@ -62,4 +62,20 @@ class ScheduleTest {
         // different tags -> not equals
         assertNotEquals(MONDAY_SCHEDULE, new ScheduleBuilder(MONDAY_SCHEDULE).withTags(VALID_TAG).build());
     }
+
+    @Test
+    void getCalendar_modifiedCalendar_scheduleUnchanged() {
+        Schedule schedule = new ScheduleBuilder(MONDAY_SCHEDULE).withCalendar(VALID_CALENDAR).build();
+        schedule.getCalendar().add(Calendar.HOUR_OF_DAY, 1);
+        assertEquals(VALID_CALENDAR, schedule.getCalendar());
+    }
+
+    @Test
+    void getYearMonth_chronologicalOrder() {
+        Calendar december = new Calendar.Builder().setDate(2029, Calendar.DECEMBER, 31).build();
+        Schedule earlier = new ScheduleBuilder(MONDAY_SCHEDULE).withCalendar(december).build();
+        Schedule later = new ScheduleBuilder(MONDAY_SCHEDULE).withCalendar(VALID_CALENDAR).build();
+        assertTrue(earlier.getYearMonth() < later.getYearMonth());
+        assertEquals(Schedule.toYearMonth(2030, Calendar.APRIL), later.getYearMonth());
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.statistic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.List;
@@ -27,6 +28,32 @@ public class DateUtilTest {
         assertEquals(testOrder.getSchedule().get().getCalendar().get(Calendar.YEAR), DateUtil.extractYear(testOrder));
     }
 
+    @Test
+    public void getFirstDateFrom_startOfDay_sameDate() {
+        Calendar date = new Calendar.Builder().setDate(2019, 1, 3).build();
+        assertEquals(LocalDate.of(2019, 2, 3), DateUtil.getFirstDateFrom(date));
+    }
+
+    @Test
+    public void getFirstDateFrom_middleOfDay_nextDate() {
+        Calendar date = new Calendar.Builder().setDate(2019, 1, 3).setTimeOfDay(12, 0, 0).build();
+        assertEquals(LocalDate.of(2019, 2, 4), DateUtil.getFirstDateFrom(date));
+    }
+
+    @Test
+    public void getLastDateUntil_middleOfDay_sameDate() {
+        Calendar date = new Calendar.Builder().setDate(2019, 1, 3).setTimeOfDay(12, 0, 0).build();
+        assertEquals(LocalDate.of(2019, 2, 3), DateUtil.getLastDateUntil(date));
+    }
+
+    @Test
+    public void getListOfYearMonth_dates_firstDayOfEachMonth() {
+        List<Calendar> months = DateUtil.getListOfYearMonth(LocalDate.of(2018, 11, 30), LocalDate.of(2019, 2, 1));
+        assertEquals(4, months.size());
+        assertEquals(new Calendar.Builder().setDate(2018, 10, 1).build(), months.get(0));
+        assertEquals(new Calendar.Builder().setDate(2019, 1, 1).build(), months.get(3));
+    }
+
     @Test
     public void testExtractListOfYearMonth() {
         TestListOfYearMonthStub testStub = new TestListOfYearMonthStub();
@@ -0,0 +1,47 @@
+package seedu.address.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.schedule.Schedule;
+
+public class PeriodTotalsTest {
+
+    private static final int JANUARY_2019 = Schedule.toYearMonth(2019, 0);
+
+    @Test
+    public void add_monthsInAnyOrder_bucketedByMonth() {
+        PeriodTotals monthlyTotals = new PeriodTotals();
+        monthlyTotals.add(JANUARY_2019, 1000, 300);
+        monthlyTotals.add(JANUARY_2019 + 40, 500, 100);
+        monthlyTotals.add(JANUARY_2019 - 30, 250, 50);
+        monthlyTotals.add(JANUARY_2019, 10, 0);
+
+        assertEquals(1010, monthlyTotals.getRevenue(JANUARY_2019));
+        assertEquals(300, monthlyTotals.getCost(JANUARY_2019));
+        assertEquals(400, monthlyTotals.getProfit(JANUARY_2019 + 40));
+        assertEquals(200, monthlyTotals.getProfit(JANUARY_2019 - 30));
+        assertTrue(monthlyTotals.getFirstPeriod() <= JANUARY_2019 - 30);
+        assertTrue(monthlyTotals.getLastPeriod() >= JANUARY_2019 + 40);
+    }
+
+    @Test
+    public void add_negativeAmounts_amountsTakenAway() {
+        PeriodTotals monthlyTotals = new PeriodTotals();
+        monthlyTotals.add(JANUARY_2019, 1000, 300);
+        monthlyTotals.add(JANUARY_2019, -1000, -300);
+        assertEquals(0, monthlyTotals.getProfit(JANUARY_2019));
+    }
+
+    @Test
+    public void get_monthWithoutOrders_zero() {
+        PeriodTotals monthlyTotals = new PeriodTotals();
+        assertEquals(0, monthlyTotals.getRevenue(JANUARY_2019));
+        monthlyTotals.add(JANUARY_2019, 1000, 300);
+        assertEquals(0, monthlyTotals.getCost(JANUARY_2019 + 1));
+        assertEquals(0, monthlyTotals.getProfit(JANUARY_2019 - 1000));
+    }
+
+}
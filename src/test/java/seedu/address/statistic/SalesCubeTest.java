@@ -0,0 +1,94 @@
+package seedu.address.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalCustomers.ALICE;
+import static seedu.address.testutil.TypicalCustomers.BENSON;
+import static seedu.address.testutil.TypicalPhones.ANDROIDONE;
+import static seedu.address.testutil.TypicalPhones.IPHONEONE;
+import static seedu.address.testutil.TypicalPhones.IPHONETWO;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.statisticcommand.StatisticType;
+import seedu.address.model.customer.Customer;
+import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
+import seedu.address.model.phone.Phone;
+import seedu.address.testutil.OrderBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class SalesCubeTest {
+
+    private static final List<Order> ORDERS = Arrays.asList(
+            order(ALICE, IPHONEONE, "$800", Status.COMPLETED, 2019, 0, 10, "Urgent"),
+            order(BENSON, IPHONETWO, "$500", Status.COMPLETED, 2019, 0, 20),
+            order(ALICE, ANDROIDONE, "$450.50", Status.COMPLETED, 2019, 1, 3, "Urgent", "Gift"),
+            order(BENSON, IPHONEONE, "$900", Status.CANCELLED, 2019, 1, 5));
+
+    private final SalesCube cube = SalesCube.of(ORDERS);
+
+    @Test
+    public void of_cancelledOrders_notInCube() {
+        assertEquals(3, cube.size());
+    }
+
+    @Test
+    public void query_groupByBrandByMonth_sortedByValues() {
+        List<SalesCube.Group> groups = cube.query(StatisticType.PROFIT,
+                Arrays.asList(CubeDimension.BRAND, CubeDimension.MONTH), LocalDate.MIN, LocalDate.MAX, 0);
+        assertEquals(Arrays.asList(
+                new SalesCube.Group(Arrays.asList("Samsung", "2019.02"), 15050),
+                new SalesCube.Group(Arrays.asList("iPhone", "2019.01"), 50000)), groups);
+    }
+
+    @Test
+    public void query_topCustomers_largestFirst() {
+        List<SalesCube.Group> groups = cube.query(StatisticType.REVENUE, Arrays.asList(CubeDimension.CUSTOMER),
+                LocalDate.MIN, LocalDate.MAX, 1);
+        assertEquals(Arrays.asList(new SalesCube.Group(Arrays.asList("Alice Lim"), 125050)), groups);
+    }
+
+    @Test
+    public void query_groupByTag_orderCountedInEachTag() {
+        List<SalesCube.Group> groups = cube.query(StatisticType.COST, Arrays.asList(CubeDimension.TAG),
+                LocalDate.MIN, LocalDate.MAX, 0);
+        assertEquals(Arrays.asList(
+                new SalesCube.Group(Arrays.asList(SalesCube.NO_TAG), 30000),
+                new SalesCube.Group(Arrays.asList("Gift"), 30000),
+                new SalesCube.Group(Arrays.asList("Urgent"), 80000)), groups);
+    }
+
+    @Test
+    public void query_noDimensionsWithinDates_rolledUp() {
+        List<SalesCube.Group> groups = cube.query(StatisticType.REVENUE, Arrays.asList(),
+                LocalDate.of(2019, 1, 15), LocalDate.of(2019, 2, 3), 0);
+        assertEquals(Arrays.asList(new SalesCube.Group(Arrays.asList(), 95050)), groups);
+    }
+
+    @Test
+    public void query_groupByWeek_isoWeeks() {
+        List<SalesCube.Group> groups = cube.query(StatisticType.REVENUE, Arrays.asList(CubeDimension.WEEK),
+                LocalDate.MIN, LocalDate.MAX, 0);
+        assertEquals(Arrays.asList("2019-W02", "2019-W03", "2019-W05"),
+                Arrays.asList(groups.get(0).getValues().get(0), groups.get(1).getValues().get(0),
+                        groups.get(2).getValues().get(0)));
+    }
+
+    /**
+     * Returns an order of {@code phone} by {@code customer} scheduled on the given date.
+     */
+    private static Order order(Customer customer, Phone phone, String price, Status status, int year, int month,
+                               int day, String... tags) {
+        Calendar calendar = new Calendar.Builder().setDate(year, month, day).setTimeOfDay(12, 0, 0).build();
+        return new OrderBuilder().withCustomer(customer).withPhone(phone).withPrice(price).withStatus(status)
+                .withSchedule(Optional.of(new ScheduleBuilder().withCalendar(calendar).build()))
+                .withTags(tags).build();
+    }
+
+}
@@ -6,16 +6,22 @@ import static seedu.address.statistic.TypicalStatsPayload.DEFAULT_STATS_PAYLOAD_
 import static seedu.address.statistic.TypicalStatsPayload.DEFAULT_STATS_PAYLOAD_PROFIT_1;
 import static seedu.address.statistic.TypicalStatsPayload.DEFAULT_STATS_PAYLOAD_REVENUE_1;
 
+import java.util.ArrayList;
+import java.util.Calendar;
+
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.scene.chart.XYChart;
 
-import seedu.address.commons.util.MoneyUtil;
+import seedu.address.logic.commands.statisticcommand.StatisticType;
+import seedu.address.model.DataBook;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.Status;
 import seedu.address.model.phone.Phone;
+import seedu.address.testutil.OrderBuilder;
 import seedu.address.testutil.TypicalOrders;
 import seedu.address.testutil.TypicalPhones;
 
@@ -32,7 +38,7 @@ public class StatisticsManagerTest {
                 orderBookStub
                         .getList()
                         .stream()
-                        .map(x -> MoneyUtil.convertToDouble(x.getPrice()))
+                        .map(x -> x.getPrice().getAmount().toDollars())
                         .reduce((x, y) -> x + y).get());
         String testResult = this.statisticModule.calculateTotalRevenueOnCompleted(
                 orderBookStub, DEFAULT_STATS_PAYLOAD_REVENUE_1);
@@ -46,8 +52,8 @@ public class StatisticsManagerTest {
                  orderBookStub
                          .getList()
                          .stream()
-                         .map(x -> MoneyUtil.convertToDouble(x.getPrice())
-                                 - MoneyUtil.convertToDouble(x.getPhone().getCost()))
+                         .map(x -> x.getPrice().getAmount().toDollars()
+                                 - x.getPhone().getCost().getAmount().toDollars())
                          .reduce((x, y) -> x + y).get());
         String testResult = this.statisticModule.calculateTotalProfitOnCompleted(orderBookStub,
                 DEFAULT_STATS_PAYLOAD_PROFIT_1);
@@ -61,7 +67,7 @@ public class StatisticsManagerTest {
                 orderBookStub
                         .getList()
                         .stream()
-                        .map(x -> MoneyUtil.convertToDouble(x.getPhone().getCost()))
+                        .map(x -> x.getPhone().getCost().getAmount().toDollars())
                         .reduce((x, y) -> x + y).get());
         String testResult = this.statisticModule.calculateTotalCostOnCompleted(
                 orderBookStub, DEFAULT_STATS_PAYLOAD_COST_1);
@@ -142,6 +148,83 @@ public class StatisticsManagerTest {
     }
 
 
+    @Test
+    public void calculate_observedOrderBookChanged_sameAsRecalculation() {
+        DataBook<Order> orderBook = new DataBook<>();
+        Statistic observingStatisticModule = new StatisticManager(orderBook.getList());
+        Order secondOrder = new OrderBuilder(TypicalOrders.ORDERTWOSTATS).withPhone(TypicalPhones.IPHONEONE).build();
+        Order thirdOrder = new OrderBuilder(TypicalOrders.ORDERSIXSTATS).withPhone(TypicalPhones.ANDROIDONE).build();
+        orderBook.add(TypicalOrders.ORDERONESTATS);
+        orderBook.add(secondOrder);
+        orderBook.add(thirdOrder);
+        orderBook.remove(TypicalOrders.ORDERONESTATS);
+        orderBook.set(thirdOrder, new OrderBuilder(thirdOrder).withStatus(Status.CANCELLED).build());
+
+        assertEquals(statisticModule.calculateTotalProfitOnCompleted(orderBook, DEFAULT_STATS_PAYLOAD_PROFIT_1),
+                observingStatisticModule.calculateTotalProfitOnCompleted(orderBook, DEFAULT_STATS_PAYLOAD_PROFIT_1));
+        assertEquals(statisticModule.calculateTotalCostOnCompleted(orderBook, DEFAULT_STATS_PAYLOAD_COST_1),
+                observingStatisticModule.calculateTotalCostOnCompleted(orderBook, DEFAULT_STATS_PAYLOAD_COST_1));
+        assertEquals(
+                statisticModule.calculateTotalRevenueOnCompletedGraph(orderBook,
+                        TypicalStatsPayload.DEFAULT_STATS_PAYLOAD_GRAPH).getData().toString(),
+                observingStatisticModule.calculateTotalRevenueOnCompletedGraph(orderBook,
+                        TypicalStatsPayload.DEFAULT_STATS_PAYLOAD_GRAPH).getData().toString());
+
+        orderBook.setData(new ArrayList<>());
+        assertEquals("0.0", observingStatisticModule.calculateTotalRevenueOnCompleted(orderBook,
+                DEFAULT_STATS_PAYLOAD_REVENUE_1));
+    }
+
+    @Test
+    public void calculateTotalRevenueOnCompleted_partOfMonths_onlyOrdersWithinDates() {
+        OrderBookStub orderBookStub = new OrderBookStub();
+        Calendar startingDate = new Calendar.Builder().setDate(2019, 1, 15).build();
+        Calendar endingDate = new Calendar.Builder().setDate(2019, 5, 10).build();
+        long expectedCents = orderBookStub.getList().stream()
+                .filter(order -> startingDate.compareTo(DateUtil.extractMonthYear(order)) <= 0
+                        && endingDate.compareTo(DateUtil.extractMonthYear(order)) >= 0)
+                .mapToLong(order -> order.getPrice().getAmount().getCents())
+                .sum();
+        StatsPayload statsPayload = new StatsPayloadBuilder().withStatsType(StatisticType.REVENUE)
+                .withStartingDate(startingDate).withEndingDate(endingDate).build();
+
+        assertEquals(String.valueOf(expectedCents / 100.0),
+                statisticModule.calculateTotalRevenueOnCompleted(orderBookStub, statsPayload));
+        assertEquals(String.valueOf(expectedCents / 100.0),
+                new StatisticManager(orderBookStub.getList())
+                        .calculateTotalRevenueOnCompleted(orderBookStub, statsPayload));
+    }
+
+
+    @Test
+    public void calculateTotalRevenueOnCompletedGraph_defaultQuery_monthsOfOrdersOnly() {
+        OrderBookStub orderBookStub = new OrderBookStub();
+        XYChart.Series<String, Number> series = statisticModule.calculateTotalRevenueOnCompletedGraph(
+                orderBookStub, DEFAULT_STATS_PAYLOAD_REVENUE_1);
+
+        ObservableList<XYChart.Data<String, Number>> expectedData = new XyChartExpectedRevenueStub().getList();
+        ObservableList<XYChart.Data<String, Number>> data = series.getData();
+        assertEquals("February 2019", data.get(0).getXValue());
+        assertEquals("November 2019", data.get(data.size() - 1).getXValue());
+        for (XYChart.Data<String, Number> monthData : data) {
+            assertTrue(expectedData.stream().anyMatch(expected -> expected.getXValue().equals(monthData.getXValue())
+                    && expected.getYValue().equals(monthData.getYValue())));
+        }
+    }
+
+    @Test
+    public void calculate_defaultQueryOnEmptyOrderBook_nothing() {
+        DataBook<Order> orderBook = new DataBook<>();
+        Statistic observingStatisticModule = new StatisticManager(orderBook.getList());
+        orderBook.add(TypicalOrders.ORDERONESTATS);
+        orderBook.remove(TypicalOrders.ORDERONESTATS);
+
+        assertTrue(observingStatisticModule.calculateTotalProfitOnCompletedGraph(orderBook,
+                DEFAULT_STATS_PAYLOAD_PROFIT_1).getData().isEmpty());
+        assertEquals("0.0", observingStatisticModule.calculateTotalProfitOnCompleted(orderBook,
+                DEFAULT_STATS_PAYLOAD_PROFIT_1));
+    }
+
     /**
      * Stub method to build a dummy order book for use here
      */
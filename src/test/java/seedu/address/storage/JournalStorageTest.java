@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalCustomers.HARRY;
+import static seedu.address.testutil.TypicalCustomers.INDY;
+import static seedu.address.testutil.TypicalCustomers.getTypicalCustomerBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.DataBook;
+import seedu.address.model.customer.Customer;
+import seedu.address.testutil.CustomerBuilder;
+
+public class JournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path customerBookFilePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        customerBookFilePath = testFolder.resolve("cb");
+        journalFilePath = testFolder.resolve("cb" + JsonBookJournal.JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns a new {@code JournalStorage} over json files in the test folder.
+     */
+    private JournalStorage createStorage() {
+        return new JournalStorage(new StorageManager(new JsonCustomerBookStorage(customerBookFilePath),
+                new JsonPhoneBookStorage(testFolder.resolve("pb")),
+                new JsonScheduleBookStorage(testFolder.resolve("sb")),
+                new JsonOrderBookStorage(testFolder.resolve("ob")),
+                new JsonOrderBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+    }
+
+    @Test
+    public void saveCustomerBook_changesAfterFirstSave_onlyJournalAppended() throws Exception {
+        JournalStorage storage = createStorage();
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+        storage.saveCustomerBook(customerBook);
+        String savedJson = FileUtil.readFromFile(customerBookFilePath);
+
+        customerBook.add(HARRY);
+        storage.saveCustomerBook(customerBook);
+        customerBook.remove(customerBook.getList().get(0));
+        storage.saveCustomerBook(customerBook);
+
+        assertEquals(savedJson, FileUtil.readFromFile(customerBookFilePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(customerBook, new DataBook<>(createStorage().readCustomerBook().get()));
+    }
+
+    @Test
+    public void saveCustomerBook_severalChanges_onlyChangedRangeAppended() throws Exception {
+        JournalStorage storage = createStorage();
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+        int size = customerBook.getList().size();
+        storage.saveCustomerBook(customerBook);
+
+        customerBook.add(HARRY);
+        customerBook.add(INDY);
+        storage.saveCustomerBook(customerBook);
+        List<String> lines = Files.readAllLines(journalFilePath);
+        JsonJournalEntry entry = JsonUtil.fromJsonString(lines.get(lines.size() - 1), JsonJournalEntry.class);
+        assertEquals(size, entry.getFrom());
+        assertEquals(0, entry.getCount());
+
+        // changes that cancel out are not appended
+        Customer customer = new CustomerBuilder().withContactNumber("91234560").withEmail("journal@example.com")
+                .build();
+        customerBook.add(customer);
+        customerBook.remove(customer);
+        storage.saveCustomerBook(customerBook);
+        assertEquals(lines, Files.readAllLines(journalFilePath));
+        assertEquals(customerBook, new DataBook<>(createStorage().readCustomerBook().get()));
+    }
+
+    @Test
+    public void saveCustomerBook_afterRead_changesAppendedToJournal() throws Exception {
+        JournalStorage storage = createStorage();
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+        storage.saveCustomerBook(customerBook);
+        customerBook.add(HARRY);
+        storage.saveCustomerBook(customerBook);
+
+        JournalStorage reopenedStorage = createStorage();
+        DataBook<Customer> readCustomerBook = new DataBook<>(reopenedStorage.readCustomerBook().get());
+        readCustomerBook.add(INDY);
+        reopenedStorage.saveCustomerBook(readCustomerBook);
+
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(readCustomerBook, new DataBook<>(createStorage().readCustomerBook().get()));
+    }
+
+    @Test
+    public void readCustomerBook_incompleteLastChange_lastChangeIgnored() throws Exception {
+        JournalStorage storage = createStorage();
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+        storage.saveCustomerBook(customerBook);
+        customerBook.add(HARRY);
+        storage.saveCustomerBook(customerBook);
+        DataBook<Customer> expected = new DataBook<>(customerBook);
+
+        customerBook.add(INDY);
+        storage.saveCustomerBook(customerBook);
+        String journal = FileUtil.readFromFile(journalFilePath);
+        FileUtil.writeToFile(journalFilePath, journal.substring(0, journal.length() - 10));
+
+        assertEquals(expected, new DataBook<>(createStorage().readCustomerBook().get()));
+    }
+
+    @Test
+    public void readCustomerBook_journalOfOtherFile_journalIgnored() throws Exception {
+        JournalStorage storage = createStorage();
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+        storage.saveCustomerBook(customerBook);
+        customerBook.add(HARRY);
+        storage.saveCustomerBook(customerBook);
+
+        DataBook<Customer> otherCustomerBook = getTypicalCustomerBook();
+        otherCustomerBook.add(INDY);
+        new JsonCustomerBookStorage(customerBookFilePath).saveCustomerBook(otherCustomerBook);
+
+        assertEquals(otherCustomerBook, new DataBook<>(createStorage().readCustomerBook().get()));
+    }
+
+}
@@ -2,22 +2,30 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalOrders.ORDERONE;
+import static seedu.address.testutil.TypicalOrders.ORDERTHREE;
 import static seedu.address.testutil.TypicalOrders.ORDER_JSON_TEST2;
 import static seedu.address.testutil.TypicalOrders.ORDER_JSON_TEST3;
+import static seedu.address.testutil.TypicalOrders.VIPORDER;
 import static seedu.address.testutil.TypicalOrders.getTypicalOrderBook;
+import static seedu.address.testutil.TypicalOrders.getTypicalOrders;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.DataBook;
 import seedu.address.model.ReadOnlyDataBook;
+import seedu.address.model.customer.Customer;
 import seedu.address.model.order.Order;
 
 public class JsonOrderBookStorageTest {
@@ -87,6 +95,30 @@ public class JsonOrderBookStorageTest {
 
     }
 
+    @Test
+    public void readOrderBook_savedOrdersWithSameCustomer_customerShared() throws Exception {
+        Path filePath = testFolder.resolve("TempOrderBook.json");
+        JsonOrderBookStorage jsonOrderBookStorage = new JsonOrderBookStorage(filePath);
+        jsonOrderBookStorage.saveOrderBook(getTypicalOrderBook());
+
+        List<Order> readBack = jsonOrderBookStorage.readOrderBook().get().getList();
+        List<Order> typicalOrders = getTypicalOrders();
+        Customer customer = readBack.get(typicalOrders.indexOf(ORDERTHREE)).getCustomer();
+        assertEquals(ORDERTHREE.getCustomer(), customer);
+        assertSame(customer, readBack.get(typicalOrders.indexOf(VIPORDER)).getCustomer());
+    }
+
+    @Test
+    public void readOrderBook_embeddedOrderBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempOrderBook.json");
+        List<JsonAdaptedOrder> embeddedOrders = getTypicalOrders().stream().map(JsonAdaptedOrder::new)
+                .collect(Collectors.toList());
+        JsonUtil.saveJsonFile(new JsonSerializableOrderBook(null, null, null, embeddedOrders), filePath);
+
+        ReadOnlyDataBook<Order> readBack = new JsonOrderBookStorage(filePath).readOrderBook().get();
+        assertEquals(getTypicalOrderBook(), new DataBook<>(readBack));
+    }
+
     @Test
     public void saveOrderBook_nullOrderBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveOrderBook(null, "SomeFile.json"));
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class ParallelConversionTest {
+
+    private static final int LARGE_BOOK_SIZE = ParallelConversion.PARALLEL_THRESHOLD * 4;
+
+    private final List<Integer> records = IntStream.range(0, LARGE_BOOK_SIZE).boxed().collect(Collectors.toList());
+
+    @Test
+    public void convertAll_largeBook_convertedInOrder() throws Exception {
+        List<String> expected = records.stream().map(String::valueOf).collect(Collectors.toList());
+
+        assertEquals(expected, ParallelConversion.convertAll(records, String::valueOf));
+    }
+
+    @Test
+    public void convertAll_invalidRecords_firstInvalidRecordThrown() {
+        assertThrows(IllegalValueException.class, "invalid " + LARGE_BOOK_SIZE / 4, () ->
+                ParallelConversion.convertAll(records, record -> {
+                    if (record % (LARGE_BOOK_SIZE / 4) == 0 && record > 0) {
+                        throw new IllegalValueException("invalid " + record);
+                    }
+                    return record;
+                }));
+    }
+
+    @Test
+    public void convertAll_converterThrowsRuntimeException_propagated() {
+        assertThrows(IllegalStateException.class, () ->
+                ParallelConversion.convertAll(records, record -> {
+                    if (record == LARGE_BOOK_SIZE / 2) {
+                        throw new IllegalStateException();
+                    }
+                    return record;
+                }));
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalCustomers.HARRY;
+import static seedu.address.testutil.TypicalCustomers.INDY;
+import static seedu.address.testutil.TypicalCustomers.getTypicalCustomerBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.DataBook;
+import seedu.address.model.ReadOnlyDataBook;
+import seedu.address.model.customer.Customer;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    /**
+     * Returns a {@code WriteBehindStorage} that writes customers to {@code customerBookStorage}
+     * and everything else to the test folder.
+     */
+    private WriteBehindStorage createStorage(JsonCustomerBookStorage customerBookStorage) {
+        return new WriteBehindStorage(new StorageManager(customerBookStorage,
+                new JsonPhoneBookStorage(testFolder.resolve("pb")),
+                new JsonScheduleBookStorage(testFolder.resolve("sb")),
+                new JsonOrderBookStorage(testFolder.resolve("ob")),
+                new JsonOrderBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs"))));
+    }
+
+    @Test
+    public void saveCustomerBook_modifiedAfterSaves_latestSavedStateWritten() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonCustomerBookStorage(testFolder.resolve("cb")));
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+
+        storage.saveCustomerBook(customerBook);
+        customerBook.add(HARRY);
+        storage.saveCustomerBook(customerBook);
+        DataBook<Customer> expected = new DataBook<>(customerBook);
+
+        // changes made after the last save are not written
+        customerBook.add(INDY);
+        storage.flush();
+
+        assertEquals(expected, new DataBook<>(storage.readCustomerBook().get()));
+    }
+
+    @Test
+    public void getBytesWrittenBySaves_savesWritten_bytesOfTheirWrites() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonCustomerBookStorage(testFolder.resolve("cb")));
+        DataBook<Customer> customerBook = getTypicalCustomerBook();
+
+        storage.saveCustomerBook(customerBook);
+        CompletableFuture<Long> firstSaves = storage.getBytesWrittenBySaves();
+        storage.savePhoneBook(new DataBook<>());
+        CompletableFuture<Long> secondSaves = storage.getBytesWrittenBySaves();
+
+        long firstBytes = firstSaves.get();
+        long secondBytes = secondSaves.get();
+        assertEquals(Files.size(storage.getCustomerBookFilePath()), firstBytes);
+        assertEquals(Files.size(storage.getPhoneBookFilePath()), secondBytes);
+
+        // no saves since the last call
+        assertEquals(0, (long) storage.getBytesWrittenBySaves().get());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonCustomerBookIoExceptionThrowingStub(testFolder));
+
+        storage.saveCustomerBook(getTypicalCustomerBook());
+
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    @Test
+    public void flush_writeThrewRuntimeException_throwsIoException() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonCustomerBookStorage(testFolder.resolve("cb")) {
+            @Override
+            public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook, Path filePath) {
+                throw new IllegalStateException("dummy exception");
+            }
+        });
+
+        storage.saveCustomerBook(getTypicalCustomerBook());
+
+        assertThrows(IOException.class, storage::flush);
+    }
+
+    /**
+     * A {@code JsonCustomerBookStorage} that always fails to save.
+     */
+    private static class JsonCustomerBookIoExceptionThrowingStub extends JsonCustomerBookStorage {
+
+        private JsonCustomerBookIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveCustomerBook(ReadOnlyDataBook<Customer> customerBook, Path filePath) throws IOException {
+            throw new IOException("dummy exception");
+        }
+    }
+
+}
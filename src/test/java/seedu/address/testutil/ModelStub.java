@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.util.Calendar;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,12 +10,17 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.CalendarDate;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChangeLog;
 import seedu.address.model.ReadOnlyDataBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.customer.Customer;
+import seedu.address.model.customer.predicates.CustomerContainsKeywordsPredicate;
 import seedu.address.model.order.Order;
+import seedu.address.model.order.predicates.OrderContainsKeywordsPredicate;
 import seedu.address.model.phone.Phone;
+import seedu.address.model.phone.predicates.PhoneContainsKeywordsPredicate;
 import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleConflict;
 
 /**
  * A default model stub that have all of the methods failing.
@@ -81,6 +87,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Customer> getIndexedCustomerPredicate(CustomerContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setPhoneBook(ReadOnlyDataBook<Phone> phoneBook) {
         throw new AssertionError("This method should not be called.");
@@ -121,6 +132,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Phone> getIndexedPhonePredicate(PhoneContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setOrderBook(ReadOnlyDataBook<Order> orderBook) {
         throw new AssertionError("This method should not be called.");
@@ -161,6 +177,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Predicate<Order> getIndexedOrderPredicate(OrderContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     ////schedule operations
     @Override
     public void setScheduleBook(ReadOnlyDataBook<Schedule> scheduleBook) {
@@ -207,6 +228,21 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<ScheduleConflict> getScheduleConflicts() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Schedule> getEarliestSchedule() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Optional<Schedule> getLatestSchedule() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setCalendarDate(Calendar calendar) {
         throw new AssertionError("This method should not be called.");
@@ -262,4 +298,43 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void startRecordingChanges() {
+    }
+
+    @Override
+    public ModelChangeLog stopRecordingChanges() {
+        return new ModelChangeLog();
+    }
+
+    @Override
+    public boolean isCustomerBookModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isPhoneBookModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isOrderBookModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isScheduleBookModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isArchivedOrderBookModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void markBooksSaved() {
+        throw new AssertionError("This method should not be called.");
+    }
+
 }
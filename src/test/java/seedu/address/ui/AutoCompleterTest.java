@@ -0,0 +1,78 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.autocomplete.AutoCompleteResult;
+
+public class AutoCompleterTest {
+
+    private static final List<String> VALUES = Arrays.asList("add-c", "add-o", "add-p", "delete-c");
+
+    private final List<String> lookedUp = new CopyOnWriteArrayList<>();
+    private final AutoCompleter autoCompleter = new AutoCompleter(text -> {
+        lookedUp.add(text);
+        return new AutoCompleteResult(new TreeSet<>(VALUES), text);
+    }, Runnable::run, 2);
+
+    @Test
+    public void request_burstOfKeystrokes_onlyLastShown() throws InterruptedException {
+        CountDownLatch shown = new CountDownLatch(1);
+        List<String> shownSuggestions = new CopyOnWriteArrayList<>();
+        for (String text : Arrays.asList("a", "ad", "add")) {
+            autoCompleter.request(text, (suggestions, stringToCompare) -> {
+                shownSuggestions.addAll(suggestions);
+                shown.countDown();
+            });
+        }
+        assertTrue(shown.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("add"), lookedUp);
+        assertEquals(Arrays.asList("add-c", "add-o"), shownSuggestions);
+        assertEquals(1, autoCompleter.getLatencies().getCount());
+        assertTrue(autoCompleter.getLatencies().getPercentile(50)
+                >= TimeUnit.MILLISECONDS.toMicros(AutoCompleter.DEBOUNCE_MILLIS));
+    }
+
+    @Test
+    public void request_valuesChangedAfterLookUp_valuesAtLookUpShown() throws InterruptedException {
+        List<String> values = new ArrayList<>(VALUES);
+        // the values change as soon as the look up is done, before the worker matches them
+        Consumer<Runnable> uiThread = runnable -> {
+            runnable.run();
+            values.clear();
+        };
+        AutoCompleter changingAutoCompleter = new AutoCompleter(text ->
+                new AutoCompleteResult(() -> new TreeSet<>(values), text), uiThread, 2);
+        CountDownLatch shown = new CountDownLatch(1);
+        List<String> shownSuggestions = new CopyOnWriteArrayList<>();
+        changingAutoCompleter.request("delete", (suggestions, stringToCompare) -> {
+            shownSuggestions.addAll(suggestions);
+            shown.countDown();
+        });
+        assertTrue(shown.await(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("delete-c"), shownSuggestions);
+    }
+
+    @Test
+    public void cancel_pendingRequest_notShown() throws InterruptedException {
+        List<String> shownSuggestions = new CopyOnWriteArrayList<>();
+        autoCompleter.request("add", (suggestions, stringToCompare) -> shownSuggestions.addAll(suggestions));
+        autoCompleter.cancel();
+        Thread.sleep(AutoCompleter.DEBOUNCE_MILLIS * 3);
+        assertTrue(lookedUp.isEmpty());
+        assertTrue(shownSuggestions.isEmpty());
+        assertEquals(0, autoCompleter.getLatencies().getCount());
+    }
+
+}